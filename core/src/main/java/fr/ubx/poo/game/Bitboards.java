@@ -0,0 +1,234 @@
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.decor.Decor;
+import fr.ubx.poo.model.decor.DecorType;
+
+/**
+ * The type Bitboards.
+ * Bit set planes of a world, one bit per cell, kept in sync by the world on every change.
+ * Each plane is stored twice: row by row, to scan horizontally, and column by column, to scan vertically.
+ * Rows (and columns) are padded to whole 64 bits words, so that a ray never crosses a row.
+ */
+public class Bitboards {
+    /**
+     * Cells a monster can walk on, regardless of monsters and bombs: empty, or holding a decor monsters can walk on.
+     */
+    public static final int WALKABLE = 0;
+    /**
+     * Cells holding a decor that stops bomb explosions.
+     */
+    public static final int STOPS_EXPLOSION = 1;
+    /**
+     * Cells holding a decor destroyed by bomb explosions.
+     */
+    public static final int DESTROYABLE = 2;
+    /**
+     * Cells holding a monster.
+     */
+    public static final int HAS_MONSTER = 3;
+    /**
+     * Cells holding a bomb.
+     */
+    public static final int HAS_BOMB = 4;
+    private static final int planeCount = 5;
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final int wordsPerColumn;
+    private final long[][] rows = new long[planeCount][];
+    private final long[][] columns = new long[planeCount][];
+
+    /**
+     * Instantiates new empty bitboards.
+     *
+     * @param dimension the dimension of the world
+     */
+    public Bitboards(Dimension dimension) {
+        width = dimension.width;
+        height = dimension.height;
+        wordsPerRow = (width + 63) >>> 6;
+        wordsPerColumn = (height + 63) >>> 6;
+        for (int plane = 0; plane < planeCount; plane++) {
+            rows[plane] = new long[wordsPerRow * height];
+            columns[plane] = new long[wordsPerColumn * width];
+        }
+    }
+
+    /**
+     * Gets a plane, stored row by row: the bit of (x, y) is bit {@code x % 64}
+     * of word {@code y * wordsPerRow() + x / 64}.
+     *
+     * @param plane the plane
+     * @return the words of the plane
+     */
+    public long[] getRows(int plane) {
+        return rows[plane];
+    }
+
+    /**
+     * Gets the number of words of a row.
+     *
+     * @return the number of words of a row
+     */
+    public int wordsPerRow() {
+        return wordsPerRow;
+    }
+
+    /**
+     * Gets a bit of a plane.
+     *
+     * @param plane the plane
+     * @param x     the x coordinate
+     * @param y     the y coordinate
+     * @return the bit
+     */
+    public boolean get(int plane, int x, int y) {
+        return (rows[plane][y * wordsPerRow + (x >>> 6)] & (1L << x)) != 0;
+    }
+
+    /**
+     * Sets a bit of a plane.
+     *
+     * @param plane the plane
+     * @param x     the x coordinate
+     * @param y     the y coordinate
+     * @param value the bit
+     */
+    public void set(int plane, int x, int y, boolean value) {
+        int row = y * wordsPerRow + (x >>> 6);
+        int column = x * wordsPerColumn + (y >>> 6);
+        if (value) {
+            rows[plane][row] |= 1L << x;
+            columns[plane][column] |= 1L << y;
+        } else {
+            rows[plane][row] &= ~(1L << x);
+            columns[plane][column] &= ~(1L << y);
+        }
+    }
+
+    /**
+     * Updates the decor planes of a cell.
+     *
+     * @param x     the x coordinate
+     * @param y     the y coordinate
+     * @param decor the decor of the cell, null if empty
+     */
+    public void setDecor(int x, int y, Decor decor) {
+        int flags = decor == null ? DecorType.WALKABLE_BY_MONSTER : decor.getFlags();
+        set(WALKABLE, x, y, (flags & DecorType.WALKABLE_BY_MONSTER) != 0);
+        set(STOPS_EXPLOSION, x, y, (flags & DecorType.STOPS_BLAST) != 0);
+        set(DESTROYABLE, x, y, (flags & DecorType.DESTROYABLE) != 0);
+    }
+
+    /**
+     * Gets the directions a monster at (x, y) can move to: inside the world,
+     * on a walkable cell, without monster nor bomb.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return a mask with bit {@code d.ordinal()} set for each valid direction d
+     */
+    public int freeDirections(int x, int y) {
+        int mask = 0;
+        int shift = x & 63;
+        // Rows above and below: one word each
+        if (y > 0 && isFree(y - 1, x >>> 6, shift)) {
+            mask |= 1 << Direction.N.ordinal();
+        }
+        if (y < height - 1 && isFree(y + 1, x >>> 6, shift)) {
+            mask |= 1 << Direction.S.ordinal();
+        }
+        // Same row: the neighbours may sit in the adjacent words
+        if (x < width - 1 && isFree(y, (x + 1) >>> 6, (x + 1) & 63)) {
+            mask |= 1 << Direction.E.ordinal();
+        }
+        if (x > 0 && isFree(y, (x - 1) >>> 6, (x - 1) & 63)) {
+            mask |= 1 << Direction.W.ordinal();
+        }
+        return mask;
+    }
+
+    private boolean isFree(int y, int word, int bit) {
+        int index = y * wordsPerRow + word;
+        long free = rows[WALKABLE][index] & ~rows[HAS_MONSTER][index] & ~rows[HAS_BOMB][index];
+        return (free & (1L << bit)) != 0;
+    }
+
+    /**
+     * Casts a bomb ray from (x, y), excluded, over at most range cells.
+     * The ray stops at the border of the world, or at the first cell stopping explosions,
+     * which is part of the ray only if it is destroyable.
+     *
+     * @param x         the x coordinate of the bomb
+     * @param y         the y coordinate of the bomb
+     * @param direction the direction of the ray
+     * @param range     the range of the bomb
+     * @return the number of cells reached by the explosion in that direction
+     */
+    public int ray(int x, int y, Direction direction, int range) {
+        boolean horizontal = direction == Direction.E || direction == Direction.W;
+        boolean forward = direction == Direction.E || direction == Direction.S;
+        long[] plane = horizontal ? rows[STOPS_EXPLOSION] : columns[STOPS_EXPLOSION];
+        int base = horizontal ? y * wordsPerRow : x * wordsPerColumn;
+        int origin = horizontal ? x : y;
+        int length = horizontal ? width : height;
+        int limit = forward ? Math.min(length - 1, origin + range) : Math.max(0, origin - range);
+        int free = Math.abs(limit - origin);
+        if (free == 0) {
+            return 0;
+        }
+        int stop = forward
+                ? nextSetBit(plane, base, origin + 1, limit)
+                : previousSetBit(plane, base, origin - 1, limit);
+        if (stop < 0) {
+            return free;
+        }
+        int distance = Math.abs(stop - origin);
+        int sx = horizontal ? stop : x;
+        int sy = horizontal ? y : stop;
+        return get(DESTROYABLE, sx, sy) ? distance : distance - 1;
+    }
+
+    /**
+     * Finds the first set bit in [from, to] of a padded line of words.
+     */
+    private static int nextSetBit(long[] plane, int base, int from, int to) {
+        if (from > to) {
+            return -1;
+        }
+        int word = from >>> 6;
+        long bits = plane[base + word] & (-1L << from);
+        while (true) {
+            if (bits != 0) {
+                int found = (word << 6) + Long.numberOfTrailingZeros(bits);
+                return found <= to ? found : -1;
+            }
+            if (++word > (to >>> 6)) {
+                return -1;
+            }
+            bits = plane[base + word];
+        }
+    }
+
+    /**
+     * Finds the last set bit in [to, from] of a padded line of words.
+     */
+    private static int previousSetBit(long[] plane, int base, int from, int to) {
+        if (from < to) {
+            return -1;
+        }
+        int word = from >>> 6;
+        long bits = plane[base + word] & (-1L >>> (63 - (from & 63)));
+        while (true) {
+            if (bits != 0) {
+                int found = (word << 6) + 63 - Long.numberOfLeadingZeros(bits);
+                return found >= to ? found : -1;
+            }
+            if (--word < (to >>> 6)) {
+                return -1;
+            }
+            bits = plane[base + word];
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.decor.Decor;
+
+/**
+ * The interface Cell change listener.
+ * Notified by a {@link World} each time the decor of one of its cells changes,
+ * see {@link World#beginBatch()} for batched mutations.
+ */
+public interface CellChangeListener {
+    /**
+     * Called when the decor of a cell changes.
+     *
+     * @param position the position of the cell
+     * @param from     the previous decor, null if the cell was empty
+     * @param to       the new decor, null if the cell is now empty
+     */
+    void cellChanged(Position position, Decor from, Decor to);
+
+    /**
+     * Called once the changes of a mutation, or of a whole batch of mutations, have all been reported.
+     * A batch reports each cell once, with its decor before and after the batch.
+     *
+     * @param world the world that changed
+     */
+    default void changesCommitted(World world) {
+    }
+}
@@ -0,0 +1,340 @@
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.decor.Decor;
+import fr.ubx.poo.model.decor.DecorRegistry;
+import fr.ubx.poo.model.decor.DecorType;
+import fr.ubx.poo.model.decor.Door;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The type Chunked world storage.
+ * The map is split into square chunks of {@value #CHUNK_SIZE} by {@value #CHUNK_SIZE} cells,
+ * the tiles of the side indexes of the world, see {@link TiledGrid}.
+ * A chunk is read from the source of the world the first time one of its cells is accessed,
+ * and kept compact, as one byte per cell (0 for an empty cell, the ordinal of the decor type plus one
+ * otherwise), until it is first written to. It is then decoded into decors.
+ * Chunks never accessed and chunks without any decor take no memory at all,
+ * so memory grows with the area actually visited.
+ * Reading a compact chunk decodes the cell on the fly to the shared instance of its type,
+ * see {@link DecorRegistry}.
+ * Chunks may be read from the source by several threads at once, the monsters of a world picking
+ * their moves in parallel, see {@link fr.ubx.poo.model.go.character.MonsterPool}.
+ * What a chunk holds besides its decors, its monsters, its doors and the player, is queued when it is read,
+ * for the world to settle them, see {@link #pollLoaded()}.
+ */
+public class ChunkedWorldStorage implements WorldStorage {
+    /**
+     * Log2 of the side of a chunk.
+     */
+    public static final int CHUNK_SHIFT = TiledGrid.TILE_SHIFT;
+    /**
+     * Side of a chunk, in cells.
+     */
+    public static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final DecorType[] types = DecorType.values();
+    /**
+     * Codes of the chunks read without any decor, shared by all of them.
+     */
+    private static final byte[] EMPTY_CHUNK = new byte[CHUNK_SIZE * CHUNK_SIZE];
+
+    private final WorldSource source;
+    private final int width;
+    private final int height;
+    private final int size;
+    private final int chunksPerRow;
+    /**
+     * Compact chunks, null until the chunk is read from the source.
+     */
+    private final AtomicReferenceArray<byte[]> codes;
+    /**
+     * Decoded chunks, null until the chunk is first written to.
+     */
+    private final Decor[][] decoded;
+    private final AtomicInteger loadedCount = new AtomicInteger();
+    private int decodedCount = 0;
+    /**
+     * Chunks read from the source and not yet polled, see {@link #pollLoaded()}.
+     */
+    private final ConcurrentLinkedQueue<LoadedChunk> loaded = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Instantiates a new Chunked world storage over the source of a world.
+     * Nothing is read until a cell is accessed.
+     *
+     * @param source the source of the map
+     */
+    public ChunkedWorldStorage(WorldSource source) {
+        this(source.getDimension(), source);
+    }
+
+    /**
+     * Instantiates a new Chunked world storage with only empty cells.
+     *
+     * @param dimension the dimension of the map
+     */
+    public ChunkedWorldStorage(Dimension dimension) {
+        this(dimension, null);
+    }
+
+    private ChunkedWorldStorage(Dimension dimension, WorldSource source) {
+        this.source = source;
+        width = dimension.width;
+        height = dimension.height;
+        size = dimension.width * dimension.height;
+        chunksPerRow = (dimension.width + CHUNK_MASK) >> CHUNK_SHIFT;
+        int chunkRows = (dimension.height + CHUNK_MASK) >> CHUNK_SHIFT;
+        codes = new AtomicReferenceArray<>(chunksPerRow * chunkRows);
+        decoded = new Decor[codes.length()][];
+    }
+
+    /**
+     * Gets the index of the chunk holding the given coordinates.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the index of the chunk
+     */
+    int chunkOf(int x, int y) {
+        return (y >> CHUNK_SHIFT) * chunksPerRow + (x >> CHUNK_SHIFT);
+    }
+
+    private static int localOf(int x, int y) {
+        return ((y & CHUNK_MASK) << CHUNK_SHIFT) | (x & CHUNK_MASK);
+    }
+
+    /**
+     * Gets the number of chunks read from the source so far.
+     *
+     * @return the number of loaded chunks
+     */
+    public int getLoadedChunks() {
+        return loadedCount.get();
+    }
+
+    /**
+     * Gets the number of chunks of the map, read or not.
+     *
+     * @return the number of chunks
+     */
+    public int getChunkCount() {
+        return codes.length();
+    }
+
+    /**
+     * Gets the source the chunks are read from.
+     *
+     * @return the source, null if the storage started empty
+     */
+    WorldSource getSource() {
+        return source;
+    }
+
+    /**
+     * Gets the number of chunks decoded so far.
+     *
+     * @return the number of decoded chunks
+     */
+    public int getDecodedChunks() {
+        return decodedCount;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Decor get(int index) {
+        int x = index % width;
+        int y = index / width;
+        int chunk = chunkOf(x, y);
+        Decor[] decors = decoded[chunk];
+        if (decors != null) {
+            return decors[localOf(x, y)];
+        }
+        byte[] chunkCodes = codes.get(chunk);
+        if (chunkCodes == null) {
+            chunkCodes = loadCodes(chunk);
+        }
+        int code = chunkCodes[localOf(x, y)];
+        return code == 0 ? null : DecorRegistry.get(types[code - 1]);
+    }
+
+    @Override
+    public void set(int index, Decor decor) {
+        int x = index % width;
+        int y = index / width;
+        int chunk = chunkOf(x, y);
+        Decor[] decors = decoded[chunk];
+        if (decors == null) {
+            decors = decode(chunk);
+        }
+        decors[localOf(x, y)] = decor;
+    }
+
+    /**
+     * Reads a chunk from the source, if it was not read yet.
+     *
+     * @param chunk the index of the chunk
+     */
+    void load(int chunk) {
+        if (codes.get(chunk) == null) {
+            loadCodes(chunk);
+        }
+    }
+
+    /**
+     * Polls a chunk read from the source since the last call, in no particular order.
+     *
+     * @return the chunk, null if there is none
+     */
+    LoadedChunk pollLoaded() {
+        return loaded.poll();
+    }
+
+    /**
+     * Reads a chunk from the source, as compact codes.
+     * When two threads read the same chunk, the first one to finish wins, and only its chunk is queued.
+     *
+     * @param chunk the index of the chunk
+     * @return the codes of the chunk
+     */
+    private byte[] loadCodes(int chunk) {
+        if (source == null) {
+            if (codes.compareAndSet(chunk, null, EMPTY_CHUNK)) {
+                loadedCount.incrementAndGet();
+            }
+            return codes.get(chunk);
+        }
+        LoadedChunk read = read(chunk);
+        if (codes.compareAndSet(chunk, null, read.codes)) {
+            loadedCount.incrementAndGet();
+            loaded.add(read);
+            return read.codes;
+        }
+        return codes.get(chunk);
+    }
+
+    /**
+     * Reads a chunk from the source, without keeping it.
+     *
+     * @param chunk the index of the chunk
+     * @return the chunk as it is in the source
+     */
+    LoadedChunk read(int chunk) {
+        int left = (chunk % chunksPerRow) << CHUNK_SHIFT;
+        int top = (chunk / chunksPerRow) << CHUNK_SHIFT;
+        int chunkWidth = Math.min(CHUNK_SIZE, width - left);
+        int chunkHeight = Math.min(CHUNK_SIZE, height - top);
+        WorldEntity[] entities = new WorldEntity[chunkWidth * chunkHeight];
+        source.read(left, top, chunkWidth, chunkHeight, entities);
+        LoadedChunk read = new LoadedChunk(chunk, left, top);
+        for (int i = 0; i < entities.length; i++) {
+            int x = left + i % chunkWidth;
+            int y = top + i / chunkWidth;
+            DecorType type = WorldBuilder.decorType(entities[i]);
+            if (type != null) {
+                if (read.codes == EMPTY_CHUNK) {
+                    read.codes = new byte[CHUNK_SIZE * CHUNK_SIZE];
+                }
+                read.codes[localOf(x, y)] = (byte) (type.ordinal() + 1);
+                Decor decor = DecorRegistry.get(type);
+                read.hash ^= Zobrist.decor(y * width + x, decor);
+                if (decor instanceof Door) {
+                    read.doors = append(read.doors, Position.pack(x, y));
+                }
+            } else if (entities[i] == WorldEntity.Monster) {
+                read.monsters = append(read.monsters, Position.pack(x, y));
+            } else if (entities[i] == WorldEntity.Player && read.player == LoadedChunk.NONE) {
+                read.player = Position.pack(x, y);
+            }
+        }
+        return read;
+    }
+
+    private static int[] append(int[] values, int value) {
+        int[] appended = Arrays.copyOf(values, values.length + 1);
+        appended[values.length] = value;
+        return appended;
+    }
+
+    /**
+     * Decodes a chunk into decors, dropping its compact form.
+     *
+     * @param chunk the index of the chunk
+     * @return the decoded chunk
+     */
+    private Decor[] decode(int chunk) {
+        Decor[] decors = new Decor[CHUNK_SIZE * CHUNK_SIZE];
+        byte[] chunkCodes = codes.get(chunk);
+        if (chunkCodes == null) {
+            chunkCodes = loadCodes(chunk);
+        }
+        for (int i = 0; i < decors.length; i++) {
+            int code = chunkCodes[i];
+            if (code != 0) {
+                decors[i] = DecorRegistry.get(types[code - 1]);
+            }
+        }
+        codes.set(chunk, EMPTY_CHUNK);
+        decoded[chunk] = decors;
+        decodedCount++;
+        return decors;
+    }
+
+    /**
+     * A chunk as read from the source: its decors, and what the world settles when the chunk loads,
+     * see {@link World}.
+     */
+    static final class LoadedChunk {
+        private static final int[] NO_CELLS = new int[0];
+        /**
+         * Player position of a chunk without the player.
+         */
+        static final int NONE = -1;
+
+        /**
+         * The index of the chunk, and the coordinates of its top left cell.
+         */
+        final int chunk;
+        final int left;
+        final int top;
+        /**
+         * Zobrist hash of the decors of the chunk, see {@link Zobrist}.
+         */
+        long hash = 0;
+        /**
+         * Doors and monsters of the chunk, as packed positions, row by row.
+         */
+        int[] doors = NO_CELLS;
+        int[] monsters = NO_CELLS;
+        /**
+         * The packed position of the player, NONE if the player isn't in the chunk.
+         */
+        int player = NONE;
+        private byte[] codes = EMPTY_CHUNK;
+
+        private LoadedChunk(int chunk, int left, int top) {
+            this.chunk = chunk;
+            this.left = left;
+            this.top = top;
+        }
+
+        /**
+         * Gets the decor of a cell of the chunk.
+         *
+         * @param x the x coordinate, inside the chunk
+         * @param y the y coordinate, inside the chunk
+         * @return the decor, null if the cell is empty
+         */
+        Decor get(int x, int y) {
+            int code = codes[localOf(x, y)];
+            return code == 0 ? null : DecorRegistry.get(types[code - 1]);
+        }
+    }
+}
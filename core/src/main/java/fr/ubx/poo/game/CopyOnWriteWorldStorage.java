@@ -0,0 +1,88 @@
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.decor.Decor;
+
+/**
+ * The type Copy on write world storage.
+ * Starts from pages shared with a snapshot, see {@link WorldSnapshot}, and copies a page
+ * the first time it is written to, so the snapshot is never changed.
+ * Pages are square tiles of cells. The pages a snapshot doesn't hold, those of the chunks its world never loaded,
+ * are read from a fallback storage, see {@link ChunkedWorldStorage}.
+ */
+class CopyOnWriteWorldStorage implements WorldStorage {
+    private final Decor[][] pages;
+    private final boolean[] owned;
+    private final WorldStorage fallback;
+    private final int width;
+    private final int pagesPerRow;
+    private final int pageShift;
+    private final int pageMask;
+    private final int size;
+
+    /**
+     * Instantiates a new Copy on write world storage.
+     *
+     * @param dimension the dimension of the map
+     * @param pages     the shared pages, row by row, each one holding the cells of its tile row by row
+     * @param pageShift log2 of the side of a page
+     * @param fallback  the storage of the cells of the missing pages, null if no page is missing
+     */
+    CopyOnWriteWorldStorage(Dimension dimension, Decor[][] pages, int pageShift, WorldStorage fallback) {
+        this.pages = pages.clone();
+        this.owned = new boolean[pages.length];
+        this.fallback = fallback;
+        this.width = dimension.width;
+        this.pageShift = pageShift;
+        this.pageMask = (1 << pageShift) - 1;
+        this.pagesPerRow = (dimension.width + pageMask) >> pageShift;
+        this.size = dimension.width * dimension.height;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Decor get(int index) {
+        int x = index % width;
+        int y = index / width;
+        Decor[] page = pages[(y >> pageShift) * pagesPerRow + (x >> pageShift)];
+        if (page == null) {
+            return fallback.get(index);
+        }
+        return page[((y & pageMask) << pageShift) | (x & pageMask)];
+    }
+
+    @Override
+    public void set(int index, Decor decor) {
+        int x = index % width;
+        int y = index / width;
+        int page = (y >> pageShift) * pagesPerRow + (x >> pageShift);
+        if (!owned[page]) {
+            pages[page] = pages[page] == null ? copyFallback(page) : pages[page].clone();
+            owned[page] = true;
+        }
+        pages[page][((y & pageMask) << pageShift) | (x & pageMask)] = decor;
+    }
+
+    /**
+     * Copies a missing page from the fallback storage.
+     *
+     * @param page the index of the page
+     * @return the decors of the page
+     */
+    private Decor[] copyFallback(int page) {
+        Decor[] decors = new Decor[1 << (pageShift * 2)];
+        int left = (page % pagesPerRow) << pageShift;
+        int top = (page / pagesPerRow) << pageShift;
+        int right = Math.min(left + pageMask + 1, width);
+        int bottom = Math.min(top + pageMask + 1, size / width);
+        for (int y = top; y < bottom; y++) {
+            for (int x = left; x < right; x++) {
+                decors[((y & pageMask) << pageShift) | (x & pageMask)] = fallback.get(y * width + x);
+            }
+        }
+        return decors;
+    }
+}
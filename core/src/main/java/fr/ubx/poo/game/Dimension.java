@@ -0,0 +1,84 @@
+package fr.ubx.poo.game;
+
+/**
+ * The type Dimension.
+ */
+public class Dimension {
+    /**
+     * The Height.
+     */
+    public final int height;
+    /**
+     * The Width.
+     */
+    public final int width;
+    /**
+     * Canonical positions of the cells, created on first use, by tiles of the cells used.
+     * Written under its own lock, see {@link #position(int, int)}.
+     */
+    private final SparseGrid<Position> positions;
+
+    /**
+     * Instantiates a new Dimension.
+     *
+     * @param height the height
+     * @param width  the width
+     */
+    public Dimension(int height, int width) {
+        this.height = height;
+        this.width = width;
+        this.positions = new SparseGrid<>(width, height);
+    }
+
+    /**
+     * Gets the canonical position at the given coordinates.
+     * Positions inside the dimension are cached and always the same instance,
+     * positions outside are allocated on each call.
+     * A dimension is shared by the forks of a game, which may run on other threads: a position
+     * already cached is read without locking, its fields being final, and a missing one is created
+     * under the lock of the cache, so that it stays the same instance for every thread.
+     *
+     * @param x the x
+     * @param y the y
+     * @return the position
+     */
+    public Position position(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return new Position(x, y);
+        }
+        Position position = positions.get(x, y);
+        if (position != null) {
+            return position;
+        }
+        synchronized (positions) {
+            position = positions.get(x, y);
+            if (position == null) {
+                position = new Position(x, y);
+                positions.set(x, y, position);
+            }
+            return position;
+        }
+    }
+
+    /**
+     * Gets the canonical position of packed coordinates.
+     *
+     * @param packed the packed coordinates, see {@link Position#pack(int, int)}
+     * @return the position
+     */
+    public Position position(int packed) {
+        return position(Position.unpackX(packed), Position.unpackY(packed));
+    }
+
+    /**
+     * Used for printing the dimension values.
+     * @return string that contains the dimension values.
+     */
+    @Override
+    public String toString() {
+        return "Dimension{" +
+                "height=" + height +
+                ", width=" + width +
+                '}';
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2020. Laurent Réveillère
+ */
+
+package fr.ubx.poo.game;
+
+import java.util.Random;
+
+/**
+ * The enum Direction.
+ */
+public enum Direction {
+    /**
+     * The North.
+     */
+    N(0, -1),
+    /**
+     * The East.
+     */
+    E(1, 0),
+    /**
+     * The South.
+     */
+    S(0, 1),
+    /**
+     * The West.
+     */
+    W(-1, 0),
+    ;
+
+    private static final Random randomGenerator = new Random();
+
+    /**
+     * Horizontal step of the direction.
+     */
+    public final int dx;
+    /**
+     * Vertical step of the direction.
+     */
+    public final int dy;
+
+    Direction(int dx, int dy) {
+        this.dx = dx;
+        this.dy = dy;
+    }
+
+    /***
+     *
+     * @return a pseudorandom direction
+     */
+    public static Direction random() {
+        return random(randomGenerator);
+    }
+
+    /**
+     * Random direction.
+     *
+     * @param random the random generator to draw from
+     * @return a pseudorandom direction
+     */
+    public static Direction random(Random random) {
+        return values()[random.nextInt(values().length)];
+    }
+
+
+    /**
+     * Next position.
+     *
+     * @param pos   the position
+     * @param delta the delta
+     * @return the position
+     */
+    public Position nextPosition(Position pos, int delta) {
+        return new Position(pos.x + dx * delta, pos.y + dy * delta);
+    }
+
+    /**
+     * Next position.
+     *
+     * @param pos the position
+     * @return the position
+     */
+    final public Position nextPosition(Position pos) {
+        return nextPosition(pos, 1);
+    }
+
+    /**
+     * Next position, taken from the position cache of the given dimension.
+     * No position is allocated as long as the result is inside the dimension.
+     *
+     * @param pos       the position
+     * @param dimension the dimension the position belongs to
+     * @return the canonical instance of the next position
+     */
+    public Position nextPosition(Position pos, Dimension dimension) {
+        return dimension.position(pos.x + dx, pos.y + dy);
+    }
+
+    /**
+     * Next position in packed form.
+     *
+     * @param packed the packed position, see {@link Position#pack(int, int)}
+     * @param delta  the delta
+     * @return the packed next position
+     */
+    public int nextPacked(int packed, int delta) {
+        return Position.pack(Position.unpackX(packed) + dx * delta, Position.unpackY(packed) + dy * delta);
+    }
+
+    /**
+     * Next position in packed form.
+     *
+     * @param packed the packed position, see {@link Position#pack(int, int)}
+     * @return the packed next position
+     */
+    public int nextPacked(int packed) {
+        return nextPacked(packed, 1);
+    }
+}
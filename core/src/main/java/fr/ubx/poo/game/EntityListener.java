@@ -0,0 +1,14 @@
+package fr.ubx.poo.game;
+
+/**
+ * The interface Entity listener, notified when a game object leaves a world.
+ */
+public interface EntityListener {
+    /**
+     * Called when a game object leaves the world: a monster dies or a bomb explodes.
+     * The id is released right after, so it must not be kept.
+     *
+     * @param id the id of the game object, see {@link fr.ubx.poo.model.go.EntityIds}
+     */
+    void entityRemoved(long id);
+}
@@ -0,0 +1,126 @@
+package fr.ubx.poo.game;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.util.Optional;
+
+/**
+ * The type File world source.
+ * Reads a level file, one character per cell and one line per row.
+ * The file is checked once when opened, then the rectangles asked for are read straight from the file:
+ * rows having the same length, the cell (x, y) sits at a fixed offset.
+ */
+class FileWorldSource implements WorldSource {
+    private static final WorldEntity[] entitiesByCode = new WorldEntity[128];
+
+    static {
+        for (char code = 0; code < entitiesByCode.length; code++) {
+            Optional<WorldEntity> entity = WorldEntity.fromCode(code);
+            if (entity.isPresent()) {
+                entitiesByCode[code] = entity.get();
+            }
+        }
+    }
+
+    private final File file;
+    private final Dimension dimension;
+    /**
+     * Bytes from the start of a row to the start of the next one, line separator included.
+     */
+    private final long stride;
+
+    /**
+     * Opens a level file, checking that its rows have the same length and only hold known entities.
+     *
+     * @param file the level file
+     */
+    FileWorldSource(File file) {
+        this.file = file;
+        int height = 0;
+        int width = -1;
+        long rowStride = 0;
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            long offset = 0;
+            long rowStart = 0;
+            int length = 0;
+            int c;
+            while ((c = in.read()) != -1) {
+                offset++;
+                if (c == '\n' || c == '\r') {
+                    if (c == '\r') {
+                        // A CR LF pair ends a single line
+                        in.mark(1);
+                        if (in.read() == '\n') {
+                            offset++;
+                        } else {
+                            in.reset();
+                        }
+                    }
+                    if (width != -1 && length != width) {
+                        throw new RuntimeException("Map width is not consistent");
+                    }
+                    width = length;
+                    if (height == 0) {
+                        rowStride = offset;
+                    } else if (rowStart != height * rowStride) {
+                        throw new RuntimeException("Map line separators are not consistent");
+                    }
+                    height++;
+                    rowStart = offset;
+                    length = 0;
+                } else {
+                    if (c >= entitiesByCode.length || entitiesByCode[c] == null) {
+                        throw new RuntimeException(String.format("Character %c is invalid\n", (char) c));
+                    }
+                    length++;
+                }
+            }
+            if (length > 0) {
+                // Last line without separator
+                if (width != -1 && length != width) {
+                    throw new RuntimeException("Map width is not consistent");
+                }
+                width = length;
+                if (height > 0 && rowStart != height * rowStride) {
+                    throw new RuntimeException("Map line separators are not consistent");
+                }
+                height++;
+            }
+        } catch (FileNotFoundException e) {
+            throw new RuntimeException(String.format("File %s not found, its path: %s\n", file.getName(), file.getPath()));
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Can't read file %s\n", file.getPath()), e);
+        }
+        if (height == 0) {
+            throw new RuntimeException("Can't read empty file");
+        }
+        this.dimension = new Dimension(height, width);
+        this.stride = rowStride;
+    }
+
+    @Override
+    public Dimension getDimension() {
+        return dimension;
+    }
+
+    @Override
+    public void read(int x, int y, int width, int height, WorldEntity[] entities) {
+        byte[] row = new byte[width];
+        try (RandomAccessFile in = new RandomAccessFile(file, "r")) {
+            for (int r = 0; r < height; r++) {
+                in.seek((y + r) * stride + x);
+                in.readFully(row);
+                for (int i = 0; i < width; i++) {
+                    entities[r * width + i] = entitiesByCode[row[i]];
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(String.format("Can't read file %s\n", file.getPath()), e);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.decor.Decor;
+import fr.ubx.poo.model.decor.DecorRegistry;
+import fr.ubx.poo.model.decor.DecorType;
+import fr.ubx.poo.model.go.BombObject;
+import fr.ubx.poo.model.go.ExplosionObject;
+import fr.ubx.poo.model.go.character.Monster;
+import fr.ubx.poo.model.go.character.MonsterPool;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The type Frozen world.
+ * Compact copy of an evicted world: its decors as deflated type codes
+ * (0 for an empty cell, the ordinal of the decor type plus one otherwise),
+ * its monsters and its bombs. Time stops for a frozen world, so monsters and bombs
+ * resume where they were when it is thawed.
+ * Explosions in progress are not kept, their damages being already done.
+ * The monsters, bombs and explosions leave the world, see {@link EntityListener}: their ids are released,
+ * they get new ones when thawed.
+ */
+class FrozenWorld {
+    private static final DecorType[] types = DecorType.values();
+    private static final Direction[] directions = Direction.values();
+
+    private final Dimension dimension;
+    private final byte[] decors;
+    private final long frozenAt;
+    /**
+     * Monsters, as x, y, direction ordinal, lives, move period and move key.
+     */
+    private final int[] monsters;
+    private final long[] monsterTimes;
+    private final long monsterSeed;
+    /**
+     * Bombs, as x, y, range and phase.
+     */
+    private final int[] bombs;
+    private final long[] bombTimes;
+
+    /**
+     * Freezes a world.
+     *
+     * @param world the world to freeze
+     * @param now   the time of the last frame
+     */
+    FrozenWorld(World world, long now) {
+        // The whole map is kept, the chunks of a chunked world not loaded yet included
+        world.loadAllChunks();
+        dimension = world.dimension;
+        frozenAt = now;
+        byte[] codes = new byte[dimension.width * dimension.height];
+        for (int i = 0; i < codes.length; i++) {
+            Decor decor = world.get(i % dimension.width, i / dimension.width);
+            if (decor != null) {
+                codes[i] = (byte) (decor.getType().ordinal() + 1);
+            }
+        }
+        decors = deflate(codes);
+
+        List<Monster> living = world.getMonsters();
+        monsters = new int[living.size() * 6];
+        monsterTimes = new long[living.size()];
+        for (int i = 0; i < living.size(); i++) {
+            Monster monster = living.get(i);
+            monsters[i * 6] = monster.getPosition().x;
+            monsters[i * 6 + 1] = monster.getPosition().y;
+            monsters[i * 6 + 2] = monster.getDirection().ordinal();
+            monsters[i * 6 + 3] = monster.getLives();
+            monsters[i * 6 + 4] = monster.getTimeToAct();
+            monsters[i * 6 + 5] = monster.getMoveKey();
+            monsterTimes[i] = monster.getLastActionTime();
+            world.fireEntityRemoved(monster.getId());
+            monster.releaseId();
+        }
+        monsterSeed = world.getMonsterPool().getSeed();
+
+        for (ExplosionObject explosion : world.getExplosions()) {
+            world.fireEntityRemoved(explosion.getId());
+            explosion.releaseId();
+        }
+
+        List<BombObject> pending = world.getBombs();
+        bombs = new int[pending.size() * 4];
+        bombTimes = new long[pending.size()];
+        for (int i = 0; i < pending.size(); i++) {
+            BombObject bomb = pending.get(i);
+            bombs[i * 4] = bomb.getPosition().x;
+            bombs[i * 4 + 1] = bomb.getPosition().y;
+            bombs[i * 4 + 2] = bomb.getRange();
+            bombs[i * 4 + 3] = bomb.getBombPhase();
+            bombTimes[i] = bomb.getLastActionTime();
+            world.fireEntityRemoved(bomb.getId());
+            bomb.releaseId();
+        }
+    }
+
+    /**
+     * Builds a live world back from this copy.
+     *
+     * @param game    the game
+     * @param storage how the decors are stored
+     * @param now     the time of the last frame
+     * @return the world, with its monsters and bombs
+     */
+    World thaw(Game game, WorldStorageMode storage, long now) {
+        WorldStorage grid = storage.create(dimension);
+        byte[] codes = inflate(decors, grid.size());
+        for (int i = 0; i < codes.length; i++) {
+            if (codes[i] != 0) {
+                grid.set(i, DecorRegistry.get(types[codes[i] - 1]));
+            }
+        }
+        World world = new World(dimension, grid, game);
+        // Timers are shifted by the time spent frozen
+        long shift = now - frozenAt;
+        MonsterPool pool = world.getMonsterPool();
+        pool.setSeed(monsterSeed);
+        for (int i = 0; i < monsterTimes.length; i++) {
+            int slot = pool.spawn(monsters[i * 6], monsters[i * 6 + 1], directions[monsters[i * 6 + 2]],
+                    monsters[i * 6 + 3], monsters[i * 6 + 4], monsters[i * 6 + 5]);
+            pool.view(slot).setLastActionTime(monsterTimes[i] + shift);
+        }
+        for (int i = 0; i < bombTimes.length; i++) {
+            BombObject bomb = new BombObject(game, world, dimension.position(bombs[i * 4], bombs[i * 4 + 1]),
+                    bombs[i * 4 + 2], bombTimes[i] + shift);
+            bomb.setBombPhase(bombs[i * 4 + 3]);
+            world.addBomb(bomb);
+        }
+        world.clearDirtyCells();
+        return world;
+    }
+
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        deflater.setInput(data);
+        deflater.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        while (!deflater.finished()) {
+            out.write(buffer, 0, deflater.deflate(buffer));
+        }
+        deflater.end();
+        return out.toByteArray();
+    }
+
+    private static byte[] inflate(byte[] data, int size) {
+        Inflater inflater = new Inflater();
+        inflater.setInput(data);
+        byte[] result = new byte[size];
+        try {
+            int length = 0;
+            while (length < size && !inflater.finished()) {
+                length += inflater.inflate(result, length, size - length);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted frozen world", e);
+        } finally {
+            inflater.end();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2020. Laurent Réveillère
+ */
+
+package fr.ubx.poo.game;
+
+
+import fr.ubx.poo.model.decor.Door;
+import fr.ubx.poo.model.ecs.Entities;
+import fr.ubx.poo.model.ecs.FuseSystem;
+import fr.ubx.poo.model.ecs.HealthSystem;
+import fr.ubx.poo.model.ecs.MovementSystem;
+import fr.ubx.poo.model.go.EntityIds;
+import fr.ubx.poo.model.go.character.Player;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * The type Game.
+ */
+public class Game {
+
+    private World world;
+
+
+
+    private final WorldManager manager;
+    /**
+     * Ids of the game objects.
+     */
+    private final EntityIds entityIds = new EntityIds();
+    /**
+     * Components of the game objects.
+     */
+    private final Entities entities = new Entities();
+    /**
+     * Burns the fuses of the bombs.
+     */
+    private final FuseSystem fuseSystem = new FuseSystem(entities);
+    /**
+     * Wears off the invulnerability of the characters.
+     */
+    private final HealthSystem healthSystem = new HealthSystem(entities);
+    /**
+     * Moves the characters as they asked.
+     */
+    private final MovementSystem movementSystem = new MovementSystem(entities);
+    private final Player player;
+    /**
+     * The Init player lives.
+     */
+    public int initPlayerLives = 1;
+    /**
+     * Number of simulation steps per second.
+     */
+    private int tickRate = 60;
+    /**
+     * Maximum number of simulation steps run on a frame to catch up after a hitch.
+     */
+    private int maxStepsPerFrame = 5;
+    /**
+     * Random generator of the game, seeded by the configuration to replay a run.
+     */
+    private final GameRandom random = new GameRandom();
+    private boolean toChange = false;
+
+
+    /**
+     * Instantiates a new Game.
+     *
+     * @param worldPath the world path
+     */
+    public Game(String worldPath) {
+        manager = new WorldManager(worldPath);
+        loadConfig(worldPath);
+        world = manager.getNextWorld(this);
+        Position positionPlayer;
+        try {
+            positionPlayer = world.findPlayer();
+            player = new Player(this, positionPlayer);
+        } catch (PositionNotFoundException e) {
+            System.err.println("Position not found : " + e.getLocalizedMessage());
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Instantiates a new Game in the state of a snapshot, with the configuration of another one.
+     *
+     * @param config   the game to copy the configuration from
+     * @param snapshot the snapshot
+     */
+    private Game(Game config, GameSnapshot snapshot) {
+        manager = new WorldManager(config.manager);
+        initPlayerLives = config.initPlayerLives;
+        tickRate = config.tickRate;
+        maxStepsPerFrame = config.maxStepsPerFrame;
+        player = new Player(this, snapshot.player.getPosition());
+        player.restore(snapshot.player);
+        manager.restore(snapshot, this);
+        world = manager.getCurrentWorld();
+        // Forking the worlds drew from the generator, the fork goes on from the state of the snapshot
+        random.setState(snapshot.randomState);
+    }
+
+    /**
+     * Takes a snapshot of the state of the game.
+     * Decor pages that didn't change since the previous snapshot are shared with it.
+     *
+     * @return the snapshot
+     */
+    public GameSnapshot snapshot() {
+        return new GameSnapshot(this);
+    }
+
+    /**
+     * Puts the game back in the state of a snapshot.
+     * The game is marked as changed, so that the engine rebuilds its sprites.
+     *
+     * @param snapshot the snapshot
+     */
+    public void restore(GameSnapshot snapshot) {
+        manager.restore(snapshot, this);
+        world = manager.getCurrentWorld();
+        player.restore(snapshot.player);
+        random.setState(snapshot.randomState);
+        toChange = true;
+    }
+
+    /**
+     * Creates a new game in the state of a snapshot, sharing its configuration with this one.
+     * The worlds of the new game share their decors with the snapshot until they are written to.
+     *
+     * @param snapshot the snapshot
+     * @return the new game
+     */
+    public Game fork(GameSnapshot snapshot) {
+        return new Game(this, snapshot);
+    }
+
+    public void setWorld(World world) {
+        this.world = world;
+    }
+
+
+    /**
+     * Gets init player lives.
+     *
+     * @return the init player lives
+     */
+    public int getInitPlayerLives() {
+        return initPlayerLives;
+    }
+
+    /**
+     * Gets the number of simulation steps per second.
+     *
+     * @return the tick rate
+     */
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    /**
+     * Gets the maximum number of simulation steps run on a frame.
+     *
+     * @return the maximum number of steps per frame
+     */
+    public int getMaxStepsPerFrame() {
+        return maxStepsPerFrame;
+    }
+
+    /**
+     * Gets the random generator of the game, for the monsters.
+     * Its state is part of the snapshots of the game.
+     *
+     * @return the random generator
+     */
+    public GameRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Loads the configuration from the given path.
+     * @param path the path.
+     */
+    private void loadConfig(String path) {
+        try (InputStream input = new FileInputStream(new File(path, "config.properties"))) {
+            Properties prop = new Properties();
+            // load the configuration file
+            prop.load(input);
+            initPlayerLives = Integer.parseInt(prop.getProperty("lives", "3"));
+            manager.setPrefix(prop.getProperty("prefix", "level"));
+            manager.setMaxLevel(Integer.parseInt(prop.getProperty("levels", "3")));
+            manager.setBitboards(Boolean.parseBoolean(prop.getProperty("bitboards", "false")));
+            tickRate = Integer.parseInt(prop.getProperty("tickRate", "60"));
+            maxStepsPerFrame = Integer.parseInt(prop.getProperty("maxStepsPerFrame", "5"));
+            if (prop.containsKey("randomSeed")) {
+                random.setSeed(Long.parseLong(prop.getProperty("randomSeed")));
+            }
+            manager.setDormantWorlds(Boolean.parseBoolean(prop.getProperty("dormantWorlds", "true")));
+            manager.setParallelWorlds(Boolean.parseBoolean(prop.getProperty("parallelWorlds", "false")));
+            manager.setMaxCatchUp(Integer.parseInt(prop.getProperty("catchUp", "10000")));
+            manager.setStorageMode(WorldStorageMode.fromName(prop.getProperty("storage", "heap")));
+            if (Boolean.parseBoolean(prop.getProperty("endless", "false"))) {
+                manager.setEndless(new WorldGenerator(Long.parseLong(prop.getProperty("seed", "0"))),
+                        Integer.parseInt(prop.getProperty("streamRadius", "1")));
+            }
+        } catch (IOException ex) {
+            System.err.println("Error loading configuration");
+        }
+    }
+
+    /**
+     * Gets world.
+     *
+     * @return the world
+     */
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * Gets player.
+     *
+     * @return the player
+     */
+    public Player getPlayer() {
+        return this.player;
+    }
+
+
+    /**
+     * Confirms if the world has changed or not since last iteration.
+     *
+     * @return true if the world has changed, false if not.
+     */
+    public boolean isToChange() {
+        return toChange;
+    }
+
+    /**
+     * Sets if the world has changed or not.
+     *
+     * @param toChange boolean if the world has changed or not.
+     */
+    public void setToChange(boolean toChange) {
+        this.toChange = toChange;
+    }
+
+
+    /**
+     * Gets the ids of the game objects.
+     *
+     * @return the entity ids
+     */
+    public EntityIds getEntityIds() {
+        return entityIds;
+    }
+
+    /**
+     * Gets the components of the game objects.
+     *
+     * @return the entities
+     */
+    public Entities getEntities() {
+        return entities;
+    }
+
+    /**
+     * Gets the fuse system, burning the fuses of the bombs.
+     *
+     * @return the fuse system
+     */
+    public FuseSystem getFuseSystem() {
+        return fuseSystem;
+    }
+
+    /**
+     * Gets the health system, wearing off the invulnerability of the characters.
+     *
+     * @return the health system
+     */
+    public HealthSystem getHealthSystem() {
+        return healthSystem;
+    }
+
+    /**
+     * Gets the movement system, moving the characters as they asked.
+     *
+     * @return the movement system
+     */
+    public MovementSystem getMovementSystem() {
+        return movementSystem;
+    }
+
+    /**
+     * Gets the world manager.
+     *
+     * @return the world manager.
+     */
+    public WorldManager getWorldManager() {
+        return manager;
+    }
+}
@@ -0,0 +1,64 @@
+package fr.ubx.poo.game;
+
+import java.util.Random;
+
+/**
+ * The type Game random.
+ * Random generator of a game, drawing the same numbers as {@link Random} for the same seed,
+ * whose state can be saved and set back, so that a snapshot replays the same future,
+ * see {@link GameSnapshot}.
+ */
+public class GameRandom extends Random {
+    private static final long serialVersionUID = 1L;
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    // Set by setSeed, called from the constructor of Random: no initializer, or it would be overwritten
+    private long state;
+
+    /**
+     * Instantiates a new Game random with an unpredictable seed.
+     */
+    public GameRandom() {
+        super();
+    }
+
+    /**
+     * Instantiates a new Game random.
+     *
+     * @param seed the seed
+     */
+    public GameRandom(long seed) {
+        super(seed);
+    }
+
+    @Override
+    public synchronized void setSeed(long seed) {
+        state = (seed ^ MULTIPLIER) & MASK;
+    }
+
+    @Override
+    protected synchronized int next(int bits) {
+        state = (state * MULTIPLIER + ADDEND) & MASK;
+        return (int) (state >>> (48 - bits));
+    }
+
+    /**
+     * Gets the state of the generator.
+     *
+     * @return the state
+     */
+    public synchronized long getState() {
+        return state;
+    }
+
+    /**
+     * Sets the state of the generator, as given by {@link #getState()}.
+     *
+     * @param state the state
+     */
+    public synchronized void setState(long state) {
+        this.state = state & MASK;
+    }
+}
@@ -0,0 +1,61 @@
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.go.character.Player;
+import fr.ubx.poo.model.go.character.PlayerState;
+
+import java.util.HashMap;
+
+/**
+ * The type Game snapshot.
+ * Immutable copy of the state of a game: its worlds, frozen or live, the current world, the player
+ * and the random generator, so that a fork replays the same future as the game.
+ * Live worlds are captured as {@link WorldSnapshot}, sharing their unchanged decor pages with the
+ * previous snapshot, so taking a snapshot costs about the number of cells changed since.
+ * See {@link Game#snapshot()}, {@link Game#restore(GameSnapshot)} and {@link Game#fork(GameSnapshot)}.
+ */
+public final class GameSnapshot {
+    /**
+     * Live worlds by index, null for frozen worlds.
+     */
+    final WorldSnapshot[] worlds;
+    /**
+     * Frozen worlds by index. Frozen worlds are never changed, so they are shared.
+     */
+    final HashMap<Integer, FrozenWorld> frozenWorlds;
+    final int currentWorldIndex;
+    final long lastUpdate;
+    /**
+     * State of the player.
+     */
+    final PlayerState player;
+    /**
+     * State of the random generator of the game, see {@link GameRandom}.
+     */
+    final long randomState;
+    private final long hash;
+
+    /**
+     * Captures the state of a game.
+     *
+     * @param game the game
+     */
+    GameSnapshot(Game game) {
+        WorldManager manager = game.getWorldManager();
+        worlds = manager.snapshotWorlds();
+        frozenWorlds = manager.copyFrozenWorlds();
+        currentWorldIndex = manager.getCurrentWorldIndex();
+        lastUpdate = manager.getLastUpdate();
+        player = game.getPlayer().saveState();
+        randomState = game.getRandom().getState();
+        hash = manager.getHash(game.getPlayer());
+    }
+
+    /**
+     * Gets the Zobrist hash of the game at the time of the snapshot, see {@link WorldManager#getHash(Player)}.
+     *
+     * @return the hash of the game state
+     */
+    public long getHash() {
+        return hash;
+    }
+}
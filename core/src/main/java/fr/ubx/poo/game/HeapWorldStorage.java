@@ -0,0 +1,35 @@
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.decor.Decor;
+
+/**
+ * The type Heap world storage.
+ * Keeps a reference to the decor of every cell in a plain array.
+ */
+public class HeapWorldStorage implements WorldStorage {
+    private final Decor[] grid;
+
+    /**
+     * Instantiates a new Heap world storage with only empty cells.
+     *
+     * @param size the number of cells
+     */
+    public HeapWorldStorage(int size) {
+        grid = new Decor[size];
+    }
+
+    @Override
+    public int size() {
+        return grid.length;
+    }
+
+    @Override
+    public Decor get(int index) {
+        return grid[index];
+    }
+
+    @Override
+    public void set(int index, Decor decor) {
+        grid[index] = decor;
+    }
+}
@@ -0,0 +1,45 @@
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.decor.Decor;
+import fr.ubx.poo.model.decor.DecorRegistry;
+import fr.ubx.poo.model.decor.DecorType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The type Off heap world storage.
+ * Keeps one byte per cell in a direct buffer, outside of the Java heap:
+ * 0 for an empty cell, the ordinal of the decor type plus one otherwise.
+ * Decors carry no state of their own, so a cell is decoded to the shared instance
+ * of its type, see {@link DecorRegistry}.
+ */
+public class OffHeapWorldStorage implements WorldStorage {
+    private static final DecorType[] types = DecorType.values();
+    private final ByteBuffer cells;
+
+    /**
+     * Instantiates a new Off heap world storage with only empty cells.
+     *
+     * @param size the number of cells
+     */
+    public OffHeapWorldStorage(int size) {
+        // Direct buffers are zeroed on allocation
+        cells = ByteBuffer.allocateDirect(size);
+    }
+
+    @Override
+    public int size() {
+        return cells.capacity();
+    }
+
+    @Override
+    public Decor get(int index) {
+        int code = cells.get(index);
+        return code == 0 ? null : DecorRegistry.get(types[code - 1]);
+    }
+
+    @Override
+    public void set(int index, Decor decor) {
+        cells.put(index, decor == null ? 0 : (byte) (decor.getType().ordinal() + 1));
+    }
+}
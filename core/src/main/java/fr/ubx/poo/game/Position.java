@@ -4,8 +4,6 @@
 
 package fr.ubx.poo.game;
 
-import java.util.Objects;
-
 /**
  * The type Position.
  */
@@ -40,6 +38,47 @@ public class Position {
         this.y = position.y;
     }
 
+    /**
+     * Packs coordinates into a single int, x in the high 16 bits and y in the low 16 bits.
+     * Coordinates must fit in a short, which leaves room for positions just outside a map.
+     *
+     * @param x the x
+     * @param y the y
+     * @return the packed coordinates
+     */
+    public static int pack(int x, int y) {
+        return (x << 16) | (y & 0xFFFF);
+    }
+
+    /**
+     * Gets the x of packed coordinates.
+     *
+     * @param packed the packed coordinates
+     * @return the x
+     */
+    public static int unpackX(int packed) {
+        return packed >> 16;
+    }
+
+    /**
+     * Gets the y of packed coordinates.
+     *
+     * @param packed the packed coordinates
+     * @return the y
+     */
+    public static int unpackY(int packed) {
+        return (short) packed;
+    }
+
+    /**
+     * Gets this position in packed form.
+     *
+     * @return the packed coordinates
+     */
+    public int pack() {
+        return pack(x, y);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -51,7 +90,7 @@ public class Position {
 
     @Override
     public int hashCode() {
-        return Objects.hash(x, y);
+        return 31 * x + y;
     }
 
     @Override
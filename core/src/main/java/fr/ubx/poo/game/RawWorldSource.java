@@ -0,0 +1,32 @@
+package fr.ubx.poo.game;
+
+/**
+ * The type Raw world source.
+ * Reads the entities of a world already held in memory, row by row.
+ */
+class RawWorldSource implements WorldSource {
+    private final WorldEntity[][] raw;
+    private final Dimension dimension;
+
+    /**
+     * Instantiates a new Raw world source.
+     *
+     * @param raw the raw world, indexed by {@code [y][x]}
+     */
+    RawWorldSource(WorldEntity[][] raw) {
+        this.raw = raw;
+        this.dimension = new Dimension(raw.length, raw[0].length);
+    }
+
+    @Override
+    public Dimension getDimension() {
+        return dimension;
+    }
+
+    @Override
+    public void read(int x, int y, int width, int height, WorldEntity[] entities) {
+        for (int row = 0; row < height; row++) {
+            System.arraycopy(raw[y + row], x, entities, row * width, width);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package fr.ubx.poo.game;
+
+/**
+ * The type Sparse grid.
+ * Object values of the cells of a map, see {@link TiledGrid}. Cells never set read as null.
+ *
+ * @param <T> the type of the values
+ */
+public class SparseGrid<T> extends TiledGrid {
+    private final Object[][] tiles;
+    private int allocated = 0;
+
+    /**
+     * Instantiates a new Sparse grid with only null cells.
+     *
+     * @param width  the width of the map
+     * @param height the height of the map
+     */
+    public SparseGrid(int width, int height) {
+        super(width, height);
+        tiles = new Object[tileCount][];
+    }
+
+    /**
+     * Gets the value of a cell.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the value, null if none was set
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int x, int y) {
+        Object[] tile = tiles[tileOf(x, y)];
+        return tile == null ? null : (T) tile[localOf(x, y)];
+    }
+
+    /**
+     * Sets the value of a cell, allocating its tile if needed.
+     * Setting null in a tile never allocated doesn't allocate it.
+     *
+     * @param x     the x coordinate
+     * @param y     the y coordinate
+     * @param value the value
+     */
+    public void set(int x, int y, T value) {
+        int index = tileOf(x, y);
+        Object[] tile = tiles[index];
+        if (tile == null) {
+            if (value == null) {
+                return;
+            }
+            tile = new Object[TILE_CELLS];
+            tiles[index] = tile;
+            allocated++;
+        }
+        tile[localOf(x, y)] = value;
+    }
+
+    @Override
+    public int getAllocatedTiles() {
+        return allocated;
+    }
+}
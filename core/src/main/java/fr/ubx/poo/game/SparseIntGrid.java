@@ -0,0 +1,60 @@
+package fr.ubx.poo.game;
+
+/**
+ * The type Sparse int grid.
+ * Integer values of the cells of a map, see {@link TiledGrid}. Cells never set read as 0.
+ */
+public class SparseIntGrid extends TiledGrid {
+    private final int[][] tiles;
+    private int allocated = 0;
+
+    /**
+     * Instantiates a new Sparse int grid with only 0 cells.
+     *
+     * @param width  the width of the map
+     * @param height the height of the map
+     */
+    public SparseIntGrid(int width, int height) {
+        super(width, height);
+        tiles = new int[tileCount][];
+    }
+
+    /**
+     * Gets the value of a cell.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the value, 0 if none was set
+     */
+    public int get(int x, int y) {
+        int[] tile = tiles[tileOf(x, y)];
+        return tile == null ? 0 : tile[localOf(x, y)];
+    }
+
+    /**
+     * Sets the value of a cell, allocating its tile if needed.
+     * Setting 0 in a tile never allocated doesn't allocate it.
+     *
+     * @param x     the x coordinate
+     * @param y     the y coordinate
+     * @param value the value
+     */
+    public void set(int x, int y, int value) {
+        int index = tileOf(x, y);
+        int[] tile = tiles[index];
+        if (tile == null) {
+            if (value == 0) {
+                return;
+            }
+            tile = new int[TILE_CELLS];
+            tiles[index] = tile;
+            allocated++;
+        }
+        tile[localOf(x, y)] = value;
+    }
+
+    @Override
+    public int getAllocatedTiles() {
+        return allocated;
+    }
+}
@@ -0,0 +1,70 @@
+package fr.ubx.poo.game;
+
+/**
+ * The type Tiled grid.
+ * Values attached to the cells of a map, kept in square tiles of {@value #TILE_SIZE} by {@value #TILE_SIZE}
+ * cells allocated the first time a value is set in them, so that memory grows with the area actually used
+ * rather than with the size of the map.
+ * Coordinates are not checked, callers only pass cells inside the map.
+ */
+public abstract class TiledGrid {
+    /**
+     * Log2 of the side of a tile.
+     */
+    public static final int TILE_SHIFT = 4;
+    /**
+     * Side of a tile, in cells.
+     */
+    public static final int TILE_SIZE = 1 << TILE_SHIFT;
+    /**
+     * Number of cells of a tile.
+     */
+    protected static final int TILE_CELLS = TILE_SIZE * TILE_SIZE;
+    private static final int TILE_MASK = TILE_SIZE - 1;
+
+    private final int tilesPerRow;
+    /**
+     * Number of tiles of the map, allocated or not.
+     */
+    protected final int tileCount;
+
+    /**
+     * Instantiates a new Tiled grid.
+     *
+     * @param width  the width of the map
+     * @param height the height of the map
+     */
+    protected TiledGrid(int width, int height) {
+        tilesPerRow = (width + TILE_MASK) >> TILE_SHIFT;
+        tileCount = tilesPerRow * ((height + TILE_MASK) >> TILE_SHIFT);
+    }
+
+    /**
+     * Gets the tile of a cell.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the index of the tile
+     */
+    protected final int tileOf(int x, int y) {
+        return (y >> TILE_SHIFT) * tilesPerRow + (x >> TILE_SHIFT);
+    }
+
+    /**
+     * Gets the index of a cell within its tile.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the index of the cell in the tile
+     */
+    protected static int localOf(int x, int y) {
+        return ((y & TILE_MASK) << TILE_SHIFT) | (x & TILE_MASK);
+    }
+
+    /**
+     * Gets the number of tiles allocated so far.
+     *
+     * @return the number of allocated tiles
+     */
+    public abstract int getAllocatedTiles();
+}
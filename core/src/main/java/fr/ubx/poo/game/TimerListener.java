@@ -0,0 +1,18 @@
+package fr.ubx.poo.game;
+
+/**
+ * The interface Timer listener.
+ * Called by a {@link TimerWheel} when a timer it scheduled is due.
+ */
+public interface TimerListener {
+    /**
+     * Called when a timer is due.
+     * Timers are never cancelled: the listener checks that the timer is still the one of the game object,
+     * by comparing the due time with the current one, and ignores it otherwise.
+     *
+     * @param id  the id of the game object
+     * @param due the time the timer was scheduled at
+     * @param now the time of the tick
+     */
+    void timerDue(long id, long due, long now);
+}
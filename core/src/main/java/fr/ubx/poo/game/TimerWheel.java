@@ -0,0 +1,145 @@
+package fr.ubx.poo.game;
+
+import java.util.Arrays;
+
+/**
+ * The type Timer wheel.
+ * Hashed timer wheel of a world: timers are put in the bucket of their due time, the buckets covering
+ * {@link #RESOLUTION_SHIFT 2^24} nanoseconds (about 17 milliseconds) each, and a tick only visits
+ * the buckets of the time elapsed since the previous one. The cost of a tick depends on the timers due,
+ * not on the number of game objects. Timers due more than a turn of the wheel later wait in their bucket
+ * until their turn comes.
+ * Entries are kept in arrays and recycled, scheduling a timer allocates nothing.
+ */
+public class TimerWheel {
+    /**
+     * Shift from nanoseconds to buckets.
+     */
+    public static final int RESOLUTION_SHIFT = 24;
+    private static final int SLOT_SHIFT = 8;
+    private static final int SLOTS = 1 << SLOT_SHIFT;
+    private static final int MASK = SLOTS - 1;
+
+    /**
+     * First entry of each bucket, -1 if empty.
+     */
+    private final int[] heads = new int[SLOTS];
+    /**
+     * Buckets detached by the current tick, so that timers scheduled by the listeners wait for the next one.
+     */
+    private final int[] detached = new int[SLOTS];
+    private long[] ids = new long[64];
+    private long[] dues = new long[64];
+    private TimerListener[] listeners = new TimerListener[64];
+    /**
+     * Next entry in the same bucket, or in the free list.
+     */
+    private int[] next = new int[64];
+    private int free = -1;
+    private int used = 0;
+    private int size = 0;
+    /**
+     * Bucket reached by the last tick.
+     */
+    private long currentTick = 0;
+
+    /**
+     * Instantiates a new Timer wheel.
+     */
+    public TimerWheel() {
+        Arrays.fill(heads, -1);
+    }
+
+    /**
+     * Gets the number of timers scheduled, stale ones included.
+     *
+     * @return the number of timers
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all the timers.
+     */
+    public void clear() {
+        Arrays.fill(heads, -1);
+        Arrays.fill(listeners, 0, used, null);
+        free = -1;
+        used = 0;
+        size = 0;
+    }
+
+    /**
+     * Schedules a timer.
+     *
+     * @param listener the listener to call once the time is past
+     * @param id       the id of the game object
+     * @param due      the due time, in nanoseconds
+     */
+    public void schedule(TimerListener listener, long id, long due) {
+        int entry;
+        if (free >= 0) {
+            entry = free;
+            free = next[entry];
+        } else {
+            if (used == ids.length) {
+                int capacity = used * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                dues = Arrays.copyOf(dues, capacity);
+                listeners = Arrays.copyOf(listeners, capacity);
+                next = Arrays.copyOf(next, capacity);
+            }
+            entry = used++;
+        }
+        ids[entry] = id;
+        dues[entry] = due;
+        listeners[entry] = listener;
+        size++;
+        insert(entry);
+    }
+
+    private void insert(int entry) {
+        // A timer already late waits in the current bucket
+        int bucket = (int) (Math.max(dues[entry] >> RESOLUTION_SHIFT, currentTick) & MASK);
+        next[entry] = heads[bucket];
+        heads[bucket] = entry;
+    }
+
+    /**
+     * Calls the listeners of the timers past the given time.
+     * Timers scheduled by the listeners are called on a later tick.
+     *
+     * @param now the time of the tick
+     */
+    public void advance(long now) {
+        long target = now >> RESOLUTION_SHIFT;
+        long from = target - currentTick >= SLOTS ? target - MASK : currentTick;
+        currentTick = target;
+        int count = (int) (target - from + 1);
+        for (int i = 0; i < count; i++) {
+            int bucket = (int) ((from + i) & MASK);
+            detached[i] = heads[bucket];
+            heads[bucket] = -1;
+        }
+        for (int i = 0; i < count; i++) {
+            int entry = detached[i];
+            while (entry >= 0) {
+                int following = next[entry];
+                if (dues[entry] < now) {
+                    TimerListener listener = listeners[entry];
+                    long id = ids[entry];
+                    long due = dues[entry];
+                    listeners[entry] = null;
+                    next[entry] = free;
+                    free = entry;
+                    size--;
+                    listener.timerDue(id, due, now);
+                } else {
+                    insert(entry);
+                }
+                entry = following;
+            }
+        }
+    }
+}
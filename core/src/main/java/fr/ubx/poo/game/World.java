@@ -0,0 +1,1349 @@
+/*
+ * Copyright (c) 2020. Laurent Réveillère
+ */
+
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.decor.Decor;
+import fr.ubx.poo.model.decor.DecorRegistry;
+import fr.ubx.poo.model.decor.DecorType;
+import fr.ubx.poo.model.decor.Door;
+import fr.ubx.poo.model.ecs.FuseSystem;
+import fr.ubx.poo.model.go.BombObject;
+import fr.ubx.poo.model.go.ExplosionObject;
+import fr.ubx.poo.model.go.ExplosionResolver;
+import fr.ubx.poo.model.go.character.Monster;
+import fr.ubx.poo.model.go.character.MonsterPool;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * The type World.
+ */
+public class World {
+    /**
+     * Decors of the map, indexed by {@code y * width + x}, kept by the storage chosen for the world,
+     * see {@link WorldStorage}.
+     */
+    private final WorldStorage grid;
+    /**
+     * Position of the player in the raw world, null if there is none.
+     */
+    private Position playerPosition;
+    /**
+     * Positions of the doors, found while loading the world. Doors never move.
+     */
+    private List<Position> doors = new ArrayList<>();
+    /**
+     * Storage the chunks of the map are read from on first access, null if the map was loaded at once.
+     * Each chunk is settled when it loads, see {@link #settleChunks()}.
+     */
+    private ChunkedWorldStorage chunks;
+    /**
+     * Chunks settled, null if the map was loaded at once.
+     */
+    private boolean[] loadedChunks;
+    /**
+     * The Dimension.
+     */
+    public final Dimension dimension;
+    /**
+     * Number of cells read at once from the source of the world while loading it.
+     */
+    private static final int LOAD_CELLS = 4096;
+    /**
+     * Cells changed since the last call to {@link #clearDirtyCells()}, as grid indexes.
+     */
+    private int[] dirtyCells = new int[16];
+    private int dirtyCount = 0;
+    /**
+     * Marks of the cells: DIRTY_MARK for the cells already in dirtyCells, so that each cell is reported once,
+     * BATCH_MARK for the cells already published while committing a batch.
+     */
+    private final SparseIntGrid marks;
+    private static final int DIRTY_MARK = 1;
+    private static final int BATCH_MARK = 2;
+    /**
+     * Listeners notified on every cell change.
+     */
+    private final List<CellChangeListener> cellChangeListeners = new ArrayList<>();
+    /**
+     * Confirms if a batch of mutations is in progress.
+     */
+    private boolean inBatch = false;
+    /**
+     * Undo log of the batch in progress: cell indexes and their decor before each mutation.
+     */
+    private int[] undoIndexes = new int[16];
+    private Decor[] undoDecors = new Decor[16];
+    private int undoCount = 0;
+    /**
+     * Pool containing the living monsters on this specific world.
+     */
+    private final MonsterPool monsters;
+    /**
+     * Timers of the monsters and bombs of this world.
+     */
+    private final TimerWheel timers = new TimerWheel();
+    /**
+     * Time the world fell asleep, -1 while it is awake, see {@link WorldManager}.
+     */
+    private long dormantSince = -1;
+    /**
+     * Bombs of this world that reached their last phase, see {@link FuseSystem}.
+     */
+    private final ArrayList<BombObject> exploding = new ArrayList<>();
+    /**
+     * Array list containing bombs on this specific world.
+     */
+    private final ArrayList<BombObject> bombs = new ArrayList<>();
+    /**
+     * Index of the bombs by cell.
+     */
+    private final SparseGrid<BombObject> bombGrid;
+    /**
+     * Resolver of the chain reactions of the bombs of this world, created on first use.
+     */
+    private ExplosionResolver explosionResolver;
+    /**
+     * Modification epoch of the map, incremented on every decor change.
+     */
+    private long version = 0;
+    /**
+     * Zobrist hash of the decors and the bombs, see {@link Zobrist}.
+     */
+    private long hash = 0;
+    /**
+     * Log2 of the side of a snapshot page. Pages are square tiles, each one inside a single chunk,
+     * see {@link ChunkedWorldStorage#CHUNK_SIZE}.
+     */
+    static final int PAGE_SHIFT = 4;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    private final int pagesPerRow;
+    /**
+     * Last snapshot taken or restored, null if there is none.
+     */
+    private WorldSnapshot lastSnapshot;
+    /**
+     * Pages written since the last snapshot.
+     */
+    private int[] dirtyPages = new int[16];
+    private final boolean[] dirtyPageMarks;
+    private int dirtyPageCount = 0;
+    /**
+     * Blast zones computed at epoch blastZonesVersion, keyed by cell index and range.
+     */
+    private final Map<Long, List<Position>> blastZones = new HashMap<>();
+    private long blastZonesVersion = 0;
+    /**
+     * Optional bit set planes of the world, null when disabled.
+     */
+    private Bitboards bitboards;
+    /**
+     * Array list containing bomb explosions on this specific world.
+     */
+    private final ArrayList<ExplosionObject> explosions = new ArrayList<>();
+    private final List<EntityListener> entityListeners = new ArrayList<>();
+
+    /**
+     * Enables the bit set planes of this world, building them from its current state.
+     * Once enabled, they are kept in sync on every change.
+     * The planes covering the whole map, every chunk of a chunked world is loaded first.
+     */
+    public void enableBitboards() {
+        loadAllChunks();
+        bitboards = new Bitboards(dimension);
+        for (int y = 0; y < dimension.height; y++) {
+            for (int x = 0; x < dimension.width; x++) {
+                bitboards.setDecor(x, y, grid.get(indexOf(x, y)));
+                bitboards.set(Bitboards.HAS_MONSTER, x, y, isThereAMonsterAt(x, y));
+                bitboards.set(Bitboards.HAS_BOMB, x, y, isThereABombAt(x, y));
+            }
+        }
+    }
+
+    /**
+     * Gets the bit set planes of this world.
+     *
+     * @return the bitboards, null if they are disabled
+     */
+    public Bitboards getBitboards() {
+        return bitboards;
+    }
+
+    /**
+     * Gets the monster pool.
+     *
+     * @return the pool of the living monsters
+     */
+    public MonsterPool getMonsterPool() {
+        return monsters;
+    }
+
+    /**
+     * Gets bombs.
+     *
+     * @return the bombs' array list
+     */
+    public ArrayList<BombObject> getBombs() {
+        return bombs;
+    }
+
+    /**
+     * Adds a bomb to the world.
+     *
+     * @param bomb the bomb
+     */
+    public void addBomb(BombObject bomb) {
+        bombs.add(bomb);
+        Position position = bomb.getPosition();
+        bombGrid.set(position.x, position.y, bomb);
+        hash ^= Zobrist.key(indexOf(position.x, position.y), Zobrist.BOMB);
+        if (bitboards != null) {
+            bitboards.set(Bitboards.HAS_BOMB, position.x, position.y, true);
+        }
+    }
+
+    /**
+     * Removes the bombs that exploded (bomb phase 5) from the world.
+     * Unlike the bombs leaving a world frozen or restored, which come back with it, these bombs are over.
+     *
+     * @return the number of bombs removed
+     */
+    public int removeExplodedBombs() {
+        int count = bombs.size();
+        bombs.removeIf(bomb -> {
+            if (bomb.getBombPhase() == 5) {
+                Position position = bomb.getPosition();
+                bombGrid.set(position.x, position.y, null);
+                hash ^= Zobrist.key(indexOf(position.x, position.y), Zobrist.BOMB);
+                if (bitboards != null) {
+                    bitboards.set(Bitboards.HAS_BOMB, position.x, position.y, false);
+                }
+                fireEntityRemoved(bomb.getId());
+                bomb.releaseId();
+                return true;
+            }
+            return false;
+        });
+        return count - bombs.size();
+    }
+
+    /**
+     * Removes the explosions that are over, see {@link ExplosionObject#isExpired(long)}.
+     * Their ids are released and they are pooled for later explosions.
+     *
+     * @param now the time of the frame.
+     */
+    public void removeExpiredExplosions(long now) {
+        if (explosions.isEmpty()) {
+            return;
+        }
+        explosions.removeIf(explosion -> {
+            if (explosion.isExpired(now)) {
+                fireEntityRemoved(explosion.getId());
+                getExplosionResolver().recycle(explosion);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Removes all the explosions of the world.
+     */
+    private void clearExplosions() {
+        for (ExplosionObject explosion : explosions) {
+            fireEntityRemoved(explosion.getId());
+            getExplosionResolver().recycle(explosion);
+        }
+        explosions.clear();
+    }
+
+    /**
+     * Checks if there is a bomb at the given position or not.
+     *
+     * @param position the position.
+     * @return true if there is a bomb at that position, false if not.
+     */
+    public boolean isThereABombAt(Position position) {
+        return getBombAt(position.x, position.y) != null;
+    }
+
+    /**
+     * Checks if there is a bomb at the given coordinates or not.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @return true if there is a bomb at these coordinates, false if not.
+     */
+    public boolean isThereABombAt(int x, int y) {
+        return getBombAt(x, y) != null;
+    }
+
+    /**
+     * Gets the bomb at the given position.
+     *
+     * @param position the position.
+     * @return the bomb, null if there is none.
+     */
+    public BombObject getBombAt(Position position) {
+        return getBombAt(position.x, position.y);
+    }
+
+    /**
+     * Gets the bomb at the given coordinates.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @return the bomb, null if there is none or if the coordinates are outside.
+     */
+    public BombObject getBombAt(int x, int y) {
+        if (!isInside(x, y)) {
+            return null;
+        }
+        return bombGrid.get(x, y);
+    }
+
+    /**
+     * Gets the modification epoch of the map.
+     * It changes every time a decor changes, so anything computed from the decors stays valid
+     * as long as the epoch is the same.
+     *
+     * @return the version of the map
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the Zobrist hash of the world: its decors, its bombs and its monsters.
+     * It is kept up to date on every change, so two worlds in the same state have the same hash.
+     * Only the chunks loaded so far count in a chunked world, see {@link #settleChunks()}.
+     *
+     * @return the hash of the world
+     */
+    public long getHash() {
+        settleChunks();
+        return hash ^ monsters.getHash();
+    }
+
+    /**
+     * Gets the area a bomb of the given range at the given position explodes at.
+     * Zones are computed once per map version and shared: explosion previews,
+     * danger checks and the actual detonation all get the same list.
+     *
+     * @param position the position of the bomb.
+     * @param range    the range of the bomb.
+     * @return the read only list of the positions blasted, see {@link BombObject#computeBombZone}.
+     */
+    public List<Position> getBlastZone(Position position, int range) {
+        if (blastZonesVersion != version) {
+            blastZones.clear();
+            blastZonesVersion = version;
+        }
+        long key = ((long) indexOf(position.x, position.y) << 32) | range;
+        List<Position> zone = blastZones.get(key);
+        if (zone == null) {
+            zone = Collections.unmodifiableList(BombObject.computeBombZone(this, position, range));
+            blastZones.put(key, zone);
+        }
+        return zone;
+    }
+
+    /**
+     * Gets the explosion resolver of this world.
+     *
+     * @return the explosion resolver
+     */
+    public ExplosionResolver getExplosionResolver() {
+        if (explosionResolver == null) {
+            explosionResolver = new ExplosionResolver(this);
+        }
+        return explosionResolver;
+    }
+
+    /**
+     * Gets explosions.
+     *
+     * @return the explosions' array list
+     */
+    public ArrayList<ExplosionObject> getExplosions() {
+        return explosions;
+    }
+
+    /**
+     * Gets monsters.
+     *
+     * @return the living monsters, as a read only list
+     */
+    public List<Monster> getMonsters() {
+        return monsters.monsters();
+    }
+
+    /**
+     * Confirms if some cells changed since the last call to {@link #clearDirtyCells()}.
+     *
+     * @return true if the world has changed, false if not.
+     */
+    public boolean hasDirtyCells() {
+        return dirtyCount > 0;
+    }
+
+    /**
+     * Applies the function given to every cell changed since the last call to {@link #clearDirtyCells()},
+     * in the order they first changed.
+     *
+     * @param fn the function.
+     */
+    public void forEachDirtyCell(Consumer<Position> fn) {
+        for (int i = 0; i < dirtyCount; i++) {
+            int index = dirtyCells[i];
+            fn.accept(dimension.position(index % dimension.width, index / dimension.width));
+        }
+    }
+
+    /**
+     * Forgets the changed cells, usually once they have been consumed for the frame.
+     */
+    public void clearDirtyCells() {
+        for (int i = 0; i < dirtyCount; i++) {
+            int index = dirtyCells[i];
+            int x = index % dimension.width;
+            int y = index / dimension.width;
+            marks.set(x, y, marks.get(x, y) & ~DIRTY_MARK);
+        }
+        dirtyCount = 0;
+    }
+
+    /**
+     * Adds a listener notified each time the decor of a cell changes.
+     *
+     * @param listener the listener
+     */
+    public void addCellChangeListener(CellChangeListener listener) {
+        cellChangeListeners.add(listener);
+    }
+
+    /**
+     * Removes a cell change listener.
+     *
+     * @param listener the listener
+     */
+    public void removeCellChangeListener(CellChangeListener listener) {
+        cellChangeListeners.remove(listener);
+    }
+
+    /**
+     * Adds an entity listener.
+     *
+     * @param listener the listener
+     */
+    public void addEntityListener(EntityListener listener) {
+        if (!entityListeners.contains(listener)) {
+            entityListeners.add(listener);
+        }
+    }
+
+    /**
+     * Removes an entity listener.
+     *
+     * @param listener the listener
+     */
+    public void removeEntityListener(EntityListener listener) {
+        entityListeners.remove(listener);
+    }
+
+    /**
+     * Notifies the entity listeners that a game object left the world.
+     *
+     * @param id the id of the game object
+     */
+    public void fireEntityRemoved(long id) {
+        for (EntityListener listener : entityListeners) {
+            listener.entityRemoved(id);
+        }
+    }
+
+    /**
+     * Notifies the listeners that a set of changes has been published.
+     */
+    private void changesCommitted() {
+        for (CellChangeListener listener : cellChangeListeners) {
+            listener.changesCommitted(this);
+        }
+    }
+
+    /**
+     * Records a cell change and notifies the listeners.
+     *
+     * @param x    the x coordinate.
+     * @param y    the y coordinate.
+     * @param from the previous decor.
+     * @param to   the new decor.
+     */
+    private void cellChanged(int x, int y, Decor from, Decor to) {
+        if (from == to) {
+            return;
+        }
+        int mark = marks.get(x, y);
+        if ((mark & DIRTY_MARK) == 0) {
+            marks.set(x, y, mark | DIRTY_MARK);
+            if (dirtyCount == dirtyCells.length) {
+                dirtyCells = Arrays.copyOf(dirtyCells, dirtyCount * 2);
+            }
+            dirtyCells[dirtyCount++] = indexOf(x, y);
+        }
+        for (CellChangeListener listener : cellChangeListeners) {
+            listener.cellChanged(dimension.position(x, y), from, to);
+        }
+    }
+
+    /**
+     * Gets the timers of the monsters and bombs of this world.
+     *
+     * @return the timer wheel
+     */
+    public TimerWheel getTimers() {
+        return timers;
+    }
+
+    /**
+     * Gets the bombs of this world that reached their last phase since the fuse system collected them.
+     *
+     * @return the bombs exploding
+     */
+    public ArrayList<BombObject> getExploding() {
+        return exploding;
+    }
+
+    /**
+     * Checks if the world is asleep: its timers don't run until the player comes back.
+     *
+     * @return true if the world is dormant
+     */
+    public boolean isDormant() {
+        return dormantSince >= 0;
+    }
+
+    /**
+     * Checks if the world can fall asleep: it has no bomb burning and no explosion in progress.
+     *
+     * @return true if only the monsters have timers running
+     */
+    public boolean isSettled() {
+        return bombs.isEmpty() && explosions.isEmpty();
+    }
+
+    /**
+     * Puts the world asleep. Only settled worlds fall asleep, see {@link #isSettled()}.
+     *
+     * @param now the time of the frame
+     */
+    void sleep(long now) {
+        dormantSince = now;
+    }
+
+    /**
+     * Wakes the world up, fast-forwarding its monsters over the time it slept.
+     * At most the last {@code maxCatchUp} nanoseconds are replayed, one bucket of the timer wheel at a time,
+     * the monsters behaving as if they fell asleep at the start of this window.
+     *
+     * @param now        the time of the frame
+     * @param maxCatchUp the longest time replayed, in nanoseconds
+     */
+    void wake(long now, long maxCatchUp) {
+        long since = dormantSince;
+        dormantSince = -1;
+        long start = Math.max(since, now - maxCatchUp);
+        if (start > since) {
+            // A settled world only has the timers of its monsters
+            timers.clear();
+            monsters.shiftTimers(start - since);
+        }
+        long step = 1L << TimerWheel.RESOLUTION_SHIFT;
+        for (long time = start + step; time < now; time += step) {
+            updateTimers(time);
+        }
+    }
+
+    /**
+     * Runs the timers due: moves of the monsters and phases of the bombs.
+     * The monsters due move together once the timers ran, see {@link MonsterPool#moveDueMonsters()}.
+     *
+     * @param now the actual time.
+     */
+    public void updateTimers(long now) {
+        settleChunks();
+        timers.advance(now);
+        monsters.moveDueMonsters();
+    }
+
+
+    /**
+     * Instantiates a new World, spawning its monsters.
+     * Decors are kept in the Java heap.
+     *
+     * @param raw  the raw world.
+     * @param game the game.
+     */
+    public World(WorldEntity[][] raw, Game game) {
+        this(raw, game, WorldStorageMode.HEAP);
+    }
+
+    /**
+     * Instantiates a new World, spawning its monsters.
+     * The raw world isn't kept, so it can be collected once the world is built.
+     *
+     * @param raw     the raw world.
+     * @param game    the game.
+     * @param storage how the decors are stored, see {@link WorldStorageMode}.
+     */
+    public World(WorldEntity[][] raw, Game game, WorldStorageMode storage) {
+        this(new RawWorldSource(raw), game, storage);
+    }
+
+    /**
+     * Instantiates a new World read from the given source, spawning its monsters.
+     * The source is read a band of rows at a time, straight into the storage.
+     * A chunked world reads nothing yet: each chunk is read on first access, see {@link #settleChunks()}.
+     *
+     * @param source  the source of the world.
+     * @param game    the game.
+     * @param storage how the decors are stored, see {@link WorldStorageMode}.
+     */
+    public World(WorldSource source, Game game, WorldStorageMode storage) {
+        this(source.getDimension(), storage == WorldStorageMode.CHUNKED
+                ? new ChunkedWorldStorage(source) : storage.create(source.getDimension()), 0, game);
+        if (storage == WorldStorageMode.CHUNKED) {
+            chunks = (ChunkedWorldStorage) grid;
+            loadedChunks = new boolean[chunks.getChunkCount()];
+        } else {
+            load(source);
+        }
+    }
+
+    /**
+     * Instantiates a new World over the given storage, without player nor monsters.
+     *
+     * @param dimension the dimension of the world.
+     * @param grid      the decors of the world.
+     * @param game      the game.
+     */
+    World(Dimension dimension, WorldStorage grid, Game game) {
+        this(dimension, grid, 0, game);
+        hashDecors();
+    }
+
+    /**
+     * Instantiates a new World over the given storage, without player nor monsters.
+     *
+     * @param dimension the dimension of the world.
+     * @param grid      the decors of the world.
+     * @param hash      the Zobrist hash of the decors of the storage.
+     * @param game      the game.
+     */
+    private World(Dimension dimension, WorldStorage grid, long hash, Game game) {
+        this.dimension = dimension;
+        this.grid = grid;
+        this.hash = hash;
+        bombGrid = new SparseGrid<>(dimension.width, dimension.height);
+        marks = new SparseIntGrid(dimension.width, dimension.height);
+        pagesPerRow = (dimension.width + PAGE_MASK) >> PAGE_SHIFT;
+        dirtyPageMarks = new boolean[pagesPerRow * ((dimension.height + PAGE_MASK) >> PAGE_SHIFT)];
+        monsters = new MonsterPool(game, this);
+    }
+
+    /**
+     * Hashes the decors of the storage, see {@link Zobrist}, and finds the doors.
+     * Cells are walked by index, without building their positions.
+     */
+    private void hashDecors() {
+        int size = grid.size();
+        for (int i = 0; i < size; i++) {
+            Decor decor = grid.get(i);
+            hash ^= Zobrist.decor(i, decor);
+            if (decor instanceof Door) {
+                doors.add(dimension.position(i % dimension.width, i / dimension.width));
+            }
+        }
+    }
+
+    /**
+     * Takes a snapshot of the world.
+     * Only the pages changed since the previous snapshot are copied, the others are shared with it.
+     * The pages of the chunks never loaded are left out, see {@link #settleChunks()}.
+     *
+     * @return the snapshot
+     */
+    public WorldSnapshot snapshot() {
+        settleChunks();
+        Decor[][] pages;
+        if (lastSnapshot == null) {
+            pages = new Decor[dirtyPageMarks.length][];
+            for (int page = 0; page < pages.length; page++) {
+                if (isPageLoaded(page)) {
+                    pages[page] = copyPage(page);
+                }
+            }
+        } else {
+            pages = lastSnapshot.pages.clone();
+            for (int i = 0; i < dirtyPageCount; i++) {
+                pages[dirtyPages[i]] = copyPage(dirtyPages[i]);
+            }
+        }
+        clearDirtyPages();
+        lastSnapshot = new WorldSnapshot(this, pages);
+        return lastSnapshot;
+    }
+
+    /**
+     * Copies a page of the storage.
+     *
+     * @param page the index of the page
+     * @return the decors of the page, row by row, null outside the map
+     */
+    private Decor[] copyPage(int page) {
+        Decor[] decors = new Decor[PAGE_SIZE * PAGE_SIZE];
+        int left = (page % pagesPerRow) << PAGE_SHIFT;
+        int top = (page / pagesPerRow) << PAGE_SHIFT;
+        int right = Math.min(left + PAGE_SIZE, dimension.width);
+        int bottom = Math.min(top + PAGE_SIZE, dimension.height);
+        for (int y = top; y < bottom; y++) {
+            for (int x = left; x < right; x++) {
+                decors[((y & PAGE_MASK) << PAGE_SHIFT) | (x & PAGE_MASK)] = grid.get(indexOf(x, y));
+            }
+        }
+        return decors;
+    }
+
+    private void markPageDirty(int page) {
+        if (!dirtyPageMarks[page]) {
+            dirtyPageMarks[page] = true;
+            if (dirtyPageCount == dirtyPages.length) {
+                dirtyPages = Arrays.copyOf(dirtyPages, dirtyPageCount * 2);
+            }
+            dirtyPages[dirtyPageCount++] = page;
+        }
+    }
+
+    private void clearDirtyPages() {
+        for (int i = 0; i < dirtyPageCount; i++) {
+            dirtyPageMarks[dirtyPages[i]] = false;
+        }
+        dirtyPageCount = 0;
+    }
+
+    /**
+     * Checks if the chunk of a page is settled.
+     *
+     * @param page the index of the page
+     * @return true if the page holds the decors of the world, false if they are still in its source
+     */
+    private boolean isPageLoaded(int page) {
+        return chunks == null || loadedChunks[chunkOfPage(page)];
+    }
+
+    private int chunkOfPage(int page) {
+        return chunks.chunkOf((page % pagesPerRow) << PAGE_SHIFT, (page / pagesPerRow) << PAGE_SHIFT);
+    }
+
+    /**
+     * Restores the world to the given snapshot.
+     * Only the pages that differ from the previous snapshot, or that changed since, are walked.
+     * Decor changes are published to the listeners like any other change.
+     * Monsters, bombs and explosions in progress are replaced by the ones of the snapshot.
+     * The chunks loaded since the snapshot stay loaded, as they are in the source of the world,
+     * settled again, see {@link #settleChunks()}.
+     *
+     * @param snapshot the snapshot, of a world of the same dimension
+     * @throws IllegalStateException    if a batch is in progress.
+     * @throws IllegalArgumentException if the snapshot has another dimension.
+     */
+    public void restore(WorldSnapshot snapshot) {
+        if (inBatch) {
+            throw new IllegalStateException("Batch in progress");
+        }
+        if (snapshot.dimension.width != dimension.width || snapshot.dimension.height != dimension.height) {
+            throw new IllegalArgumentException("Snapshot of another dimension");
+        }
+        ChunkedWorldStorage.LoadedChunk[] reloaded = null;
+        if (chunks != null) {
+            settleChunks();
+            // A snapshot of a fork may hold chunks this world never loaded
+            for (int chunk = 0; chunk < loadedChunks.length; chunk++) {
+                if (!loadedChunks[chunk] && (snapshot.loadedChunks == null || snapshot.loadedChunks[chunk])) {
+                    chunks.load(chunk);
+                }
+            }
+            settleChunks();
+            reloaded = new ChunkedWorldStorage.LoadedChunk[loadedChunks.length];
+            for (int chunk = 0; chunk < loadedChunks.length; chunk++) {
+                if (snapshot.loadedChunks != null && !snapshot.loadedChunks[chunk] && loadedChunks[chunk]) {
+                    reloaded[chunk] = chunks.read(chunk);
+                }
+            }
+        }
+        boolean changed = false;
+        for (int page = 0; page < snapshot.pages.length; page++) {
+            Decor[] decors = snapshot.pages[page];
+            if (lastSnapshot != null && lastSnapshot.pages[page] == decors && !dirtyPageMarks[page]) {
+                continue;
+            }
+            ChunkedWorldStorage.LoadedChunk source = decors == null ? reloaded[chunkOfPage(page)] : null;
+            if (decors == null && source == null) {
+                continue;
+            }
+            int left = (page % pagesPerRow) << PAGE_SHIFT;
+            int top = (page / pagesPerRow) << PAGE_SHIFT;
+            int right = Math.min(left + PAGE_SIZE, dimension.width);
+            int bottom = Math.min(top + PAGE_SIZE, dimension.height);
+            for (int y = top; y < bottom; y++) {
+                for (int x = left; x < right; x++) {
+                    Decor from = grid.get(indexOf(x, y));
+                    Decor to = decors != null ? decors[((y & PAGE_MASK) << PAGE_SHIFT) | (x & PAGE_MASK)]
+                            : source.get(x, y);
+                    if (from != to) {
+                        write(x, y, to);
+                        cellChanged(x, y, from, to);
+                        changed = true;
+                    }
+                }
+            }
+        }
+        clearDirtyPages();
+        lastSnapshot = snapshot;
+        dormantSince = -1;
+        if (changed) {
+            changesCommitted();
+        }
+        monsters.clear();
+        clearBombs();
+        // Every timer belonged to the monsters and bombs that were just removed
+        timers.clear();
+        hash = snapshot.decorHash;
+        doors = new ArrayList<>(snapshot.doors);
+        snapshot.spawnMonsters(monsters);
+        if (reloaded != null) {
+            for (ChunkedWorldStorage.LoadedChunk chunk : reloaded) {
+                if (chunk != null) {
+                    settle(chunk);
+                }
+            }
+        }
+        snapshot.addBombs(this);
+        clearExplosions();
+        snapshot.addExplosions(this);
+    }
+
+    /**
+     * Creates a new world in the state of the given snapshot.
+     * The decors are shared with the snapshot until they are written to.
+     * The chunks the snapshot left out are read from the source of the world on first access.
+     *
+     * @param snapshot the snapshot
+     * @param game     the game of the new world
+     * @return the world
+     */
+    static World fork(WorldSnapshot snapshot, Game game) {
+        ChunkedWorldStorage chunks = snapshot.source == null ? null : new ChunkedWorldStorage(snapshot.source);
+        World world = new World(snapshot.dimension,
+                new CopyOnWriteWorldStorage(snapshot.dimension, snapshot.pages, PAGE_SHIFT, chunks),
+                snapshot.decorHash, game);
+        world.chunks = chunks;
+        world.loadedChunks = snapshot.loadedChunks == null ? null : snapshot.loadedChunks.clone();
+        world.lastSnapshot = snapshot;
+        world.doors = new ArrayList<>(snapshot.doors);
+        snapshot.spawnMonsters(world.monsters);
+        snapshot.addBombs(world);
+        snapshot.addExplosions(world);
+        return world;
+    }
+
+    /**
+     * Removes all the bombs of the world.
+     */
+    private void clearBombs() {
+        for (BombObject bomb : bombs) {
+            Position position = bomb.getPosition();
+            bombGrid.set(position.x, position.y, null);
+            hash ^= Zobrist.key(indexOf(position.x, position.y), Zobrist.BOMB);
+            if (bitboards != null) {
+                bitboards.set(Bitboards.HAS_BOMB, position.x, position.y, false);
+            }
+            fireEntityRemoved(bomb.getId());
+            bomb.releaseId();
+        }
+        bombs.clear();
+    }
+
+    /**
+     * Gets the Zobrist hash of the decors alone.
+     *
+     * @return the hash of the decors
+     */
+    long getDecorHash() {
+        long decorHash = hash;
+        for (BombObject bomb : bombs) {
+            decorHash ^= Zobrist.key(indexOf(bomb.getPosition().x, bomb.getPosition().y), Zobrist.BOMB);
+        }
+        return decorHash;
+    }
+
+    /**
+     * Loads the world from its source, a band of rows at a time: writes the decors to the storage
+     * and hashes them, locates the player and spawns the monsters.
+     *
+     * @param source the source of the world.
+     */
+    private void load(WorldSource source) {
+        int width = dimension.width;
+        int band = Math.max(1, LOAD_CELLS / width);
+        WorldEntity[] entities = new WorldEntity[band * width];
+        for (int top = 0; top < dimension.height; top += band) {
+            int rows = Math.min(band, dimension.height - top);
+            source.read(0, top, width, rows, entities);
+            for (int i = 0; i < rows * width; i++) {
+                int index = top * width + i;
+                DecorType type = WorldBuilder.decorType(entities[i]);
+                if (type != null) {
+                    Decor decor = DecorRegistry.get(type);
+                    grid.set(index, decor);
+                    hash ^= Zobrist.decor(index, decor);
+                    if (decor instanceof Door) {
+                        doors.add(dimension.position(i % width, top + i / width));
+                    }
+                } else if (entities[i] == WorldEntity.Monster) {
+                    Direction direction = Direction.random(monsters.getGame().getRandom());
+                    monsters.spawn(i % width, top + i / width, direction, 1, 1000);
+                } else if (entities[i] == WorldEntity.Player && playerPosition == null) {
+                    playerPosition = dimension.position(i % width, top + i / width);
+                }
+            }
+        }
+    }
+
+    /**
+     * Settles the chunks of the map read from the source since the last call, see {@link ChunkedWorldStorage}:
+     * hashes their decors, adds their doors, spawns their monsters and locates the player.
+     * Chunks are settled in the order of their indexes, whatever the order, or the threads, they were read in,
+     * so the world doesn't depend on it. The monsters spawned draw their direction from the seed of the pool,
+     * see {@link MonsterPool#spawnDirection(int, int)}.
+     * Does nothing if the map was loaded at once.
+     */
+    public void settleChunks() {
+        if (chunks == null) {
+            return;
+        }
+        ChunkedWorldStorage.LoadedChunk chunk = chunks.pollLoaded();
+        if (chunk == null) {
+            return;
+        }
+        List<ChunkedWorldStorage.LoadedChunk> settling = new ArrayList<>();
+        for (; chunk != null; chunk = chunks.pollLoaded()) {
+            settling.add(chunk);
+        }
+        settling.sort(Comparator.comparingInt(loaded -> loaded.chunk));
+        for (ChunkedWorldStorage.LoadedChunk loaded : settling) {
+            settle(loaded);
+        }
+    }
+
+    /**
+     * Settles a chunk of the map as it is in the source, its pages going in the next snapshot.
+     *
+     * @param chunk the chunk
+     */
+    private void settle(ChunkedWorldStorage.LoadedChunk chunk) {
+        loadedChunks[chunk.chunk] = true;
+        hash ^= chunk.hash;
+        for (int door : chunk.doors) {
+            doors.add(dimension.position(door));
+        }
+        for (int monster : chunk.monsters) {
+            int x = Position.unpackX(monster);
+            int y = Position.unpackY(monster);
+            monsters.spawn(x, y, monsters.spawnDirection(x, y), 1, 1000);
+        }
+        if (chunk.player != ChunkedWorldStorage.LoadedChunk.NONE && playerPosition == null) {
+            playerPosition = dimension.position(chunk.player);
+        }
+        int right = Math.min(chunk.left + ChunkedWorldStorage.CHUNK_SIZE, dimension.width);
+        int bottom = Math.min(chunk.top + ChunkedWorldStorage.CHUNK_SIZE, dimension.height);
+        for (int y = chunk.top; y < bottom; y += PAGE_SIZE) {
+            for (int x = chunk.left; x < right; x += PAGE_SIZE) {
+                markPageDirty((y >> PAGE_SHIFT) * pagesPerRow + (x >> PAGE_SHIFT));
+            }
+        }
+    }
+
+    /**
+     * Loads and settles every chunk of the map, see {@link #settleChunks()}.
+     * Does nothing if the map was loaded at once.
+     */
+    void loadAllChunks() {
+        if (chunks == null) {
+            return;
+        }
+        for (int chunk = 0; chunk < loadedChunks.length; chunk++) {
+            if (!loadedChunks[chunk]) {
+                chunks.load(chunk);
+            }
+        }
+        settleChunks();
+    }
+
+    /**
+     * Gets the source the chunks of the map are read from.
+     *
+     * @return the source, null if the map was loaded at once
+     */
+    WorldSource getChunkSource() {
+        return chunks == null ? null : chunks.getSource();
+    }
+
+    /**
+     * Gets the chunks of the map settled so far.
+     *
+     * @return a copy of the flags of the chunks, by index, null if the map was loaded at once
+     */
+    boolean[] getLoadedChunks() {
+        return loadedChunks == null ? null : loadedChunks.clone();
+    }
+
+    /**
+     * Gets the positions of the doors of the world, found when it was loaded.
+     * The decor at each position is a door, opened or not.
+     * Every chunk of a chunked world is loaded first.
+     *
+     * @return the read only list of the positions of the doors
+     */
+    public List<Position> getDoors() {
+        loadAllChunks();
+        return Collections.unmodifiableList(doors);
+    }
+
+    /**
+     * Gets the positions of the doors of the chunks loaded so far.
+     *
+     * @return the read only list of the positions of the doors
+     */
+    List<Position> getLoadedDoors() {
+        return Collections.unmodifiableList(doors);
+    }
+
+    /**
+     * Finds player position.
+     * The chunks of a chunked world are loaded in order until the player is found.
+     *
+     * @return the player position.
+     * @throws PositionNotFoundException the position not found exception.
+     */
+    public Position findPlayer() throws PositionNotFoundException {
+        if (chunks != null) {
+            settleChunks();
+            for (int chunk = 0; playerPosition == null && chunk < loadedChunks.length; chunk++) {
+                if (!loadedChunks[chunk]) {
+                    chunks.load(chunk);
+                    settleChunks();
+                }
+            }
+        }
+        if (playerPosition == null) {
+            throw new PositionNotFoundException("Player");
+        }
+        return playerPosition;
+    }
+
+    /**
+     * Gets the index of the cell (x, y) in the grid.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @return the index of the cell.
+     */
+    private int indexOf(int x, int y) {
+        return y * dimension.width + x;
+    }
+
+    /**
+     * Get the decor in the given position of the map.
+     *
+     * @param position the position.
+     * @return the decor at the given position, null if there is none or if the position is outside.
+     */
+    public Decor get(Position position) {
+        return get(position.x, position.y);
+    }
+
+    /**
+     * Get the decor at the given coordinates of the map.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @return the decor at the given coordinates, null if there is none or if the coordinates are outside.
+     */
+    public Decor get(int x, int y) {
+        if (!isInside(x, y)) {
+            return null;
+        }
+        return grid.get(indexOf(x, y));
+    }
+
+    /**
+     * Sets the content of the given position of the map to the given decor.
+     *
+     * @param position the position.
+     * @param decor    the decor.
+     */
+    public void set(Position position, Decor decor) {
+        set(position.x, position.y, decor);
+    }
+
+    /**
+     * Sets the content of the given coordinates of the map to the given decor.
+     *
+     * @param x     the x coordinate.
+     * @param y     the y coordinate.
+     * @param decor the decor.
+     * @throws IllegalArgumentException if the coordinates are outside the map.
+     */
+    public void set(int x, int y, Decor decor) {
+        if (!isInside(x, y)) {
+            throw new IllegalArgumentException("Position outside the world: " + x + ", " + y);
+        }
+        int index = indexOf(x, y);
+        Decor from = grid.get(index);
+        write(x, y, decor);
+        if (inBatch) {
+            logUndo(index, from);
+        } else {
+            cellChanged(x, y, from, decor);
+            changesCommitted();
+        }
+    }
+
+    /**
+     * Writes a decor in the grid, keeping the bitboards in sync.
+     *
+     * @param x     the x coordinate.
+     * @param y     the y coordinate.
+     * @param decor the decor.
+     */
+    private void write(int x, int y, Decor decor) {
+        int index = indexOf(x, y);
+        hash ^= Zobrist.decor(index, grid.get(index)) ^ Zobrist.decor(index, decor);
+        grid.set(index, decor);
+        markPageDirty((y >> PAGE_SHIFT) * pagesPerRow + (x >> PAGE_SHIFT));
+        version++;
+        if (bitboards != null) {
+            bitboards.setDecor(x, y, decor);
+        }
+    }
+
+    /**
+     * Clears the given position on that map position.
+     *
+     * @param position the position.
+     */
+    public void clear(Position position) {
+        clear(position.x, position.y);
+    }
+
+    /**
+     * Clears the given coordinates of the map.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     */
+    public void clear(int x, int y) {
+        if (isInside(x, y)) {
+            set(x, y, null);
+        }
+    }
+
+    /**
+     * Begins a batch of mutations.
+     * Until {@link #commitBatch()}, changes are applied to the map right away, but the dirty cells
+     * and the listeners only see them at commit, coalesced to one change per cell.
+     * {@link #rollbackBatch()} undoes them instead.
+     *
+     * @throws IllegalStateException if a batch is already in progress.
+     */
+    public void beginBatch() {
+        if (inBatch) {
+            throw new IllegalStateException("A batch is already in progress");
+        }
+        inBatch = true;
+        undoCount = 0;
+    }
+
+    /**
+     * Commits the batch in progress, publishing its changes once.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    public void commitBatch() {
+        if (!inBatch) {
+            throw new IllegalStateException("No batch in progress");
+        }
+        inBatch = false;
+        boolean changed = false;
+        // The first undo entry of a cell holds its decor before the batch
+        for (int i = 0; i < undoCount; i++) {
+            int index = undoIndexes[i];
+            int x = index % dimension.width;
+            int y = index / dimension.width;
+            int mark = marks.get(x, y);
+            if ((mark & BATCH_MARK) == 0) {
+                marks.set(x, y, mark | BATCH_MARK);
+                Decor from = undoDecors[i];
+                Decor to = grid.get(index);
+                if (from != to) {
+                    cellChanged(x, y, from, to);
+                    changed = true;
+                }
+            }
+        }
+        for (int i = 0; i < undoCount; i++) {
+            int index = undoIndexes[i];
+            int x = index % dimension.width;
+            int y = index / dimension.width;
+            marks.set(x, y, marks.get(x, y) & ~BATCH_MARK);
+            undoDecors[i] = null;
+        }
+        undoCount = 0;
+        if (changed) {
+            changesCommitted();
+        }
+    }
+
+    /**
+     * Rolls back the batch in progress, restoring the map as it was when the batch began.
+     * Nothing is published.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    public void rollbackBatch() {
+        if (!inBatch) {
+            throw new IllegalStateException("No batch in progress");
+        }
+        inBatch = false;
+        for (int i = undoCount - 1; i >= 0; i--) {
+            int index = undoIndexes[i];
+            write(index % dimension.width, index / dimension.width, undoDecors[i]);
+            undoDecors[i] = null;
+        }
+        undoCount = 0;
+    }
+
+    /**
+     * Confirms if a batch of mutations is in progress.
+     *
+     * @return true if a batch is in progress, false if not.
+     */
+    public boolean isInBatch() {
+        return inBatch;
+    }
+
+    /**
+     * Records the previous decor of a cell mutated during a batch.
+     *
+     * @param index the index of the cell.
+     * @param from  the previous decor.
+     */
+    private void logUndo(int index, Decor from) {
+        if (undoCount == undoIndexes.length) {
+            undoIndexes = Arrays.copyOf(undoIndexes, undoCount * 2);
+            undoDecors = Arrays.copyOf(undoDecors, undoCount * 2);
+        }
+        undoIndexes[undoCount] = index;
+        undoDecors[undoCount] = from;
+        undoCount++;
+    }
+
+    /**
+     * Applies the function given to every decor of the map.
+     * Cells are walked in memory order (row by row), empty cells are skipped.
+     *
+     * @param fn the function.
+     */
+    public void forEach(BiConsumer<Position, Decor> fn) {
+        for (int y = 0; y < dimension.height; y++) {
+            int row = y * dimension.width;
+            for (int x = 0; x < dimension.width; x++) {
+                Decor decor = grid.get(row + x);
+                if (decor != null) {
+                    fn.accept(dimension.position(x, y), decor);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if the given position is inside the map or not.
+     *
+     * @param p the position.
+     * @return true if the position is inside, false if not.
+     */
+    public boolean isInside(Position p) {
+        return isInside(p.x, p.y);
+    }
+
+    /**
+     * Checks if the given coordinates are inside the map or not.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @return true if the coordinates are inside, false if not.
+     */
+    public boolean isInside(int x, int y) {
+        return ((x >= 0) && (x < dimension.width) && (y >= 0) && (y < dimension.height));
+    }
+
+    /**
+     * Checks if there is a monster at the given position or not.
+     *
+     * @param position the position.
+     * @return true if there is a monster at that position, false if not.
+     */
+    public boolean isThereAMonsterAt(Position position) {
+        return monsters.slotAt(position.x, position.y) >= 0;
+    }
+
+    /**
+     * Checks if there is a monster at the given coordinates or not.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @return true if there is a monster at these coordinates, false if not.
+     */
+    public boolean isThereAMonsterAt(int x, int y) {
+        return monsters.slotAt(x, y) >= 0;
+    }
+
+    /**
+     * Gets the living monster at the given position.
+     *
+     * @param position the position.
+     * @return the monster, null if there is none.
+     */
+    public Monster getMonsterAt(Position position) {
+        return monsters.monsterAt(position.x, position.y);
+    }
+
+    /**
+     * Gets the living monster at the given coordinates.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @return the monster, null if there is none or if the coordinates are outside.
+     */
+    public Monster getMonsterAt(int x, int y) {
+        return monsters.monsterAt(x, y);
+    }
+
+}
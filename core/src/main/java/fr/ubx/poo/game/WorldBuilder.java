@@ -0,0 +1,52 @@
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.decor.DecorRegistry;
+import fr.ubx.poo.model.decor.DecorType;
+
+/**
+ * The type World builder.
+ */
+public class WorldBuilder {
+    private WorldBuilder() {
+    }
+
+    /**
+     * Gets the decor type of the given entity.
+     * Decors of a type are shared, see {@link DecorRegistry}.
+     *
+     * @param entity the entity.
+     * @return the corresponding decor type, null if the entity isn't a decor.
+     */
+    public static DecorType decorType(WorldEntity entity) {
+        switch (entity) {
+            case Stone:
+                return DecorType.STONE;
+            case Tree:
+                return DecorType.TREE;
+            case Box:
+                return DecorType.BOX;
+            case BombNumberDec:
+                return DecorType.BOMB_NUMBER_DEC;
+            case BombNumberInc:
+                return DecorType.BOMB_NUMBER_INC;
+            case BombRangeDec:
+                return DecorType.BOMB_RANGE_DEC;
+            case BombRangeInc:
+                return DecorType.BOMB_RANGE_INC;
+            case Heart:
+                return DecorType.HEART;
+            case Key:
+                return DecorType.KEY;
+            case Princess:
+                return DecorType.PRINCESS;
+            case DoorNextClosed:
+                return DecorType.DOOR_NEXT_CLOSED;
+            case DoorNextOpened:
+                return DecorType.DOOR_NEXT_OPENED;
+            case DoorPrevOpened:
+                return DecorType.DOOR_PREV_OPENED;
+            default:
+                return null;
+        }
+    }
+}
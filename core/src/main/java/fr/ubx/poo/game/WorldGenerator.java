@@ -0,0 +1,173 @@
+package fr.ubx.poo.game;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * The type World generator.
+ * Generates the levels of the endless mode, a chain of levels of fixed dimension,
+ * see {@link WorldManager#setEndless(WorldGenerator, int)}. A level only depends on the seed and on its index,
+ * so it can be generated again identically.
+ * Each level has a clear path from its entry, the previous door (or the player on the first level),
+ * to its closed next door, with the key on the way.
+ * Apart from the path, drawn once per level, each cell only depends on its coordinates,
+ * so any part of a level is generated on its own, see {@link #source(int)}.
+ */
+public class WorldGenerator {
+    private static final WorldEntity[] bonuses = {
+            WorldEntity.Heart,
+            WorldEntity.BombNumberInc,
+            WorldEntity.BombNumberDec,
+            WorldEntity.BombRangeInc,
+            WorldEntity.BombRangeDec
+    };
+
+    /**
+     * Default width of the levels.
+     */
+    public static final int DEFAULT_WIDTH = 16;
+    /**
+     * Default height of the levels.
+     */
+    public static final int DEFAULT_HEIGHT = 12;
+
+    private final long seed;
+    private final int width;
+    private final int height;
+
+    /**
+     * Instantiates a new World generator with levels of the default size.
+     *
+     * @param seed the seed of the endless map
+     */
+    public WorldGenerator(long seed) {
+        this(seed, DEFAULT_WIDTH, DEFAULT_HEIGHT);
+    }
+
+    /**
+     * Instantiates a new World generator.
+     *
+     * @param seed   the seed of the endless map
+     * @param width  the width of the levels
+     * @param height the height of the levels
+     */
+    public WorldGenerator(long seed, int width, int height) {
+        this.seed = seed;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Generates a level.
+     *
+     * @param index the index of the level, starting at 0
+     * @return the raw level
+     */
+    public WorldEntity[][] generate(int index) {
+        WorldSource level = source(index);
+        WorldEntity[][] raw = new WorldEntity[height][width];
+        WorldEntity[] row = new WorldEntity[width];
+        for (int y = 0; y < height; y++) {
+            level.read(0, y, width, 1, row);
+            raw[y] = row.clone();
+        }
+        return raw;
+    }
+
+    /**
+     * Gets a level as a source, its cells being generated when they are read.
+     *
+     * @param index the index of the level, starting at 0
+     * @return the source of the level
+     */
+    public WorldSource source(int index) {
+        return new Level(index);
+    }
+
+    /**
+     * A generated level. Only the path is kept, as the range of rows it crosses in each column.
+     */
+    private class Level implements WorldSource {
+        private final int index;
+        private final long cellSeed;
+        private final Dimension dimension = new Dimension(height, width);
+        private final int[] pathTop = new int[width];
+        private final int[] pathBottom = new int[width];
+        private final int entryY;
+        private final int exitY;
+        private final int keyX;
+
+        Level(int index) {
+            this.index = index;
+            Random random = new Random(seed * 0x9E3779B97F4A7C15L + index);
+            cellSeed = random.nextLong();
+
+            // Carve a path from the entry on the left side to the exit on the right side
+            entryY = random.nextInt(height);
+            exitY = random.nextInt(height);
+            int y = entryY;
+            for (int x = 0; x < width; x++) {
+                pathTop[x] = y;
+                pathBottom[x] = y;
+                if (x == width - 1) {
+                    // The last column only holds the exit
+                    pathBottom[x] = y - 1;
+                    break;
+                }
+                int turns = x == width - 2 ? Math.abs(exitY - y) : random.nextInt(3);
+                for (int i = 0; i < turns && y != exitY; i++) {
+                    y += exitY > y ? 1 : -1;
+                    pathTop[x] = Math.min(pathTop[x], y);
+                    pathBottom[x] = Math.max(pathBottom[x], y);
+                }
+            }
+
+            // The key lies on the path, in the second half of the level
+            keyX = width / 2 + random.nextInt(Math.max(1, width / 2 - 1));
+        }
+
+        @Override
+        public Dimension getDimension() {
+            return dimension;
+        }
+
+        @Override
+        public void read(int x, int y, int width, int height, WorldEntity[] entities) {
+            for (int row = 0; row < height; row++) {
+                for (int column = 0; column < width; column++) {
+                    entities[row * width + column] = entityAt(x + column, y + row);
+                }
+            }
+        }
+
+        private WorldEntity entityAt(int x, int y) {
+            if (x == 0 && y == entryY) {
+                return index == 0 ? WorldEntity.Player : WorldEntity.DoorPrevOpened;
+            }
+            if (x == width - 1 && y == exitY) {
+                return WorldEntity.DoorNextClosed;
+            }
+            if (y >= pathTop[x] && y <= pathBottom[x]) {
+                return x == keyX && y == pathTop[x] ? WorldEntity.Key : WorldEntity.Empty;
+            }
+            return randomEntity(new SplittableRandom(cellSeed + (long) y * width + x), x);
+        }
+    }
+
+    private WorldEntity randomEntity(SplittableRandom random, int x) {
+        int roll = random.nextInt(100);
+        if (roll < 12) {
+            return WorldEntity.Stone;
+        } else if (roll < 20) {
+            return WorldEntity.Tree;
+        } else if (roll < 30) {
+            return WorldEntity.Box;
+        } else if (roll < 33) {
+            return bonuses[random.nextInt(bonuses.length)];
+        } else if (roll < 36 && x > 2) {
+            // No monster right next to the entry
+            return WorldEntity.Monster;
+        }
+        return WorldEntity.Empty;
+    }
+}
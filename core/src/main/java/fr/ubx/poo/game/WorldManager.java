@@ -0,0 +1,536 @@
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.decor.Door;
+import fr.ubx.poo.model.go.character.Player;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * The type World manager.
+ */
+public class WorldManager {
+    /**
+     * Worlds by index, null for the worlds evicted in endless mode.
+     */
+    private final ArrayList<World> worlds = new ArrayList<>();
+    private final ArrayList<World> liveWorlds = new ArrayList<>();
+    /**
+     * Live worlds whose timers run: the current world, and the worlds left with bombs or explosions
+     * until they settle. The other live worlds are dormant.
+     */
+    private final ArrayList<World> awakeWorlds = new ArrayList<>();
+    /**
+     * Longest time a dormant world is fast-forwarded over when the player comes back, in nanoseconds.
+     */
+    private long maxCatchUp = 10_000_000_000L;
+    /**
+     * If the worlds left by the player fall asleep. When they don't, all the live worlds keep running.
+     */
+    private boolean dormantWorlds = true;
+    /**
+     * If the awake worlds run their timers as parallel tasks.
+     */
+    private boolean parallelWorlds = false;
+    /**
+     * Evicted worlds, by index.
+     */
+    private final HashMap<Integer, FrozenWorld> frozenWorlds = new HashMap<>();
+    /**
+     * Generator of the levels in endless mode, null when the levels are read from files.
+     */
+    private WorldGenerator generator;
+    /**
+     * In endless mode, number of levels kept live on each side of the current one.
+     */
+    private int streamRadius = 1;
+    /**
+     * Time of the last frame, the clock of the frozen worlds.
+     */
+    private long lastUpdate = 0;
+    private int maxWorldsReached = 0;
+    private int currentWorldIndex = -1;
+    private final String worldPath;
+    private String prefix;
+    private int maxLevel;
+    private boolean bitboards = false;
+    private WorldStorageMode storageMode = WorldStorageMode.HEAP;
+
+    /**
+     * Gets the live worlds.
+     * In endless mode, the worlds too far from the current one are evicted and don't appear here.
+     *
+     * @return the worlds
+     */
+    public ArrayList<World> getWorlds() {
+        return liveWorlds;
+    }
+
+    /**
+     * Checks if the given world is live, that is neither evicted nor unknown.
+     *
+     * @param world the world
+     * @return true if the world is live
+     */
+    public boolean isLive(World world) {
+        return liveWorlds.contains(world);
+    }
+
+    /**
+     * Switches to the endless mode, an endless chain of levels generated instead of read from files.
+     * Only the levels next to the current one stay live, the others are frozen, see {@link FrozenWorld}.
+     * Each level is a world of fixed dimension, evicted as a whole: the memory of the level the player
+     * is on is the same as in the normal mode, so this mode only bounds the number of levels kept live.
+     *
+     * @param generator    the generator of the levels
+     * @param streamRadius the number of levels kept live on each side of the current one
+     */
+    public void setEndless(WorldGenerator generator, int streamRadius) {
+        this.generator = generator;
+        this.streamRadius = streamRadius;
+    }
+
+    /**
+     * Checks if the game is in endless mode.
+     *
+     * @return true if the levels are generated
+     */
+    public boolean isEndless() {
+        return generator != null;
+    }
+
+    /**
+     * Gets the number of frozen worlds.
+     *
+     * @return the number of evicted worlds
+     */
+    public int getFrozenWorldCount() {
+        return frozenWorlds.size();
+    }
+
+    /**
+     * Gets the awake worlds: the current world and the worlds still resolving bombs.
+     *
+     * @return the awake worlds
+     */
+    public ArrayList<World> getAwakeWorlds() {
+        return awakeWorlds;
+    }
+
+    /**
+     * Sets the longest time a dormant world is fast-forwarded over when the player comes back.
+     *
+     * @param maxCatchUp the time in milliseconds
+     */
+    public void setMaxCatchUp(int maxCatchUp) {
+        this.maxCatchUp = maxCatchUp * 1000000L;
+    }
+
+    /**
+     * Sets if the worlds left by the player fall asleep.
+     *
+     * @param dormantWorlds false to keep all the live worlds running
+     */
+    public void setDormantWorlds(boolean dormantWorlds) {
+        this.dormantWorlds = dormantWorlds;
+    }
+
+    /**
+     * Sets if the awake worlds run their timers as parallel tasks.
+     *
+     * @param parallelWorlds true to update the worlds in parallel
+     */
+    public void setParallelWorlds(boolean parallelWorlds) {
+        this.parallelWorlds = parallelWorlds;
+    }
+
+    /**
+     * Sets max level.
+     *
+     * @param maxLevel the max level
+     */
+    public void setMaxLevel(int maxLevel) {
+        this.maxLevel = maxLevel;
+    }
+
+    /**
+     * Sets if the worlds maintain bitboards, see {@link World#enableBitboards()}.
+     *
+     * @param bitboards true to enable the bitboards
+     */
+    public void setBitboards(boolean bitboards) {
+        this.bitboards = bitboards;
+    }
+
+    /**
+     * Sets how the worlds store their decors.
+     *
+     * @param storageMode the storage mode
+     */
+    public void setStorageMode(WorldStorageMode storageMode) {
+        this.storageMode = storageMode;
+    }
+
+    /**
+     * Sets prefix of the world file.
+     *
+     * @param prefix the prefix
+     */
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * Instantiates a new World manager.
+     *
+     * @param worldPath the world path
+     */
+    public WorldManager(String worldPath) {
+        this.worldPath = worldPath;
+    }
+
+    /**
+     * Instantiates a new World manager, without any world, with the configuration of another one.
+     *
+     * @param config the world manager to copy the configuration from
+     */
+    WorldManager(WorldManager config) {
+        worldPath = config.worldPath;
+        prefix = config.prefix;
+        maxLevel = config.maxLevel;
+        bitboards = config.bitboards;
+        storageMode = config.storageMode;
+        generator = config.generator;
+        streamRadius = config.streamRadius;
+        maxCatchUp = config.maxCatchUp;
+        dormantWorlds = config.dormantWorlds;
+        parallelWorlds = config.parallelWorlds;
+    }
+
+    /**
+     * Snapshots the live worlds.
+     *
+     * @return the snapshots by index, null for frozen worlds
+     */
+    WorldSnapshot[] snapshotWorlds() {
+        WorldSnapshot[] snapshots = new WorldSnapshot[worlds.size()];
+        for (int i = 0; i < snapshots.length; i++) {
+            World world = worlds.get(i);
+            if (world != null) {
+                snapshots[i] = world.snapshot();
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * Copies the frozen worlds, which are immutable and thus shared.
+     *
+     * @return the frozen worlds by index
+     */
+    HashMap<Integer, FrozenWorld> copyFrozenWorlds() {
+        return new HashMap<>(frozenWorlds);
+    }
+
+    /**
+     * Gets the time of the last frame.
+     *
+     * @return the time of the last frame
+     */
+    long getLastUpdate() {
+        return lastUpdate;
+    }
+
+    /**
+     * Puts the worlds in the state of a snapshot.
+     * Worlds live in both states are restored in place, the others are forked from the snapshot.
+     *
+     * @param snapshot the snapshot
+     * @param game     the game
+     */
+    void restore(GameSnapshot snapshot, Game game) {
+        WorldSnapshot[] snapshots = snapshot.worlds;
+        while (worlds.size() > snapshots.length) {
+            worlds.remove(worlds.size() - 1);
+        }
+        for (int i = 0; i < snapshots.length; i++) {
+            World world = i < worlds.size() ? worlds.get(i) : null;
+            World restored = null;
+            if (snapshots[i] != null) {
+                Dimension dimension = snapshots[i].dimension;
+                if (world != null && world.dimension.width == dimension.width
+                        && world.dimension.height == dimension.height) {
+                    world.restore(snapshots[i]);
+                    restored = world;
+                } else {
+                    restored = World.fork(snapshots[i], game);
+                    if (bitboards) {
+                        restored.enableBitboards();
+                    }
+                }
+            }
+            if (i < worlds.size()) {
+                worlds.set(i, restored);
+            } else {
+                worlds.add(restored);
+            }
+        }
+        liveWorlds.clear();
+        awakeWorlds.clear();
+        for (World world : worlds) {
+            if (world != null) {
+                liveWorlds.add(world);
+                awakeWorlds.add(world);
+            }
+        }
+        frozenWorlds.clear();
+        frozenWorlds.putAll(snapshot.frozenWorlds);
+        maxWorldsReached = snapshots.length;
+        currentWorldIndex = snapshot.currentWorldIndex;
+        lastUpdate = snapshot.lastUpdate;
+    }
+
+    /**
+     * Adds a world to the worlds array, increasing the value of max worlds reached.
+     *
+     * @param world the world
+     */
+    public void addWorld(World world) {
+        worlds.add(world);
+        liveWorlds.add(world);
+        awakeWorlds.add(world);
+        maxWorldsReached++;
+    }
+
+    /**
+     * Gets next world.
+     *
+     * @param game the game
+     * @return the next world
+     */
+    public World getNextWorld(Game game) {
+        // load next world and give it to user
+        // and add it to arraylist
+        currentWorldIndex++;
+        if (currentWorldIndex < maxWorldsReached) {
+            return liveWorld(currentWorldIndex, game);
+        } else if (generator == null && currentWorldIndex >= maxLevel) {
+            currentWorldIndex--;
+        } else {
+            World nextWorld;
+            if (generator != null) {
+                nextWorld = new World(generator.source(currentWorldIndex), game, storageMode);
+            } else {
+                nextWorld = readFromFile(String.format("%s%d.txt", prefix, maxWorldsReached + 1), game);
+            }
+            if (bitboards) {
+                nextWorld.enableBitboards();
+            }
+            addWorld(nextWorld);
+            evictFarWorlds();
+            return nextWorld;
+        }
+        return null;
+    }
+
+    /**
+     * Gets previous world.
+     *
+     * @param game the game
+     * @return the previous world
+     */
+    public World getPreviousWorld(Game game) {
+        currentWorldIndex--;
+        return liveWorld(currentWorldIndex, game);
+    }
+
+    /**
+     * Gets the world of the given index, thawing it if it was evicted.
+     *
+     * @param index the index of the world
+     * @param game  the game
+     * @return the world
+     */
+    private World liveWorld(int index, Game game) {
+        World world = worlds.get(index);
+        if (world == null) {
+            world = frozenWorlds.remove(index).thaw(game, storageMode, lastUpdate);
+            if (bitboards) {
+                world.enableBitboards();
+            }
+            worlds.set(index, world);
+            liveWorlds.add(world);
+            awakeWorlds.add(world);
+        }
+        evictFarWorlds();
+        return world;
+    }
+
+    /**
+     * In endless mode, freezes the worlds too far from the current one.
+     * Frozen worlds are not updated anymore, so the cost of a frame doesn't grow with the levels visited.
+     * Eviction is by whole levels, never by chunks of the current one.
+     */
+    private void evictFarWorlds() {
+        if (generator == null) {
+            return;
+        }
+        for (int i = 0; i < worlds.size(); i++) {
+            World world = worlds.get(i);
+            if (world != null && Math.abs(i - currentWorldIndex) > streamRadius) {
+                frozenWorlds.put(i, new FrozenWorld(world, lastUpdate));
+                worlds.set(i, null);
+                liveWorlds.remove(world);
+                awakeWorlds.remove(world);
+            }
+        }
+    }
+
+
+    /**
+     * Changes world.
+     *
+     * @param goingUp boolean that confirms if we go to next or previous world.
+     */
+    public void changeWorld(boolean goingUp, Game game) {
+        if (goingUp) {
+            World nextWorld = getNextWorld(game);
+            if (nextWorld == null) {
+                return;
+            } else {
+                game.setWorld(nextWorld);
+            }
+        } else {
+            game.setWorld(getPreviousWorld(game));
+        }
+        World world = game.getWorld();
+        for (Position position : world.getDoors()) {
+            Door door = (Door) world.get(position);
+            if (!door.isClosed()) {
+                if ((goingUp && door.isPrev())
+                        || !(goingUp) && !(door.isPrev())) { //Si c'est la bonne porte
+                    game.getPlayer().setPosition(position);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs the timers due on the awake worlds: moves of the monsters and phases of the bombs.
+     * The worlds left by the player fall asleep once their bombs and explosions are over,
+     * so the cost of a frame doesn't grow with the levels visited. The current world is woken up,
+     * and fast-forwarded, if it was asleep.
+     * The timers of a world only touch its own monsters and bombs: with parallel worlds, each world
+     * is updated as a task of the common ForkJoin pool, and all of them are joined before returning.
+     * What crosses worlds, the explosions hurting the player, is resolved afterwards by the simulation,
+     * world after world in the order of {@link #getAwakeWorlds()}.
+     *
+     * @param now the actual time.
+     */
+    public void updateTimersOnWorlds(long now) {
+        lastUpdate = now;
+        World current = worlds.get(currentWorldIndex);
+        if (current.isDormant()) {
+            current.wake(now, maxCatchUp);
+            awakeWorlds.add(current);
+        }
+        if (dormantWorlds) {
+            for (int i = awakeWorlds.size() - 1; i >= 0; i--) {
+                World w = awakeWorlds.get(i);
+                if (w != current && w.isSettled()) {
+                    w.sleep(now);
+                    awakeWorlds.remove(i);
+                }
+            }
+        }
+        if (parallelWorlds && awakeWorlds.size() > 1) {
+            awakeWorlds.parallelStream().forEach(w -> w.updateTimers(now));
+        } else {
+            for (World w : awakeWorlds) {
+                w.updateTimers(now);
+            }
+        }
+    }
+
+    /**
+     * Verify monster collisions with player.
+     *
+     * @param now  the actual time.
+     * @param game the game.
+     */
+    public void verifyMonsterCollisionsWithPlayer(long now, Game game) {
+        World w = worlds.get(currentWorldIndex);
+        Player player = game.getPlayer();
+        if (w.isThereAMonsterAt(player.getPosition()) && player.isVulnerable()) {
+            player.loseLife(now);
+        }
+    }
+
+    /**
+     * Gets the Zobrist hash of the state of the game: the live worlds and the player position.
+     * Only the worlds are walked, their hashes being kept up to date on every change,
+     * see {@link World#getHash()}.
+     *
+     * @param player the player
+     * @return the hash of the game state
+     */
+    public long getHash(Player player) {
+        int from = generator == null ? 0 : Math.max(0, currentWorldIndex - streamRadius);
+        int to = generator == null ? worlds.size() : Math.min(worlds.size(), currentWorldIndex + streamRadius + 1);
+        long hash = 0;
+        for (int i = from; i < to; i++) {
+            World world = worlds.get(i);
+            if (world != null) {
+                hash ^= Zobrist.world(world.getHash(), i);
+            }
+        }
+        if (currentWorldIndex >= 0) {
+            Position position = player.getPosition();
+            int cell = position.y * worlds.get(currentWorldIndex).dimension.width + position.x;
+            hash ^= Zobrist.world(Zobrist.key(cell, Zobrist.PLAYER), currentWorldIndex);
+        }
+        return hash;
+    }
+
+    /**
+     * Gets the current world.
+     *
+     * @return the current world
+     */
+    World getCurrentWorld() {
+        return worlds.get(currentWorldIndex);
+    }
+
+    /**
+     * Gets current world index.
+     *
+     * @return the current world index
+     */
+    public int getCurrentWorldIndex() {
+        return currentWorldIndex;
+    }
+
+    /**
+     * Reads a level file, streamed straight into the storage of the world, see {@link FileWorldSource}.
+     *
+     * @param filename the name of the level file
+     * @param game     the game
+     * @return the world
+     */
+    private World readFromFile(String filename, Game game) {
+        return new World(new FileWorldSource(new File(worldPath, filename)), game, storageMode);
+    }
+
+    /**
+     * Gets the current world number.
+     *
+     * @return the number of the world
+     */
+    public int getWorldNumber(){
+        return getCurrentWorldIndex() + 1;
+    }
+
+}
+
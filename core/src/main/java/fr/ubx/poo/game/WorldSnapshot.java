@@ -0,0 +1,185 @@
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.decor.Decor;
+import fr.ubx.poo.model.go.BombObject;
+import fr.ubx.poo.model.go.ExplosionObject;
+import fr.ubx.poo.model.go.character.Monster;
+import fr.ubx.poo.model.go.character.MonsterPool;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The type World snapshot.
+ * Immutable copy of the state of a world: its decors, its monsters, its bombs and its explosions in progress.
+ * Decors are kept in pages shared with the previous snapshot of the same world
+ * when they didn't change, see {@link World#snapshot()}. The pages of the chunks the world never loaded are null.
+ */
+public final class WorldSnapshot {
+    private static final Direction[] directions = Direction.values();
+
+    /**
+     * The dimension of the world.
+     */
+    final Dimension dimension;
+    /**
+     * Decors, by square pages of cells. Never written to.
+     */
+    final Decor[][] pages;
+    /**
+     * Zobrist hash of the decors.
+     */
+    final long decorHash;
+    /**
+     * Positions of the doors of the chunks loaded, see {@link World#getDoors()}.
+     */
+    final List<Position> doors;
+    /**
+     * Source the chunks left out are read from, and the chunks kept, see {@link World#settleChunks()}.
+     * Both are null if the world was loaded at once.
+     */
+    final WorldSource source;
+    final boolean[] loadedChunks;
+    private final long hash;
+    /**
+     * Monsters, as x, y, direction ordinal, lives, move period and move key.
+     */
+    private final int[] monsters;
+    private final long[] monsterTimes;
+    /**
+     * Seed of the random moves of the monsters, see {@link MonsterPool#getSeed()}.
+     */
+    private final long monsterSeed;
+    /**
+     * Bombs, as x, y, range and phase.
+     */
+    private final int[] bombs;
+    private final long[] bombTimes;
+    /**
+     * Explosions, as x, y, range and size of the zone, and their zones one after the other, as packed positions.
+     */
+    private final int[] explosions;
+    private final long[] explosionTimes;
+    private final int[] explosionZones;
+
+    /**
+     * Captures the monsters, the bombs and the explosions of a world.
+     *
+     * @param world the world
+     * @param pages the decors of the world
+     */
+    WorldSnapshot(World world, Decor[][] pages) {
+        this.dimension = world.dimension;
+        this.pages = pages;
+        this.decorHash = world.getDecorHash();
+        this.doors = new ArrayList<>(world.getLoadedDoors());
+        this.source = world.getChunkSource();
+        this.loadedChunks = world.getLoadedChunks();
+        this.hash = world.getHash();
+
+        List<Monster> living = world.getMonsters();
+        monsters = new int[living.size() * 6];
+        monsterTimes = new long[living.size()];
+        for (int i = 0; i < living.size(); i++) {
+            Monster monster = living.get(i);
+            monsters[i * 6] = monster.getPosition().x;
+            monsters[i * 6 + 1] = monster.getPosition().y;
+            monsters[i * 6 + 2] = monster.getDirection().ordinal();
+            monsters[i * 6 + 3] = monster.getLives();
+            monsters[i * 6 + 4] = monster.getTimeToAct();
+            monsters[i * 6 + 5] = monster.getMoveKey();
+            monsterTimes[i] = monster.getLastActionTime();
+        }
+        monsterSeed = world.getMonsterPool().getSeed();
+
+        List<BombObject> pending = world.getBombs();
+        bombs = new int[pending.size() * 4];
+        bombTimes = new long[pending.size()];
+        for (int i = 0; i < pending.size(); i++) {
+            BombObject bomb = pending.get(i);
+            bombs[i * 4] = bomb.getPosition().x;
+            bombs[i * 4 + 1] = bomb.getPosition().y;
+            bombs[i * 4 + 2] = bomb.getRange();
+            bombs[i * 4 + 3] = bomb.getBombPhase();
+            bombTimes[i] = bomb.getLastActionTime();
+        }
+
+        List<ExplosionObject> burning = world.getExplosions();
+        explosions = new int[burning.size() * 4];
+        explosionTimes = new long[burning.size()];
+        int zoneSize = 0;
+        for (ExplosionObject explosion : burning) {
+            zoneSize += explosion.getBombZone().size();
+        }
+        explosionZones = new int[zoneSize];
+        int next = 0;
+        for (int i = 0; i < burning.size(); i++) {
+            ExplosionObject explosion = burning.get(i);
+            explosions[i * 4] = explosion.getPosition().x;
+            explosions[i * 4 + 1] = explosion.getPosition().y;
+            explosions[i * 4 + 2] = explosion.getRange();
+            explosions[i * 4 + 3] = explosion.getBombZone().size();
+            explosionTimes[i] = explosion.getLastActionTime();
+            for (Position position : explosion.getBombZone()) {
+                explosionZones[next++] = Position.pack(position.x, position.y);
+            }
+        }
+    }
+
+    /**
+     * Gets the Zobrist hash of the world at the time of the snapshot, see {@link World#getHash()}.
+     *
+     * @return the hash of the world
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Spawns the monsters of the snapshot.
+     *
+     * @param pool the empty pool to fill, its seed is set back as well
+     */
+    void spawnMonsters(MonsterPool pool) {
+        pool.setSeed(monsterSeed);
+        for (int i = 0; i < monsterTimes.length; i++) {
+            int slot = pool.spawn(monsters[i * 6], monsters[i * 6 + 1], directions[monsters[i * 6 + 2]],
+                    monsters[i * 6 + 3], monsters[i * 6 + 4], monsters[i * 6 + 5]);
+            pool.view(slot).setLastActionTime(monsterTimes[i]);
+        }
+    }
+
+    /**
+     * Adds the bombs of the snapshot to a world.
+     *
+     * @param world the world without bombs
+     */
+    void addBombs(World world) {
+        Game bombGame = world.getMonsterPool().getGame();
+        for (int i = 0; i < bombTimes.length; i++) {
+            BombObject bomb = new BombObject(bombGame, world, dimension.position(bombs[i * 4], bombs[i * 4 + 1]),
+                    bombs[i * 4 + 2], bombTimes[i]);
+            bomb.setBombPhase(bombs[i * 4 + 3]);
+            world.addBomb(bomb);
+        }
+    }
+
+    /**
+     * Adds the explosions in progress of the snapshot to a world.
+     *
+     * @param world the world without explosions
+     */
+    void addExplosions(World world) {
+        Game explosionGame = world.getMonsterPool().getGame();
+        int next = 0;
+        for (int i = 0; i < explosionTimes.length; i++) {
+            List<Position> zone = new ArrayList<>(explosions[i * 4 + 3]);
+            for (int j = 0; j < explosions[i * 4 + 3]; j++) {
+                zone.add(dimension.position(explosionZones[next++]));
+            }
+            world.getExplosionResolver().restore(explosionGame,
+                    dimension.position(explosions[i * 4], explosions[i * 4 + 1]), explosions[i * 4 + 2],
+                    explosionTimes[i], zone);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package fr.ubx.poo.game;
+
+/**
+ * The type World source.
+ * Where the raw entities of a world are read from, a rectangle of cells at a time,
+ * so that a world is loaded without ever holding all of its raw entities at once.
+ */
+public interface WorldSource {
+    /**
+     * Gets the dimension of the world.
+     *
+     * @return the dimension
+     */
+    Dimension getDimension();
+
+    /**
+     * Reads the entities of a rectangle of cells, inside the world.
+     *
+     * @param x        the x coordinate of the top left cell
+     * @param y        the y coordinate of the top left cell
+     * @param width    the width of the rectangle
+     * @param height   the height of the rectangle
+     * @param entities the array to fill row by row, {@code width} entities per row
+     */
+    void read(int x, int y, int width, int height, WorldEntity[] entities);
+}
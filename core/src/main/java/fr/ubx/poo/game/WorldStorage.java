@@ -0,0 +1,32 @@
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.decor.Decor;
+
+/**
+ * The type World storage.
+ * Holds the decors of a world, indexed by {@code y * width + x}, empty cells being null.
+ */
+public interface WorldStorage {
+    /**
+     * Gets the number of cells.
+     *
+     * @return the number of cells
+     */
+    int size();
+
+    /**
+     * Gets the decor of the cell at the given index.
+     *
+     * @param index the index of the cell
+     * @return the decor, null if the cell is empty
+     */
+    Decor get(int index);
+
+    /**
+     * Sets the decor of the cell at the given index.
+     *
+     * @param index the index of the cell
+     * @param decor the decor, null to empty the cell
+     */
+    void set(int index, Decor decor);
+}
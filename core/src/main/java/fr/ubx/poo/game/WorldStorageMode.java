@@ -0,0 +1,53 @@
+package fr.ubx.poo.game;
+
+/**
+ * The enum World storage mode, selecting how a world keeps its decors.
+ */
+public enum WorldStorageMode {
+    /**
+     * Every decor referenced from the Java heap, see {@link HeapWorldStorage}.
+     */
+    HEAP,
+    /**
+     * One byte per cell outside of the Java heap, see {@link OffHeapWorldStorage}.
+     */
+    OFF_HEAP,
+    /**
+     * Square tiles read from the source of the world on first access, see {@link ChunkedWorldStorage}.
+     */
+    CHUNKED;
+
+    /**
+     * Creates an empty storage of this mode.
+     *
+     * @param dimension the dimension of the map
+     * @return the storage, with only empty cells
+     */
+    public WorldStorage create(Dimension dimension) {
+        int size = dimension.width * dimension.height;
+        switch (this) {
+            case OFF_HEAP:
+                return new OffHeapWorldStorage(size);
+            case CHUNKED:
+                return new ChunkedWorldStorage(dimension);
+            default:
+                return new HeapWorldStorage(size);
+        }
+    }
+
+    /**
+     * Parses a storage mode from the configuration, ignoring case and dashes.
+     *
+     * @param name the name of the mode, like "heap", "offheap" or "chunked"
+     * @return the storage mode, HEAP if the name is unknown
+     */
+    public static WorldStorageMode fromName(String name) {
+        String key = name.trim().replace("-", "").replace("_", "");
+        for (WorldStorageMode mode : values()) {
+            if (mode.name().replace("_", "").equalsIgnoreCase(key)) {
+                return mode;
+            }
+        }
+        return HEAP;
+    }
+}
@@ -0,0 +1,74 @@
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.decor.Decor;
+import fr.ubx.poo.model.decor.DecorType;
+
+/**
+ * The type Zobrist.
+ * Keys of the Zobrist hashes of the game state: every (cell, feature) pair has a random 64 bits key,
+ * and a state hashes to the xor of the keys of its features. Adding or removing a feature
+ * is then a single xor.
+ * Keys are derived from the cell and the feature with a mixing function instead of being stored,
+ * so that huge maps don't need huge tables.
+ */
+public final class Zobrist {
+    /**
+     * Feature of a cell holding a monster. Decor features are the ordinals of their types.
+     */
+    public static final int MONSTER = DecorType.values().length;
+    /**
+     * Feature of a cell holding a bomb.
+     */
+    public static final int BOMB = MONSTER + 1;
+    /**
+     * Feature of a cell holding the player.
+     */
+    public static final int PLAYER = BOMB + 1;
+    private static final int FEATURES = PLAYER + 1;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private Zobrist() {
+    }
+
+    /**
+     * Gets the key of a feature in a cell.
+     *
+     * @param cell    the index of the cell
+     * @param feature the feature
+     * @return the key
+     */
+    public static long key(int cell, int feature) {
+        return mix(((long) cell * FEATURES + feature + 1) * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Gets the key of a decor in a cell.
+     *
+     * @param cell  the index of the cell
+     * @param decor the decor
+     * @return the key, 0 for an empty cell
+     */
+    public static long decor(int cell, Decor decor) {
+        return decor == null ? 0 : key(cell, decor.getType().ordinal());
+    }
+
+    /**
+     * Mixes the hash of a world with its index, so that identical worlds at different indexes differ.
+     *
+     * @param hash  the hash of the world
+     * @param index the index of the world
+     * @return the mixed hash
+     */
+    public static long world(long hash, int index) {
+        return mix(hash + (index + 1) * GOLDEN_GAMMA);
+    }
+
+    /**
+     * SplitMix64 finalizer.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,6 +1,7 @@
 package fr.ubx.poo.model.decor.Bonus.BombBonus;
 
 import fr.ubx.poo.model.decor.Bonus.Bonus;
+import fr.ubx.poo.model.decor.DecorType;
 import fr.ubx.poo.model.go.character.Player;
 
 /**
@@ -23,9 +24,11 @@ public abstract class BombBonus extends Bonus {
     /**
      * Instantiates a new Bomb bonus.
      *
+     * @param type     the type of the bonus
      * @param increase the increase
      */
-    public BombBonus(boolean increase) {
+    public BombBonus(DecorType type, boolean increase) {
+        super(type);
         this.increase = increase;
     }
 
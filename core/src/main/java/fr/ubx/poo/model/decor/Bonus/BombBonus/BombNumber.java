@@ -1,5 +1,6 @@
 package fr.ubx.poo.model.decor.Bonus.BombBonus;
 
+import fr.ubx.poo.model.decor.DecorType;
 import fr.ubx.poo.model.go.character.Player;
 
 /**
@@ -12,7 +13,7 @@ public class BombNumber extends BombBonus {
      * @param increase the increase
      */
     public BombNumber(boolean increase) {
-        super(increase);
+        super(increase ? DecorType.BOMB_NUMBER_INC : DecorType.BOMB_NUMBER_DEC, increase);
     }
 
     /**
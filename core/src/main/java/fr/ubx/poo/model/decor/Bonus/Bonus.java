@@ -0,0 +1,25 @@
+package fr.ubx.poo.model.decor.Bonus;
+
+import fr.ubx.poo.model.decor.Decor;
+import fr.ubx.poo.model.decor.DecorType;
+
+/**
+ * The type Bonus.
+ * A bonus is walkable, and as in a classic bomberman, bonuses won't stop the bomb explosion.
+ */
+abstract public class Bonus extends Decor {
+
+    /**
+     * Instantiates a new Bonus.
+     *
+     * @param type the type of the bonus
+     */
+    public Bonus(DecorType type) {
+        super(type);
+    }
+
+    @Override
+    public String toString() {
+        return "Bonus";
+    }
+}
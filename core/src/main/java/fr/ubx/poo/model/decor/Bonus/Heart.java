@@ -1,5 +1,6 @@
 package fr.ubx.poo.model.decor.Bonus;
 
+import fr.ubx.poo.model.decor.DecorType;
 import fr.ubx.poo.model.go.character.Player;
 
 /**
@@ -7,6 +8,13 @@ import fr.ubx.poo.model.go.character.Player;
  */
 public class Heart extends Bonus {
 
+    /**
+     * Instantiates a new Heart.
+     */
+    public Heart() {
+        super(DecorType.HEART);
+    }
+
     /**
      * When obtaining a Heart, add 1 life to player.
      * @param player the player affected by the bonus.
@@ -1,12 +1,21 @@
 package fr.ubx.poo.model.decor.Bonus;
 
+import fr.ubx.poo.model.decor.DecorType;
 import fr.ubx.poo.model.go.character.Player;
 
 /**
  * The type Key.
+ * A key cannot be destroyed by a bomb.
  */
 public class Key extends Bonus {
 
+    /**
+     * Instantiates a new Key.
+     */
+    public Key() {
+        super(DecorType.KEY);
+    }
+
     /**
      * When walked on, the princess makes the player the winner.
      * @param player the player
@@ -15,9 +24,4 @@ public class Key extends Bonus {
     public void obtain(Player player) {
         player.addKey();
     }
-
-    @Override
-    public boolean isDestroyable() {
-        return false;
-    }
 }
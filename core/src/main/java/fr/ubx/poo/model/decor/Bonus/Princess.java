@@ -0,0 +1,28 @@
+package fr.ubx.poo.model.decor.Bonus;
+
+import fr.ubx.poo.model.decor.DecorType;
+import fr.ubx.poo.model.go.character.Player;
+
+/**
+ * The type Princess.
+ * The princess disappears because she is saved by the player, she cannot be killed by a bomb,
+ * and she can only be walked on by player, not by monsters.
+ */
+public class Princess extends Bonus {
+
+    /**
+     * Instantiates a new Princess.
+     */
+    public Princess() {
+        super(DecorType.PRINCESS);
+    }
+
+    /**
+     * When walked on, the princess makes the player the winner.
+     * @param player the player affected by the bonus.
+     */
+    @Override
+    public void obtain(Player player) {
+        player.wins();
+    }
+}
@@ -3,7 +3,6 @@ package fr.ubx.poo.model.decor;
 import fr.ubx.poo.game.Direction;
 import fr.ubx.poo.game.Position;
 import fr.ubx.poo.game.World;
-import fr.ubx.poo.model.go.character.Monster;
 import fr.ubx.poo.model.go.character.Player;
 
 /**
@@ -11,6 +10,13 @@ import fr.ubx.poo.model.go.character.Player;
  */
 public class Box extends Decor {
 
+    /**
+     * Instantiates a new Box.
+     */
+    public Box() {
+        super(DecorType.BOX);
+    }
+
     /**
      * Moves the box in the direction of the player.
      * @param player the player that moves the box.
@@ -18,30 +24,20 @@ public class Box extends Decor {
     @Override
     public void move(Player player) {
         Direction direction = player.getDirection();
-        Position boxAt = direction.nextPosition(player.getPosition());
         World world = player.getGame().getWorld();
+        Position boxAt = direction.nextPosition(player.getPosition(), world.dimension);
+        Position target = direction.nextPosition(boxAt, world.dimension);
 
-        if (world.get(direction.nextPosition(boxAt)) == null && world.isInside(direction.nextPosition(boxAt))) {
+        if (world.get(target) == null && world.isInside(target) && !world.isThereAMonsterAt(target)
+                && !world.isThereABombAt(target)) {
             // can move
-            for (Monster m : world.getMonsters()) {
-                if (m.getPosition().equals(direction.nextPosition(boxAt))) {
-                    return;
-                }
-            }
-            world.set(direction.nextPosition(boxAt), new Box());
+            world.beginBatch();
+            world.set(target, this);
             world.clear(boxAt);
+            world.commitBatch();
         }
     }
 
-    /**
-     * A box is destroyable by a bomb.
-     * @return true
-     */
-    @Override
-    public boolean isDestroyable() {
-        return true;
-    }
-
     @Override
     public String toString() {
         return "Box";
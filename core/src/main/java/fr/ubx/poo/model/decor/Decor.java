@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020. Laurent Réveillère
+ */
+
+package fr.ubx.poo.model.decor;
+
+import fr.ubx.poo.model.Entity;
+import fr.ubx.poo.model.go.character.Character;
+import fr.ubx.poo.model.go.character.Monster;
+import fr.ubx.poo.model.go.character.Player;
+
+/***
+ * A decor is an element that does not know its own position in the grid.
+ * Its traits come from its {@link DecorType}, and instances are shared through the {@link DecorRegistry}.
+ */
+abstract public class Decor extends Entity {
+
+    /**
+     * The type of the decor.
+     */
+    private final DecorType type;
+
+    /**
+     * Instantiates a new Decor.
+     *
+     * @param type the type of the decor
+     */
+    protected Decor(DecorType type) {
+        this.type = type;
+    }
+
+    /**
+     * Gets the type of the decor.
+     *
+     * @return the type
+     */
+    public final DecorType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the traits of the decor, see {@link DecorType}.
+     *
+     * @return the bit set of traits
+     */
+    public final int getFlags() {
+        return type.getFlags();
+    }
+
+    /**
+     * This function's behavior changes depending on the decor.
+     * @param player the player obtaining the decor.
+     */
+    public void obtain(Player player) {
+    }
+
+    /**
+     * Is walkable boolean.
+     * @param character the character
+     * @return the boolean
+     */
+    public final boolean isWalkable(Character character) {
+        return type.has(character instanceof Monster ? DecorType.WALKABLE_BY_MONSTER : DecorType.WALKABLE_BY_PLAYER);
+    }
+
+    /**
+     * Stops bomb explosion boolean.
+     * @return the boolean
+     */
+    public final boolean stopsBombExplosion() {
+        return type.has(DecorType.STOPS_BLAST);
+    }
+
+    /**
+     * Move.
+     * A decor doesn't move by default.
+     * @param player the player that moves the decor.
+     */
+    public void move(Player player) {
+
+    }
+
+    /**
+     * Is destroyable boolean.
+     * @return true if the decor is destroyed by a bomb.
+     */
+    public final boolean isDestroyable() {
+        return type.has(DecorType.DESTROYABLE);
+    }
+
+    /**
+     * Is to remove boolean.
+     * @return true if the decor should be removed when a player walks on it.
+     */
+    public final boolean isToRemove() {
+        return type.has(DecorType.REMOVED_ON_PICKUP);
+    }
+
+    @Override
+    public String toString() {
+        return type.toString();
+    }
+
+
+}
@@ -0,0 +1,63 @@
+package fr.ubx.poo.model.decor;
+
+import fr.ubx.poo.model.decor.Bonus.BombBonus.BombNumber;
+import fr.ubx.poo.model.decor.Bonus.BombBonus.BombRange;
+import fr.ubx.poo.model.decor.Bonus.Heart;
+import fr.ubx.poo.model.decor.Bonus.Key;
+import fr.ubx.poo.model.decor.Bonus.Princess;
+
+/**
+ * The type Decor registry.
+ * Decors carry no state of their own, so every cell of a given type shares the same instance.
+ */
+public final class DecorRegistry {
+    /**
+     * Shared instances, indexed by type ordinal.
+     */
+    private static final Decor[] instances = new Decor[DecorType.values().length];
+
+    static {
+        register(new Stone());
+        register(new Tree());
+        register(new Box());
+        register(new Heart());
+        register(new Key());
+        register(new Princess());
+        register(new BombNumber(true));
+        register(new BombNumber(false));
+        register(new BombRange(true));
+        register(new BombRange(false));
+        register(new Door(true, false));
+        register(new Door(false, false));
+        register(new Door(true, true));
+        register(new Door(false, true));
+    }
+
+    private DecorRegistry() {
+    }
+
+    private static void register(Decor decor) {
+        instances[decor.getType().ordinal()] = decor;
+    }
+
+    /**
+     * Gets the shared decor of the given type.
+     *
+     * @param type the type
+     * @return the decor
+     */
+    public static Decor get(DecorType type) {
+        return instances[type.ordinal()];
+    }
+
+    /**
+     * Gets the shared door matching the given state.
+     *
+     * @param closed if the door is closed.
+     * @param prev   if the door goes to a previous world.
+     * @return the door
+     */
+    public static Door door(boolean closed, boolean prev) {
+        return (Door) get(Door.typeOf(closed, prev));
+    }
+}
@@ -0,0 +1,135 @@
+package fr.ubx.poo.model.decor;
+
+/**
+ * The enum Decor type.
+ * Each type carries a bit set of traits, so that hot loops can test a bit
+ * instead of asking the decor through a virtual call.
+ */
+public enum DecorType {
+    /**
+     * Stone decor type.
+     */
+    STONE(DecorType.STOPS_BLAST),
+    /**
+     * Tree decor type.
+     */
+    TREE(DecorType.STOPS_BLAST),
+    /**
+     * Box decor type.
+     */
+    BOX(DecorType.STOPS_BLAST | DecorType.DESTROYABLE),
+    /**
+     * Heart decor type.
+     */
+    HEART(DecorType.WALKABLE_BY_PLAYER | DecorType.WALKABLE_BY_MONSTER | DecorType.DESTROYABLE | DecorType.REMOVED_ON_PICKUP),
+    /**
+     * Key decor type.
+     */
+    KEY(DecorType.WALKABLE_BY_PLAYER | DecorType.WALKABLE_BY_MONSTER | DecorType.REMOVED_ON_PICKUP),
+    /**
+     * Princess decor type.
+     */
+    PRINCESS(DecorType.WALKABLE_BY_PLAYER | DecorType.REMOVED_ON_PICKUP),
+    /**
+     * Bomb number increment bonus decor type.
+     */
+    BOMB_NUMBER_INC(DecorType.WALKABLE_BY_PLAYER | DecorType.WALKABLE_BY_MONSTER | DecorType.DESTROYABLE | DecorType.REMOVED_ON_PICKUP),
+    /**
+     * Bomb number decrement malus decor type.
+     */
+    BOMB_NUMBER_DEC(DecorType.WALKABLE_BY_PLAYER | DecorType.WALKABLE_BY_MONSTER | DecorType.DESTROYABLE | DecorType.REMOVED_ON_PICKUP),
+    /**
+     * Bomb range increment bonus decor type.
+     */
+    BOMB_RANGE_INC(DecorType.WALKABLE_BY_PLAYER | DecorType.WALKABLE_BY_MONSTER | DecorType.DESTROYABLE | DecorType.REMOVED_ON_PICKUP),
+    /**
+     * Bomb range decrement malus decor type.
+     */
+    BOMB_RANGE_DEC(DecorType.WALKABLE_BY_PLAYER | DecorType.WALKABLE_BY_MONSTER | DecorType.DESTROYABLE | DecorType.REMOVED_ON_PICKUP),
+    /**
+     * Closed door to the next world decor type.
+     */
+    DOOR_NEXT_CLOSED(DecorType.STOPS_BLAST),
+    /**
+     * Opened door to the next world decor type.
+     */
+    DOOR_NEXT_OPENED(DecorType.WALKABLE_BY_PLAYER | DecorType.STOPS_BLAST),
+    /**
+     * Closed door to the previous world decor type.
+     */
+    DOOR_PREV_CLOSED(DecorType.STOPS_BLAST),
+    /**
+     * Opened door to the previous world decor type.
+     */
+    DOOR_PREV_OPENED(DecorType.WALKABLE_BY_PLAYER | DecorType.STOPS_BLAST),
+    ;
+
+    /**
+     * The player can walk on the decor.
+     */
+    public static final int WALKABLE_BY_PLAYER = 1;
+    /**
+     * Monsters can walk on the decor.
+     */
+    public static final int WALKABLE_BY_MONSTER = 1 << 1;
+    /**
+     * The decor stops a bomb explosion.
+     */
+    public static final int STOPS_BLAST = 1 << 2;
+    /**
+     * The decor is destroyed by a bomb explosion.
+     */
+    public static final int DESTROYABLE = 1 << 3;
+    /**
+     * The decor is removed from the map when the player picks it up.
+     */
+    public static final int REMOVED_ON_PICKUP = 1 << 4;
+
+    /**
+     * Traits of every type, indexed by ordinal.
+     */
+    private static final byte[] FLAGS;
+
+    static {
+        DecorType[] types = values();
+        FLAGS = new byte[types.length];
+        for (DecorType type : types) {
+            FLAGS[type.ordinal()] = (byte) type.flags;
+        }
+    }
+
+    private final int flags;
+
+    DecorType(int flags) {
+        this.flags = flags;
+    }
+
+    /**
+     * Gets the traits of the type.
+     *
+     * @return the bit set of traits
+     */
+    public int getFlags() {
+        return flags;
+    }
+
+    /**
+     * Checks if the type has all the given traits.
+     *
+     * @param mask the traits
+     * @return true if every trait of the mask is set
+     */
+    public boolean has(int mask) {
+        return (flags & mask) == mask;
+    }
+
+    /**
+     * Gets the traits of a type from its ordinal.
+     *
+     * @param ordinal the ordinal of the type
+     * @return the bit set of traits
+     */
+    public static int flagsOf(int ordinal) {
+        return FLAGS[ordinal];
+    }
+}
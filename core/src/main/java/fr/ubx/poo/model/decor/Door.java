@@ -1,12 +1,11 @@
 package fr.ubx.poo.model.decor;
 
 import fr.ubx.poo.game.Game;
-import fr.ubx.poo.model.go.character.Character;
-import fr.ubx.poo.model.go.character.Monster;
 import fr.ubx.poo.model.go.character.Player;
 
 /**
  * The type Door.
+ * Only Player can walk on a door, and only if the door is open.
  */
 public class Door extends Decor {
     private final boolean closed;
@@ -39,10 +38,25 @@ public class Door extends Decor {
      * @param prev   if door goes to a previous world.
      */
     public Door(boolean closed, boolean prev) {
+        super(typeOf(closed, prev));
         this.closed = closed;
         this.prev = prev;
     }
 
+    /**
+     * Gets the decor type of a door.
+     *
+     * @param closed if door is closed.
+     * @param prev   if door goes to a previous world.
+     * @return the decor type
+     */
+    public static DecorType typeOf(boolean closed, boolean prev) {
+        if (prev) {
+            return closed ? DecorType.DOOR_PREV_CLOSED : DecorType.DOOR_PREV_OPENED;
+        }
+        return closed ? DecorType.DOOR_NEXT_CLOSED : DecorType.DOOR_NEXT_OPENED;
+    }
+
     @Override
     public void obtain(Player player) {
         if (!isClosed()) {
@@ -52,16 +66,4 @@ public class Door extends Decor {
         }
     }
 
-    /**
-     * Is Walkable by a character.
-     * Only Player can walk on a door, and only if the door is open.
-     * @param character the character
-     * @return true if character is a player and door is opened.
-     *         else false.
-     */
-    @Override
-    public boolean isWalkable(Character character) {
-        return !closed && !(character instanceof Monster);
-    }
-
 }
@@ -8,6 +8,13 @@ package fr.ubx.poo.model.decor;
  * The type Stone.
  */
 public class Stone extends Decor {
+    /**
+     * Instantiates a new Stone.
+     */
+    public Stone() {
+        super(DecorType.STONE);
+    }
+
     @Override
     public String toString() {
         return "Stone";
@@ -9,6 +9,13 @@ package fr.ubx.poo.model.decor;
  * The type Tree.
  */
 public class Tree extends Decor {
+    /**
+     * Instantiates a new Tree.
+     */
+    public Tree() {
+        super(DecorType.TREE);
+    }
+
     @Override
     public String toString() {
         return "Tree";
@@ -0,0 +1,139 @@
+package fr.ubx.poo.model.ecs;
+
+import fr.ubx.poo.model.go.EntityIds;
+
+import java.util.Arrays;
+
+/**
+ * The type Component store.
+ * Sparse set of the entities holding a component: the data of the component lives in dense arrays,
+ * filled from slot 0 without holes, and a sparse array maps each entity index to its slot.
+ * Systems walk the dense arrays, views find their slot in constant time.
+ * Removing an entity moves the last slot into its place.
+ */
+public abstract class ComponentStore {
+    /**
+     * Initial capacity of the dense arrays.
+     */
+    protected static final int initialCapacity = 16;
+
+    /**
+     * Slot + 1 of each entity index, 0 if the entity has no component here.
+     */
+    private int[] sparse = new int[initialCapacity];
+    private long[] entities = new long[initialCapacity];
+    private int size = 0;
+
+    /**
+     * Gets the number of entities holding the component.
+     *
+     * @return the size of the store
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the entity in the given slot.
+     *
+     * @param slot the slot
+     * @return the id of the entity
+     */
+    public long entityAt(int slot) {
+        return entities[slot];
+    }
+
+    /**
+     * Gets the slot of an entity.
+     *
+     * @param id the id of the entity
+     * @return the slot, -1 if the entity has no component here
+     */
+    public int slotOf(long id) {
+        int index = EntityIds.indexOf(id);
+        if (index < 0 || index >= sparse.length) {
+            return -1;
+        }
+        int slot = sparse[index] - 1;
+        return slot >= 0 && entities[slot] == id ? slot : -1;
+    }
+
+    /**
+     * Checks if an entity holds the component.
+     *
+     * @param id the id of the entity
+     * @return true if the entity has a slot here
+     */
+    public boolean has(long id) {
+        return slotOf(id) >= 0;
+    }
+
+    /**
+     * Gives a slot to an entity, the data of the slot being left to the caller.
+     *
+     * @param id the id of the entity
+     * @return the slot of the entity
+     */
+    protected int addEntity(long id) {
+        int slot = slotOf(id);
+        if (slot >= 0) {
+            return slot;
+        }
+        int index = EntityIds.indexOf(id);
+        if (index >= sparse.length) {
+            sparse = Arrays.copyOf(sparse, Math.max(index + 1, sparse.length * 2));
+        }
+        if (size == entities.length) {
+            int capacity = size * 2;
+            entities = Arrays.copyOf(entities, capacity);
+            grow(capacity);
+        }
+        slot = size++;
+        entities[slot] = id;
+        sparse[index] = slot + 1;
+        return slot;
+    }
+
+    /**
+     * Removes the component of an entity, if any.
+     *
+     * @param id the id of the entity
+     */
+    public void remove(long id) {
+        int slot = slotOf(id);
+        if (slot < 0) {
+            return;
+        }
+        int last = --size;
+        if (slot != last) {
+            entities[slot] = entities[last];
+            sparse[EntityIds.indexOf(entities[slot])] = slot + 1;
+            move(last, slot);
+        }
+        sparse[EntityIds.indexOf(id)] = 0;
+        clear(last);
+    }
+
+    /**
+     * Grows the data arrays.
+     *
+     * @param capacity the new capacity
+     */
+    protected abstract void grow(int capacity);
+
+    /**
+     * Moves the data of a slot to another one.
+     *
+     * @param from the slot to move
+     * @param to   the slot to move it to
+     */
+    protected abstract void move(int from, int to);
+
+    /**
+     * Clears a slot that is no longer used, dropping the references it holds.
+     *
+     * @param slot the slot
+     */
+    protected void clear(int slot) {
+    }
+}
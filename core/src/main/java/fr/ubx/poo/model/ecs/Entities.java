@@ -0,0 +1,75 @@
+package fr.ubx.poo.model.ecs;
+
+/**
+ * The type Entities.
+ * Component stores of the game objects of a game, keyed by their ids, see {@link fr.ubx.poo.model.go.EntityIds}.
+ * Game objects are views over their components, and systems update all the entities of a kind
+ * in one pass over dense arrays, see {@link FuseSystem}, {@link HealthSystem} and {@link MovementSystem}.
+ * The stores are the only copy of these components, objects without components have no state.
+ * Monsters keep their own columns in the monster pool of their world.
+ */
+public class Entities {
+    private final PositionStore positions = new PositionStore();
+    private final TimerStore timers = new TimerStore();
+    private final FuseStore fuses = new FuseStore();
+    private final HealthStore health = new HealthStore();
+    private final IntentStore intents = new IntentStore();
+
+    /**
+     * Gets the positions.
+     *
+     * @return the position store
+     */
+    public PositionStore getPositions() {
+        return positions;
+    }
+
+    /**
+     * Gets the timers.
+     *
+     * @return the timer store
+     */
+    public TimerStore getTimers() {
+        return timers;
+    }
+
+    /**
+     * Gets the bomb fuses.
+     *
+     * @return the fuse store
+     */
+    public FuseStore getFuses() {
+        return fuses;
+    }
+
+    /**
+     * Gets the health of the characters.
+     *
+     * @return the health store
+     */
+    public HealthStore getHealth() {
+        return health;
+    }
+
+    /**
+     * Gets the movement intents of the characters.
+     *
+     * @return the intent store
+     */
+    public IntentStore getIntents() {
+        return intents;
+    }
+
+    /**
+     * Removes all the components of an entity.
+     *
+     * @param id the id of the entity
+     */
+    public void destroy(long id) {
+        positions.remove(id);
+        timers.remove(id);
+        fuses.remove(id);
+        health.remove(id);
+        intents.remove(id);
+    }
+}
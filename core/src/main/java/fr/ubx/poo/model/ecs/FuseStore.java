@@ -0,0 +1,92 @@
+package fr.ubx.poo.model.ecs;
+
+import fr.ubx.poo.model.go.BombObject;
+
+import java.util.Arrays;
+
+/**
+ * The type Fuse store.
+ * Holds the fuses of the bombs: their phase, from 1 to 5 when they explode, and their range.
+ */
+public class FuseStore extends ComponentStore {
+    /**
+     * Phase of a bomb exploding.
+     */
+    public static final int EXPLODING = 5;
+
+    private byte[] phases = new byte[initialCapacity];
+    private int[] ranges = new int[initialCapacity];
+    private BombObject[] bombs = new BombObject[initialCapacity];
+
+    /**
+     * Adds or replaces the fuse of a bomb, at phase 1.
+     *
+     * @param bomb  the bomb
+     * @param range the range of the bomb
+     */
+    public void add(BombObject bomb, int range) {
+        int slot = addEntity(bomb.getId());
+        phases[slot] = 1;
+        ranges[slot] = range;
+        bombs[slot] = bomb;
+    }
+
+    /**
+     * Gets the phase of a bomb.
+     *
+     * @param slot the slot of the bomb
+     * @return the phase
+     */
+    public int phaseAt(int slot) {
+        return phases[slot];
+    }
+
+    /**
+     * Sets the phase of a bomb.
+     *
+     * @param slot  the slot of the bomb
+     * @param phase the phase
+     */
+    public void setPhaseAt(int slot, int phase) {
+        phases[slot] = (byte) phase;
+    }
+
+    /**
+     * Gets the range of a bomb.
+     *
+     * @param slot the slot of the bomb
+     * @return the range
+     */
+    public int rangeAt(int slot) {
+        return ranges[slot];
+    }
+
+    /**
+     * Gets the view of a bomb.
+     *
+     * @param slot the slot of the bomb
+     * @return the bomb
+     */
+    public BombObject bombAt(int slot) {
+        return bombs[slot];
+    }
+
+    @Override
+    protected void grow(int capacity) {
+        phases = Arrays.copyOf(phases, capacity);
+        ranges = Arrays.copyOf(ranges, capacity);
+        bombs = Arrays.copyOf(bombs, capacity);
+    }
+
+    @Override
+    protected void move(int from, int to) {
+        phases[to] = phases[from];
+        ranges[to] = ranges[from];
+        bombs[to] = bombs[from];
+    }
+
+    @Override
+    protected void clear(int slot) {
+        bombs[slot] = null;
+    }
+}
@@ -0,0 +1,81 @@
+package fr.ubx.poo.model.ecs;
+
+import fr.ubx.poo.game.TimerListener;
+import fr.ubx.poo.game.World;
+import fr.ubx.poo.model.go.BombObject;
+
+import java.util.List;
+
+/**
+ * The type Fuse system.
+ * Burns the fuses of the bombs of a game: a bomb goes to its next phase every time its timer is due,
+ * and explodes at phase {@link FuseStore#EXPLODING}. The timers live in the timer wheel of the world
+ * of each bomb, see {@link fr.ubx.poo.game.TimerWheel}, so only the bombs changing phase are visited.
+ * A bomb only touches its own slots and its own world, so the worlds can burn their fuses in parallel.
+ */
+public class FuseSystem implements TimerListener {
+    private final Entities entities;
+
+    /**
+     * Instantiates a new Fuse system.
+     *
+     * @param entities the entities of the game
+     */
+    public FuseSystem(Entities entities) {
+        this.entities = entities;
+    }
+
+    /**
+     * Schedules the next phase of a bomb, from its timer.
+     *
+     * @param bomb the bomb
+     */
+    public void schedule(BombObject bomb) {
+        TimerStore timers = entities.getTimers();
+        int timer = timers.slotOf(bomb.getId());
+        if (timer >= 0 && timers.periodAt(timer) != 0) {
+            bomb.getWorld().getTimers().schedule(this, bomb.getId(), due(timers, timer));
+        }
+    }
+
+    private static long due(TimerStore timers, int timer) {
+        return timers.lastTimeAt(timer) + timers.periodAt(timer) * 1000000L;
+    }
+
+    @Override
+    public void timerDue(long id, long due, long now) {
+        FuseStore fuses = entities.getFuses();
+        TimerStore timers = entities.getTimers();
+        int slot = fuses.slotOf(id);
+        int timer = timers.slotOf(id);
+        if (slot < 0 || timer < 0 || due != due(timers, timer) || fuses.phaseAt(slot) >= FuseStore.EXPLODING) {
+            return;
+        }
+        fuses.setPhaseAt(slot, fuses.phaseAt(slot) + 1);
+        timers.setLastTimeAt(timer, now);
+        if (fuses.phaseAt(slot) == FuseStore.EXPLODING) {
+            fuses.bombAt(slot).getWorld().getExploding().add(fuses.bombAt(slot));
+        } else {
+            schedule(fuses.bombAt(slot));
+        }
+    }
+
+    /**
+     * Moves the bombs that reached their last phase to the given list, world after world.
+     * Bombs that left the game since are skipped.
+     *
+     * @param worlds     the worlds whose timers ran
+     * @param detonating the list receiving the bombs exploding
+     */
+    public void collect(List<World> worlds, List<BombObject> detonating) {
+        FuseStore fuses = entities.getFuses();
+        for (World world : worlds) {
+            for (BombObject bomb : world.getExploding()) {
+                if (fuses.has(bomb.getId())) {
+                    detonating.add(bomb);
+                }
+            }
+            world.getExploding().clear();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package fr.ubx.poo.model.ecs;
+
+import java.util.Arrays;
+
+/**
+ * The type Health store.
+ * Holds the health of the entities: their number of lives and if they are invulnerable,
+ * the invulnerability wearing off with their timer, see {@link HealthSystem}.
+ */
+public class HealthStore extends ComponentStore {
+    private int[] lives = new int[initialCapacity];
+    private boolean[] invulnerables = new boolean[initialCapacity];
+
+    /**
+     * Adds or replaces the health of an entity, vulnerable.
+     *
+     * @param id    the id of the entity
+     * @param lives the number of lives
+     */
+    public void add(long id, int lives) {
+        int slot = addEntity(id);
+        this.lives[slot] = lives;
+        invulnerables[slot] = false;
+    }
+
+    /**
+     * Gets the lives of an entity.
+     *
+     * @param slot the slot of the entity
+     * @return the number of lives
+     */
+    public int livesAt(int slot) {
+        return lives[slot];
+    }
+
+    /**
+     * Sets the lives of an entity.
+     *
+     * @param slot  the slot of the entity
+     * @param lives the number of lives
+     */
+    public void setLivesAt(int slot, int lives) {
+        this.lives[slot] = lives;
+    }
+
+    /**
+     * Checks if an entity is invulnerable.
+     *
+     * @param slot the slot of the entity
+     * @return true if the entity can't lose a life
+     */
+    public boolean isInvulnerableAt(int slot) {
+        return invulnerables[slot];
+    }
+
+    /**
+     * Sets if an entity is invulnerable.
+     *
+     * @param slot         the slot of the entity
+     * @param invulnerable true if the entity can't lose a life
+     */
+    public void setInvulnerableAt(int slot, boolean invulnerable) {
+        invulnerables[slot] = invulnerable;
+    }
+
+    @Override
+    protected void grow(int capacity) {
+        lives = Arrays.copyOf(lives, capacity);
+        invulnerables = Arrays.copyOf(invulnerables, capacity);
+    }
+
+    @Override
+    protected void move(int from, int to) {
+        lives[to] = lives[from];
+        invulnerables[to] = invulnerables[from];
+    }
+}
@@ -0,0 +1,37 @@
+package fr.ubx.poo.model.ecs;
+
+/**
+ * The type Health system.
+ * Wears off the invulnerability of the entities, in one pass over the health store:
+ * an entity hurt stays invulnerable until its timer is due, see {@link TimerStore#isDue(int, long)}.
+ */
+public class HealthSystem {
+    private final Entities entities;
+
+    /**
+     * Instantiates a new Health system.
+     *
+     * @param entities the entities of the game
+     */
+    public HealthSystem(Entities entities) {
+        this.entities = entities;
+    }
+
+    /**
+     * Makes vulnerable again the entities whose invulnerability is over.
+     *
+     * @param now the time of the tick
+     */
+    public void update(long now) {
+        HealthStore health = entities.getHealth();
+        TimerStore timers = entities.getTimers();
+        for (int slot = 0; slot < health.size(); slot++) {
+            if (health.isInvulnerableAt(slot)) {
+                int timer = timers.slotOf(health.entityAt(slot));
+                if (timer >= 0 && timers.isDue(timer, now)) {
+                    health.setInvulnerableAt(slot, false);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package fr.ubx.poo.model.ecs;
+
+import fr.ubx.poo.game.Direction;
+import fr.ubx.poo.model.go.character.Character;
+
+import java.util.Arrays;
+
+/**
+ * The type Intent store.
+ * Holds the movement intent of the characters: the direction they face and if they asked to move there,
+ * the moves being run by the {@link MovementSystem}.
+ */
+public class IntentStore extends ComponentStore {
+    private static final Direction[] directions = Direction.values();
+
+    /**
+     * Ordinal of the direction faced, -1 for none.
+     */
+    private byte[] facings = new byte[initialCapacity];
+    private boolean[] requested = new boolean[initialCapacity];
+    private Character[] characters = new Character[initialCapacity];
+
+    /**
+     * Adds or replaces the intent of a character, without move requested.
+     *
+     * @param character the character
+     * @param facing    the direction faced, may be null
+     */
+    public void add(Character character, Direction facing) {
+        int slot = addEntity(character.getId());
+        setFacingAt(slot, facing);
+        requested[slot] = false;
+        characters[slot] = character;
+    }
+
+    /**
+     * Gets the direction faced by a character.
+     *
+     * @param slot the slot of the character
+     * @return the direction, null if there is none
+     */
+    public Direction facingAt(int slot) {
+        return facings[slot] < 0 ? null : directions[facings[slot]];
+    }
+
+    /**
+     * Sets the direction faced by a character.
+     *
+     * @param slot   the slot of the character
+     * @param facing the direction, may be null
+     */
+    public void setFacingAt(int slot, Direction facing) {
+        facings[slot] = (byte) (facing == null ? -1 : facing.ordinal());
+    }
+
+    /**
+     * Checks if a character asked to move.
+     *
+     * @param slot the slot of the character
+     * @return true if a move is requested
+     */
+    public boolean isRequestedAt(int slot) {
+        return requested[slot];
+    }
+
+    /**
+     * Sets if a character asked to move.
+     *
+     * @param slot      the slot of the character
+     * @param requested true if a move is requested
+     */
+    public void setRequestedAt(int slot, boolean requested) {
+        this.requested[slot] = requested;
+    }
+
+    /**
+     * Gets the view of a character.
+     *
+     * @param slot the slot of the character
+     * @return the character
+     */
+    public Character characterAt(int slot) {
+        return characters[slot];
+    }
+
+    @Override
+    protected void grow(int capacity) {
+        facings = Arrays.copyOf(facings, capacity);
+        requested = Arrays.copyOf(requested, capacity);
+        characters = Arrays.copyOf(characters, capacity);
+    }
+
+    @Override
+    protected void move(int from, int to) {
+        facings[to] = facings[from];
+        requested[to] = requested[from];
+        characters[to] = characters[from];
+    }
+
+    @Override
+    protected void clear(int slot) {
+        characters[slot] = null;
+    }
+}
@@ -0,0 +1,40 @@
+package fr.ubx.poo.model.ecs;
+
+import fr.ubx.poo.game.Direction;
+import fr.ubx.poo.model.go.character.Character;
+
+/**
+ * The type Movement system.
+ * Runs the moves requested by the characters since the previous tick, in one pass over the intent store.
+ * A character moves one cell in the direction it faces, if it can, see {@link Character#canMove(Direction)}.
+ * Monsters are not in the store, their moves being picked by the pool of their world.
+ */
+public class MovementSystem {
+    private final Entities entities;
+
+    /**
+     * Instantiates a new Movement system.
+     *
+     * @param entities the entities of the game
+     */
+    public MovementSystem(Entities entities) {
+        this.entities = entities;
+    }
+
+    /**
+     * Moves the characters that asked to, and clears their requests.
+     */
+    public void update() {
+        IntentStore intents = entities.getIntents();
+        for (int slot = 0; slot < intents.size(); slot++) {
+            if (intents.isRequestedAt(slot)) {
+                intents.setRequestedAt(slot, false);
+                Character character = intents.characterAt(slot);
+                Direction direction = intents.facingAt(slot);
+                if (character.canMove(direction)) {
+                    character.doMove(direction);
+                }
+            }
+        }
+    }
+}
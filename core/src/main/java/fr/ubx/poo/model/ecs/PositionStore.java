@@ -0,0 +1,86 @@
+package fr.ubx.poo.model.ecs;
+
+import fr.ubx.poo.game.Position;
+
+import java.util.Arrays;
+
+/**
+ * The type Position store.
+ * Holds the coordinates of the entities, along with their shared position objects.
+ */
+public class PositionStore extends ComponentStore {
+    private int[] xs = new int[initialCapacity];
+    private int[] ys = new int[initialCapacity];
+    private Position[] positions = new Position[initialCapacity];
+
+    /**
+     * Adds or replaces the position of an entity.
+     *
+     * @param id       the id of the entity
+     * @param position the position, may be null
+     */
+    public void add(long id, Position position) {
+        setAt(addEntity(id), position);
+    }
+
+    /**
+     * Gets the position of an entity.
+     *
+     * @param slot the slot of the entity
+     * @return the position
+     */
+    public Position at(int slot) {
+        return positions[slot];
+    }
+
+    /**
+     * Sets the position of an entity.
+     *
+     * @param slot     the slot of the entity
+     * @param position the position, may be null
+     */
+    public void setAt(int slot, Position position) {
+        positions[slot] = position;
+        xs[slot] = position == null ? 0 : position.x;
+        ys[slot] = position == null ? 0 : position.y;
+    }
+
+    /**
+     * Gets the x coordinate of an entity.
+     *
+     * @param slot the slot of the entity
+     * @return the x coordinate
+     */
+    public int xAt(int slot) {
+        return xs[slot];
+    }
+
+    /**
+     * Gets the y coordinate of an entity.
+     *
+     * @param slot the slot of the entity
+     * @return the y coordinate
+     */
+    public int yAt(int slot) {
+        return ys[slot];
+    }
+
+    @Override
+    protected void grow(int capacity) {
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        positions = Arrays.copyOf(positions, capacity);
+    }
+
+    @Override
+    protected void move(int from, int to) {
+        xs[to] = xs[from];
+        ys[to] = ys[from];
+        positions[to] = positions[from];
+    }
+
+    @Override
+    protected void clear(int slot) {
+        positions[slot] = null;
+    }
+}
@@ -0,0 +1,91 @@
+package fr.ubx.poo.model.ecs;
+
+import java.util.Arrays;
+
+/**
+ * The type Timer store.
+ * Holds the timers of the entities: the time of their last action and the period between two actions.
+ */
+public class TimerStore extends ComponentStore {
+    private long[] lastTimes = new long[initialCapacity];
+    /**
+     * Time in milliseconds between two actions, 0 if the entity never acts.
+     */
+    private int[] periods = new int[initialCapacity];
+
+    /**
+     * Adds or replaces the timer of an entity.
+     *
+     * @param id       the id of the entity
+     * @param period   the time in milliseconds between two actions
+     * @param lastTime the time of the last action
+     */
+    public void add(long id, int period, long lastTime) {
+        int slot = addEntity(id);
+        periods[slot] = period;
+        lastTimes[slot] = lastTime;
+    }
+
+    /**
+     * Checks if it is time for an entity to act again.
+     *
+     * @param slot the slot of the entity
+     * @param now  the time of the frame
+     * @return true if the period elapsed since the last action
+     */
+    public boolean isDue(int slot, long now) {
+        return periods[slot] != 0 && now - lastTimes[slot] > periods[slot] * 1000000L;
+    }
+
+    /**
+     * Gets the time of the last action of an entity.
+     *
+     * @param slot the slot of the entity
+     * @return the time of the last action
+     */
+    public long lastTimeAt(int slot) {
+        return lastTimes[slot];
+    }
+
+    /**
+     * Sets the time of the last action of an entity.
+     *
+     * @param slot     the slot of the entity
+     * @param lastTime the time of the last action
+     */
+    public void setLastTimeAt(int slot, long lastTime) {
+        lastTimes[slot] = lastTime;
+    }
+
+    /**
+     * Gets the period of an entity.
+     *
+     * @param slot the slot of the entity
+     * @return the time in milliseconds between two actions
+     */
+    public int periodAt(int slot) {
+        return periods[slot];
+    }
+
+    /**
+     * Sets the period of an entity.
+     *
+     * @param slot   the slot of the entity
+     * @param period the time in milliseconds between two actions
+     */
+    public void setPeriodAt(int slot, int period) {
+        periods[slot] = period;
+    }
+
+    @Override
+    protected void grow(int capacity) {
+        lastTimes = Arrays.copyOf(lastTimes, capacity);
+        periods = Arrays.copyOf(periods, capacity);
+    }
+
+    @Override
+    protected void move(int from, int to) {
+        lastTimes[to] = lastTimes[from];
+        periods[to] = periods[from];
+    }
+}
@@ -0,0 +1,175 @@
+package fr.ubx.poo.model.go;
+
+import fr.ubx.poo.game.Bitboards;
+import fr.ubx.poo.game.Direction;
+import fr.ubx.poo.game.Game;
+import fr.ubx.poo.game.Position;
+import fr.ubx.poo.game.World;
+import fr.ubx.poo.model.decor.Decor;
+import fr.ubx.poo.model.decor.DecorType;
+import fr.ubx.poo.model.ecs.FuseStore;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The type Bomb object.
+ * Its phase and range live in the fuse store of the game, burnt by the {@link fr.ubx.poo.model.ecs.FuseSystem}
+ * through the timers of its world.
+ */
+public class BombObject extends GameObject {
+    /**
+     *
+     */
+    private final World world;
+
+    /**
+     * Gets world.
+     *
+     * @return the world
+     */
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * Sets bomb phase, used to display the right sprite and to explode at the right time.
+     *
+     * @param bombPhase the bomb phase
+     */
+    public void setBombPhase(int bombPhase) {
+        FuseStore fuses = game.getEntities().getFuses();
+        fuses.setPhaseAt(componentSlot(fuses), bombPhase);
+    }
+
+    /**
+     * Gets bomb phase.
+     *
+     * @return the bomb phase
+     */
+    public int getBombPhase() {
+        FuseStore fuses = game.getEntities().getFuses();
+        return fuses.phaseAt(componentSlot(fuses));
+    }
+
+    /**
+     * Gets range.
+     *
+     * @return the range
+     */
+    public int getRange() {
+        FuseStore fuses = game.getEntities().getFuses();
+        return fuses.rangeAt(componentSlot(fuses));
+    }
+
+
+    /**
+     * Instantiate a new BombObject.
+     * @param game the game to instantiate the gameObject.
+     * @param position position of the bomb.
+     * @param range range of the bomb.
+     * @param now time of the frame used to calculate how much time passes for
+     *            the bomb phases.
+     */
+    public BombObject(Game game, Position position, int range, long now) {
+        this(game, game.getWorld(), position, range, now);
+    }
+
+    /**
+     * Instantiate a new BombObject in the given world.
+     * @param game the game to instantiate the gameObject.
+     * @param world the world of the bomb.
+     * @param position position of the bomb.
+     * @param range range of the bomb.
+     * @param now time of the frame used to calculate how much time passes for
+     *            the bomb phases.
+     */
+    public BombObject(Game game, World world, Position position, int range, long now) {
+        super(game, position);
+        this.world = world;
+        super.setTimeToAct(1000); // bomb changes phase every 1000 ms
+        super.setLastActionTime(now);
+        game.getEntities().getFuses().add(this, range);
+        game.getFuseSystem().schedule(this);
+    }
+
+    /**
+     * Sets last action time, scheduling the next phase of the bomb from it.
+     *
+     * @param lastActionTime the last action time
+     */
+    @Override
+    public void setLastActionTime(long lastActionTime) {
+        super.setLastActionTime(lastActionTime);
+        if (game.getEntities().getFuses().has(getId())) {
+            game.getFuseSystem().schedule(this);
+        }
+    }
+
+    /**
+     * This function maps the area the bomb exploded at.
+     * It is used by the ExplosionObject to interact with the map, monsters and player,
+     * but also by the SpriteExplosion to display explosions at the right spot.
+     *
+     * The zone is shared through the blast zone cache of the world, see {@link World#getBlastZone(Position, int)}.
+     * @return the read only list containing the positions the bomb exploded at.
+     */
+    public List<Position> getBombZone() {
+        return world.getBlastZone(getPosition(), getRange());
+    }
+
+    /**
+     * Computes the area a bomb explodes at.
+     *
+     * It goes in all directions, and registers the area it can explode in in an ArrayList.
+     * The explosion stops if it encounters a decor that stops the bomb explosion.
+     * If this decor is destroyable, it is added anyway to display the explosion in the game engine.
+     * @param world the world of the bomb.
+     * @param center the position of the bomb.
+     * @param range the range of the bomb.
+     * @return the arraylist containing the positions the bomb explodes at.
+     */
+    public static ArrayList<Position> computeBombZone(World world, Position center, int range) {
+        ArrayList<Position> positionArrayList = new ArrayList<>();
+        positionArrayList.add(center);
+        Bitboards bitboards = world.getBitboards();
+        if (bitboards != null) {
+            // Each ray is found with a few word operations on the bitboards
+            for (Direction d : Direction.values()) {
+                int length = bitboards.ray(center.x, center.y, d, range);
+                for (int i = 1; i <= length; i++) {
+                    positionArrayList.add(world.dimension.position(center.x + d.dx * i, center.y + d.dy * i));
+                }
+            }
+            return positionArrayList;
+        }
+        for (Direction d : Direction.values()) {  // for each direction
+            int x = center.x; // resets starting point at the center before each for call
+            int y = center.y;
+            for (int i = 0; i < range; i++) { // range times
+                x += d.dx;
+                y += d.dy;
+
+                if (!world.isInside(x, y)) {
+                    break;
+                }
+                Decor decor = world.get(x, y);
+                if (decor != null) {
+                    int flags = decor.getFlags();
+                    if ((flags & DecorType.STOPS_BLAST) != 0) {
+                        if ((flags & DecorType.DESTROYABLE) != 0) {
+                            positionArrayList.add(world.dimension.position(x, y));
+                            break;
+                        }
+                        break;
+                    } else {
+                        positionArrayList.add(world.dimension.position(x, y));
+                    }
+                } else {
+                    positionArrayList.add(world.dimension.position(x, y));
+                }
+            }
+        }
+        return positionArrayList;
+    }
+}
\ No newline at end of file
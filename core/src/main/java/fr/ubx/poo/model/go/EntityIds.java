@@ -0,0 +1,92 @@
+package fr.ubx.poo.model.go;
+
+import java.util.Arrays;
+
+/**
+ * The type Entity ids.
+ * Allocates the ids of the game objects. An id packs an index, in its low 32 bits,
+ * and the generation of that index, in its high 32 bits. Indexes are reused once released,
+ * with a new generation, so an id is never given twice and a stale id is recognized as such.
+ * Ids are allocated and released under the lock of the allocator: worlds updated in parallel spawn monsters
+ * as the chunks of their maps load, see {@link fr.ubx.poo.game.World#settleChunks()}.
+ */
+public class EntityIds {
+    /**
+     * Id of no entity.
+     */
+    public static final long NONE = -1;
+
+    private int[] generations = new int[64];
+    private int[] freeIndexes = new int[64];
+    private int freeCount = 0;
+    private int nextIndex = 0;
+    private int aliveCount = 0;
+
+    /**
+     * Allocates a new id.
+     *
+     * @return the id
+     */
+    public synchronized long allocate() {
+        int index;
+        if (freeCount > 0) {
+            index = freeIndexes[--freeCount];
+        } else {
+            index = nextIndex++;
+            if (index == generations.length) {
+                generations = Arrays.copyOf(generations, index * 2);
+            }
+        }
+        aliveCount++;
+        return ((long) generations[index] << 32) | index;
+    }
+
+    /**
+     * Releases an id, its index being reused by a later allocation.
+     * Releasing a stale id does nothing.
+     *
+     * @param id the id
+     */
+    public synchronized void release(long id) {
+        if (!isAlive(id)) {
+            return;
+        }
+        int index = indexOf(id);
+        generations[index]++;
+        if (freeCount == freeIndexes.length) {
+            freeIndexes = Arrays.copyOf(freeIndexes, freeCount * 2);
+        }
+        freeIndexes[freeCount++] = index;
+        aliveCount--;
+    }
+
+    /**
+     * Checks if an id is allocated and not released yet.
+     *
+     * @param id the id
+     * @return true if the id is alive
+     */
+    public synchronized boolean isAlive(long id) {
+        int index = indexOf(id);
+        return id != NONE && index >= 0 && index < nextIndex && generations[index] == (int) (id >>> 32);
+    }
+
+    /**
+     * Gets the number of ids alive.
+     *
+     * @return the number of ids alive
+     */
+    public synchronized int size() {
+        return aliveCount;
+    }
+
+    /**
+     * Gets the index of an id, dense and suitable for arrays.
+     *
+     * @param id the id
+     * @return the index
+     */
+    public static int indexOf(long id) {
+        return (int) id;
+    }
+}
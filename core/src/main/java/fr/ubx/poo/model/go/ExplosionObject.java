@@ -0,0 +1,159 @@
+package fr.ubx.poo.model.go;
+
+import fr.ubx.poo.game.Game;
+import fr.ubx.poo.game.Position;
+import fr.ubx.poo.game.World;
+import fr.ubx.poo.model.decor.Decor;
+import fr.ubx.poo.model.decor.DecorType;
+import fr.ubx.poo.model.go.character.Monster;
+import fr.ubx.poo.model.go.character.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The type Explosion object.
+ * An explosion damages its zone when it is ignited, then stays in its world for {@link #DURATION}
+ * milliseconds before it expires. Expired explosions are pooled by the {@link ExplosionResolver}
+ * and ignited again for later blasts, with a new id.
+ */
+public class ExplosionObject extends GameObject {
+    /**
+     * Time in milliseconds an explosion lasts.
+     */
+    public static final int DURATION = 1000;
+
+    /**
+     * The Range of the bomb.
+     */
+    int range;
+
+    /**
+     * The positions blasted by the explosion.
+     */
+    private final ArrayList<Position> bombZone = new ArrayList<>();
+    private World world;
+
+    /**
+     * Instantiates a new Explosion object, not ignited yet.
+     *
+     * @param game the game
+     */
+    ExplosionObject(Game game) {
+        super(game, EntityIds.NONE);
+    }
+
+    /**
+     * Ignites the explosion, damaging the entities of its zone.
+     *
+     * @param position  the position of the explosion.
+     * @param range     the range of the bomb.
+     * @param now       the time of the frame.
+     * @param bombZone  the bomb zone to interact with entities in this zone.
+     * @param bombWorld the world the bomb was dropped in (not necessarily the current world)
+     */
+    void ignite(Position position, int range, long now, List<Position> bombZone, World bombWorld) {
+        resume(position, range, now, bombZone, bombWorld);
+        damageEntities(now, this.bombZone, bombWorld);
+    }
+
+    /**
+     * Puts the explosion back in the state it was ignited in, without damaging its zone again.
+     *
+     * @param position  the position of the explosion.
+     * @param range     the range of the bomb.
+     * @param time      the time the explosion was ignited.
+     * @param bombZone  the positions blasted by the explosion.
+     * @param bombWorld the world the bomb was dropped in
+     */
+    void resume(Position position, int range, long time, List<Position> bombZone, World bombWorld) {
+        renewId();
+        attach(position, DURATION, time);
+        this.range = range;
+        this.world = bombWorld;
+        this.bombZone.clear();
+        this.bombZone.addAll(bombZone);
+    }
+
+    /**
+     * Gets the range of the bomb.
+     *
+     * @return the range
+     */
+    public int getRange() {
+        return range;
+    }
+
+    /**
+     * Checks if the explosion is over.
+     *
+     * @param now the time of the frame.
+     * @return true if the explosion lasted {@link #DURATION} milliseconds.
+     */
+    public boolean isExpired(long now) {
+        return now - getLastActionTime() > DURATION * 1000000L;
+    }
+
+    /**
+     * Gets the part of its lifetime the explosion has left.
+     *
+     * @param now the time of the frame.
+     * @return 1 when the explosion is ignited, down to 0 once it is expired.
+     */
+    public double getRemainingLife(long now) {
+        double elapsed = (now - getLastActionTime()) / (DURATION * 1000000.0);
+        return Math.max(0, Math.min(1, 1 - elapsed));
+    }
+
+    /**
+     * Gets the positions blasted by the explosion.
+     *
+     * @return the bomb zone
+     */
+    public ArrayList<Position> getBombZone() {
+        return bombZone;
+    }
+
+    /**
+     * Gets world.
+     *
+     * @return the world the explosion is in
+     */
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * Damage entities present in the bombZone.
+     * @param now the time of the frame.
+     * @param bombZone the bomb zone to interact with entities in this zone.
+     * @param bombWorld the world the bomb was dropped in (not necessarily the current world).
+     */
+    private void damageEntities(long now, ArrayList<Position> bombZone, World bombWorld) {
+
+        Player player = game.getPlayer();
+
+        // The destroyed decors are published as a single change
+        bombWorld.beginBatch();
+        for (Position position : bombZone) {
+            // Player case
+            if (player.getPosition().equals(position) && player.isVulnerable()) {
+                player.loseLife(now);
+            }
+            // Monster case
+            Monster monster = bombWorld.getMonsterAt(position);
+            if (monster != null) {
+                monster.loseLife();
+            }
+            // Decor case
+            Decor decor = bombWorld.get(position);
+            if (decor != null) {
+                if ((decor.getFlags() & DecorType.DESTROYABLE) != 0) {
+                    bombWorld.clear(position);
+                }
+            }
+            // Bombs in the zone were already chained by the ExplosionResolver
+        }
+        bombWorld.commitBatch();
+    }
+}
@@ -0,0 +1,118 @@
+package fr.ubx.poo.model.go;
+
+import fr.ubx.poo.game.Game;
+import fr.ubx.poo.game.Position;
+import fr.ubx.poo.game.SparseIntGrid;
+import fr.ubx.poo.game.World;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The type Explosion resolver.
+ * Resolves in a single pass every bomb detonating in a world during a frame,
+ * including the bombs they chain into, and merges their blasts.
+ */
+public class ExplosionResolver {
+    private final World world;
+    /**
+     * Marks the cells already blasted, a cell is blasted if its stamp equals the current epoch.
+     * This avoids clearing the stamps between two resolutions. Only the tiles blasted are allocated.
+     */
+    private final SparseIntGrid stamps;
+    private int epoch = 0;
+    /**
+     * Expired explosions, ready to be ignited again.
+     */
+    private final ArrayDeque<ExplosionObject> freeExplosions = new ArrayDeque<>();
+
+    /**
+     * Instantiates a new Explosion resolver.
+     *
+     * @param world the world the bombs are in
+     */
+    public ExplosionResolver(World world) {
+        this.world = world;
+        this.stamps = new SparseIntGrid(world.dimension.width, world.dimension.height);
+    }
+
+    /**
+     * Resolves the chain reaction started by the given bombs.
+     * The bombs are visited breadth first: every bomb reached by a blast explodes as well,
+     * and every blasted cell is reported once.
+     * All the bombs involved are set to bomb phase 5.
+     *
+     * @param bombs the bombs detonating
+     * @return the positions blasted, without duplicates
+     */
+    public ArrayList<Position> resolve(List<BombObject> bombs) {
+        epoch++;
+        ArrayList<Position> blasted = new ArrayList<>();
+        ArrayDeque<BombObject> queue = new ArrayDeque<>(bombs);
+        for (BombObject bomb : bombs) {
+            bomb.setBombPhase(5);
+        }
+        while (!queue.isEmpty()) {
+            BombObject bomb = queue.poll();
+            for (Position position : bomb.getBombZone()) {
+                if (stamps.get(position.x, position.y) == epoch) {
+                    continue;
+                }
+                stamps.set(position.x, position.y, epoch);
+                blasted.add(position);
+                BombObject chained = world.getBombAt(position);
+                if (chained != null && chained.getBombPhase() != 5) {
+                    chained.setBombPhase(5);
+                    queue.add(chained);
+                }
+            }
+        }
+        return blasted;
+    }
+
+    /**
+     * Detonates the given bombs and the bombs they chain into,
+     * applying a single explosion on the merged blast.
+     *
+     * @param game  the game
+     * @param now   the time of the frame
+     * @param bombs the bombs detonating, not empty
+     * @return the explosion
+     */
+    public ExplosionObject detonate(Game game, long now, List<BombObject> bombs) {
+        BombObject first = bombs.get(0);
+        ArrayList<Position> blasted = resolve(bombs);
+        ExplosionObject explosion = freeExplosions.isEmpty() ? new ExplosionObject(game) : freeExplosions.pop();
+        explosion.ignite(first.getPosition(), first.getRange(), now, blasted, world);
+        world.getExplosions().add(explosion);
+        return explosion;
+    }
+
+    /**
+     * Adds back an explosion in progress, as captured by a snapshot, without damaging its zone again.
+     *
+     * @param game     the game
+     * @param position the position of the explosion
+     * @param range    the range of the bomb
+     * @param time     the time the explosion was ignited
+     * @param zone     the positions blasted by the explosion
+     * @return the explosion
+     */
+    public ExplosionObject restore(Game game, Position position, int range, long time, List<Position> zone) {
+        ExplosionObject explosion = freeExplosions.isEmpty() ? new ExplosionObject(game) : freeExplosions.pop();
+        explosion.resume(position, range, time, zone, world);
+        world.getExplosions().add(explosion);
+        return explosion;
+    }
+
+    /**
+     * Gives back an expired explosion, to be ignited again by a later detonation.
+     *
+     * @param explosion the explosion, removed from its world
+     */
+    public void recycle(ExplosionObject explosion) {
+        explosion.releaseId();
+        freeExplosions.push(explosion);
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2020. Laurent Réveillère
+ */
+
+package fr.ubx.poo.model.go;
+
+import fr.ubx.poo.game.Game;
+import fr.ubx.poo.game.Position;
+import fr.ubx.poo.model.Entity;
+import fr.ubx.poo.model.ecs.ComponentStore;
+import fr.ubx.poo.model.ecs.Entities;
+import fr.ubx.poo.model.ecs.PositionStore;
+import fr.ubx.poo.model.ecs.TimerStore;
+
+/***
+ * A GameObject can access the game and knows its position in the grid.
+ * Its position and timer live in the component stores of the game, see {@link Entities}:
+ * the object is a view over them, holding no copy. An object without components,
+ * because it left the game or isn't part of it yet, has no state to read.
+ */
+public abstract class GameObject extends Entity {
+    /**
+     * The Game.
+     */
+    protected final Game game;
+
+    /**
+     * Its stable id, see {@link EntityIds}.
+     */
+    private long id;
+
+    /**
+     * Gets last action time.
+     * It is the same type as 'long now' in update loops,
+     * it remembers the 'now' variable at the time of the last action.
+     *
+     * @return the last action time
+     */
+    public long getLastActionTime() {
+        TimerStore timers = game.getEntities().getTimers();
+        return timers.lastTimeAt(componentSlot(timers));
+    }
+
+    /**
+     * Sets last action time.
+     *
+     * @param lastActionTime the last action time
+     */
+    public void setLastActionTime(long lastActionTime) {
+        TimerStore timers = game.getEntities().getTimers();
+        timers.setLastTimeAt(componentSlot(timers), lastActionTime);
+    }
+
+    /**
+     * Gets time to act.
+     *
+     * @return the time in milliseconds between actions
+     */
+    public int getTimeToAct() {
+        TimerStore timers = game.getEntities().getTimers();
+        return timers.periodAt(componentSlot(timers));
+    }
+
+    /**
+     * Sets time to act.
+     *
+     * @param timeToAct the time in milliseconds between actions
+     */
+    public void setTimeToAct(int timeToAct) {
+        TimerStore timers = game.getEntities().getTimers();
+        timers.setPeriodAt(componentSlot(timers), timeToAct);
+    }
+
+    /**
+     * Update the gameObject each frame.
+     * @param now the time of the frame.
+     */
+    public void update(long now){}
+
+
+    /**
+     * Gets position.
+     *
+     * @return the position
+     */
+    public Position getPosition() {
+        PositionStore positions = game.getEntities().getPositions();
+        return positions.at(componentSlot(positions));
+    }
+
+    /**
+     * Sets position.
+     *
+     * @param position the position
+     */
+    public void setPosition(Position position) {
+        PositionStore positions = game.getEntities().getPositions();
+        positions.setAt(componentSlot(positions), position);
+    }
+
+    /**
+     * Instantiates a new Game object, with its components.
+     *
+     * @param game     the game
+     * @param position the position the gameObject spawns at.
+     */
+    public GameObject(Game game, Position position) {
+        this(game, game.getEntityIds().allocate());
+        attach(position, 0, 0);
+    }
+
+    /**
+     * Instantiates a new Game object with a given id, without components.
+     *
+     * @param game the game
+     * @param id   the id of the object, allocated by the ids of the game
+     */
+    protected GameObject(Game game, long id) {
+        this.game = game;
+        this.id = id;
+    }
+
+    /**
+     * Gets the id of the object.
+     * It doesn't change during the life of the object and isn't given to any other object.
+     *
+     * @return the id
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Releases the id of the object, once it left the game, along with its components.
+     */
+    public void releaseId() {
+        game.getEntities().destroy(id);
+        game.getEntityIds().release(id);
+    }
+
+    /**
+     * Gives the object a new id, releasing the previous one and its components.
+     * Used by the pooled objects, which start a new life when they are reused.
+     * The new id has no components until {@link #attach(Position, int, long)} is called.
+     */
+    protected void renewId() {
+        releaseId();
+        id = game.getEntityIds().allocate();
+    }
+
+    /**
+     * Gives the object its position and timer components.
+     *
+     * @param position       the position
+     * @param timeToAct      the time in milliseconds between actions
+     * @param lastActionTime the time of the last action
+     */
+    protected final void attach(Position position, int timeToAct, long lastActionTime) {
+        Entities entities = game.getEntities();
+        entities.getPositions().add(id, position);
+        entities.getTimers().add(id, timeToAct, lastActionTime);
+    }
+
+    /**
+     * Gets the slot of the object in a component store.
+     *
+     * @param store the store
+     * @return the slot
+     * @throws IllegalStateException if the object has no component there.
+     */
+    protected final int componentSlot(ComponentStore store) {
+        int slot = store.slotOf(id);
+        if (slot < 0) {
+            throw new IllegalStateException("Game object without components");
+        }
+        return slot;
+    }
+
+    /**
+     * Gets game.
+     *
+     * @return the game
+     */
+    public Game getGame() {
+        return game;
+    }
+}
@@ -0,0 +1,174 @@
+package fr.ubx.poo.model.go.character;
+
+import fr.ubx.poo.game.Direction;
+import fr.ubx.poo.game.Game;
+import fr.ubx.poo.game.Position;
+import fr.ubx.poo.game.World;
+import fr.ubx.poo.model.Movable;
+import fr.ubx.poo.model.decor.Decor;
+import fr.ubx.poo.model.ecs.Entities;
+import fr.ubx.poo.model.ecs.HealthStore;
+import fr.ubx.poo.model.ecs.IntentStore;
+import fr.ubx.poo.model.go.GameObject;
+
+/**
+ * The type Character.
+ * Its position, timer, health and movement intent live in the component stores of the game,
+ * its requested moves being run by the {@link fr.ubx.poo.model.ecs.MovementSystem}.
+ * Monsters override them all, their state living in their pool.
+ */
+public class Character extends GameObject implements Movable {
+
+    /**
+     * Instantiates a new Character.
+     *
+     * @param game      the game
+     * @param position  its position
+     * @param direction its direction
+     * @param lives     its number of lives
+     */
+    public Character(Game game, Position position, Direction direction, int lives) {
+        super(game, position);
+        Entities entities = game.getEntities();
+        entities.getHealth().add(getId(), lives);
+        entities.getIntents().add(this, direction);
+    }
+
+    /**
+     * Instantiates a new Character with a given id, without components.
+     *
+     * @param game the game
+     * @param id   its id, allocated by the ids of the game
+     */
+    protected Character(Game game, long id) {
+        super(game, id);
+    }
+
+    /**
+     * Lose life.
+     */
+    public void loseLife() {
+        setLives(getLives() - 1);
+    }
+
+    /**
+     * Add life.
+     */
+    public void addLife() {
+        setLives(getLives() + 1);
+    }
+
+    /**
+     * Sets lives.
+     *
+     * @param lives the lives
+     */
+    public void setLives(int lives) {
+        HealthStore health = game.getEntities().getHealth();
+        health.setLivesAt(componentSlot(health), lives);
+    }
+
+    /**
+     * Gets lives.
+     *
+     * @return the lives
+     */
+    public int getLives() {
+        HealthStore health = game.getEntities().getHealth();
+        return health.livesAt(componentSlot(health));
+    }
+
+    /**
+     * Is alive boolean.
+     *
+     * @return if character is alive.
+     */
+    public boolean isAlive() {
+        return getLives() > 0;
+    }
+
+    /**
+     * Request a move.
+     *
+     * @param direction the direction
+     */
+    public void requestMove(Direction direction) {
+        if (direction != getDirection()) {
+            setDirection(direction);
+        }
+        setMoveRequested(true);
+    }
+
+    /**
+     * Gets current direction.
+     *
+     * @return the direction
+     */
+    public Direction getDirection() {
+        IntentStore intents = game.getEntities().getIntents();
+        return intents.facingAt(componentSlot(intents));
+    }
+
+    /**
+     * Sets current direction.
+     *
+     * @param direction the direction
+     */
+    protected void setDirection(Direction direction) {
+        IntentStore intents = game.getEntities().getIntents();
+        intents.setFacingAt(componentSlot(intents), direction);
+    }
+
+    /**
+     * Is move requested boolean.
+     *
+     * @return if a move was requested since the last update
+     */
+    public boolean isMoveRequested() {
+        IntentStore intents = game.getEntities().getIntents();
+        return intents.isRequestedAt(componentSlot(intents));
+    }
+
+    /**
+     * Sets if a move is requested.
+     *
+     * @param moveRequested true if a move is requested
+     */
+    protected void setMoveRequested(boolean moveRequested) {
+        IntentStore intents = game.getEntities().getIntents();
+        intents.setRequestedAt(componentSlot(intents), moveRequested);
+    }
+
+    /**
+     * Can move boolean.
+     *
+     * @param direction the direction
+     * @param world     the world
+     * @return if the player can move in this direction in this world
+     */
+    public boolean canMove(Direction direction, World world) {
+        Position position = getPosition();
+        int x = position.x + direction.dx;
+        int y = position.y + direction.dy;
+        Decor decor = world.get(x, y);
+        return world.isInside(x, y) && !world.isThereABombAt(x, y) && (decor == null || decor.isWalkable(this));
+    }
+    /**
+     * Can move boolean.
+     *
+     * @param direction the direction
+     */
+    @Override
+    public boolean canMove(Direction direction) {
+        return canMove(direction, game.getWorld());
+    }
+
+    /**
+     * Moves to the given direction.
+     * @param direction the direction to move at.
+     */
+    public void doMove(Direction direction) {
+        Position nextPos = direction.nextPosition(getPosition(), game.getWorld().dimension);
+        setPosition(nextPos);
+    }
+}
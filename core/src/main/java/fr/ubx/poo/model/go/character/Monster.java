@@ -0,0 +1,227 @@
+package fr.ubx.poo.model.go.character;
+
+import fr.ubx.poo.game.Direction;
+import fr.ubx.poo.game.Game;
+import fr.ubx.poo.game.Position;
+import fr.ubx.poo.game.World;
+
+import java.util.ArrayList;
+
+/**
+ * The type Monster.
+ * A monster is a view over a slot of the {@link MonsterPool} of its world, which holds its state.
+ * Once dead, the monster is detached from the pool and keeps its last position and direction.
+ */
+public class Monster extends Character {
+
+    /**
+     * The pool holding the state of the monster.
+     */
+    private final MonsterPool pool;
+    /**
+     * The slot of the monster in the pool, -1 once dead.
+     */
+    private int slot;
+    private Position lastPosition;
+    private Direction lastDirection;
+
+    /**
+     * Instantiates a new Monster view.
+     * @param game the game.
+     * @param pool the pool holding the monster.
+     * @param slot the slot of the monster in the pool.
+     * @param id the id of the monster, held by the pool.
+     */
+    Monster(Game game, MonsterPool pool, int slot, long id) {
+        super(game, id);
+        this.pool = pool;
+        this.slot = slot;
+    }
+
+    /**
+     * Moves the view to another slot of the pool.
+     * @param slot the new slot.
+     */
+    void moveTo(int slot) {
+        this.slot = slot;
+    }
+
+    /**
+     * Detaches the view from the pool when the monster dies.
+     */
+    void detach() {
+        lastPosition = pool.getPosition(slot);
+        lastDirection = pool.getDirection(slot);
+        slot = -1;
+    }
+
+    /**
+     * Gets world.
+     *
+     * @return the world the monster lives in
+     */
+    public World getWorld() {
+        return pool.getWorld();
+    }
+
+    @Override
+    public Position getPosition() {
+        return slot < 0 ? lastPosition : pool.getPosition(slot);
+    }
+
+    /**
+     * Moves the monster to the given position, which must be free.
+     * @param position the position
+     */
+    @Override
+    public void setPosition(Position position) {
+        if (slot >= 0) {
+            pool.setPosition(slot, position);
+        }
+    }
+
+    /**
+     * Returns the current direction of the monster.
+     * @return the direction
+     */
+    @Override
+    public Direction getDirection() {
+        return slot < 0 ? lastDirection : pool.getDirection(slot);
+    }
+
+    @Override
+    protected void setDirection(Direction direction) {
+        if (slot >= 0) {
+            pool.setDirection(slot, direction);
+        }
+    }
+
+    /**
+     * Monsters don't request moves, their moves are picked by their pool.
+     * @return false
+     */
+    @Override
+    public boolean isMoveRequested() {
+        return false;
+    }
+
+    @Override
+    protected void setMoveRequested(boolean moveRequested) {
+        // Monsters move with their pool
+    }
+
+    @Override
+    public int getLives() {
+        return slot < 0 ? 0 : pool.getLives(slot);
+    }
+
+    /**
+     * Sets the lives of the monster, leaving the pool when dead.
+     * @param lives the lives
+     */
+    @Override
+    public void setLives(int lives) {
+        if (slot >= 0) {
+            pool.setLives(slot, lives);
+        }
+    }
+
+    @Override
+    public boolean isAlive() {
+        return slot >= 0;
+    }
+
+    /**
+     * Loses a life, leaving the pool when dead.
+     */
+    @Override
+    public void loseLife() {
+        if (slot >= 0) {
+            pool.loseLife(slot);
+        }
+    }
+
+    @Override
+    public long getLastActionTime() {
+        return slot < 0 ? 0 : pool.getLastActionTime(slot);
+    }
+
+    @Override
+    public void setLastActionTime(long lastActionTime) {
+        if (slot >= 0) {
+            pool.setLastActionTime(slot, lastActionTime);
+        }
+    }
+
+    @Override
+    public int getTimeToAct() {
+        return slot < 0 ? 0 : pool.getMovePeriod(slot);
+    }
+
+    @Override
+    public void setTimeToAct(int timeToAct) {
+        if (slot >= 0) {
+            pool.setMovePeriod(slot, timeToAct);
+        }
+    }
+
+    /**
+     * Gets the key of the random moves of the monster, which, unlike its id, is kept by the snapshots.
+     *
+     * @return the move key
+     */
+    public int getMoveKey() {
+        return slot < 0 ? 0 : pool.getMoveKey(slot);
+    }
+
+    /**
+     * Checks if the monster can move on the given direction in its own world.
+     * @param direction the direction.
+     * @return true if monster can move with given direction, false if not.
+     */
+    @Override
+    public boolean canMove(Direction direction) {
+        return slot >= 0 && pool.canMove(slot, direction);
+    }
+
+    /**
+     * Checks if the monster can move on the given direction in the given world.
+     * @param direction the direction.
+     * @param world     the world.
+     * @return true if monster can move with given direction, false if not.
+     */
+    @Override
+    public boolean canMove(Direction direction, World world) {
+        return world == getWorld() && canMove(direction);
+    }
+
+    /**
+     * Moves to the given direction.
+     * @param direction the direction to move at.
+     */
+    @Override
+    public void doMove(Direction direction) {
+        if (slot >= 0) {
+            pool.doMove(slot, direction);
+        }
+    }
+
+    /**
+     * Returns an array list containing the valid movements from current position in the given world.
+     * @param world the world.
+     * @return an array list containing the valid movements.
+     */
+    public ArrayList<Direction> validMovements(World world) {
+        ArrayList<Direction> possibleMoveDirections = new ArrayList<>();
+        if (slot < 0 || world != getWorld()) {
+            return possibleMoveDirections;
+        }
+        int mask = pool.validDirections(slot);
+        for (Direction d : Direction.values()) {
+            if ((mask & (1 << d.ordinal())) != 0) {
+                possibleMoveDirections.add(d);
+            }
+        }
+        return possibleMoveDirections;
+    }
+}
@@ -0,0 +1,629 @@
+package fr.ubx.poo.model.go.character;
+
+import fr.ubx.poo.game.Bitboards;
+import fr.ubx.poo.game.Direction;
+import fr.ubx.poo.game.Game;
+import fr.ubx.poo.game.Position;
+import fr.ubx.poo.game.SparseIntGrid;
+import fr.ubx.poo.game.TimerListener;
+import fr.ubx.poo.game.World;
+import fr.ubx.poo.game.Zobrist;
+import fr.ubx.poo.model.decor.Decor;
+import fr.ubx.poo.model.decor.DecorType;
+import fr.ubx.poo.model.go.EntityIds;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * The type Monster pool.
+ * Stores the living monsters of a world as parallel primitive arrays, so that a frame
+ * only sweeps tight arrays. {@link Monster} objects are thin views over a slot of the pool,
+ * created on demand.
+ * Dead monsters are removed right away, the last slot taking their place.
+ * Each monster has a timer in the timer wheel of the world, see {@link fr.ubx.poo.game.TimerWheel},
+ * and only the monsters whose move is due are visited.
+ * Moves run in two phases: the monsters due pick their move against the world as it was,
+ * in parallel for crowds, then the moves are committed one by one in the order of their move keys,
+ * given in spawn order and kept by the snapshots, see {@link #moveDueMonsters()}. Neither the order
+ * the timers fire in nor the ids are used, so the result doesn't depend on the number of threads
+ * and a fork replays the moves of the game it was taken from.
+ */
+public class MonsterPool implements TimerListener {
+    private static final Direction[] directions = Direction.values();
+    private static final int initialCapacity = 16;
+    /**
+     * Number of monsters due on the same tick above which their moves are picked in parallel.
+     */
+    private static final int parallelThreshold = 4096;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final Game game;
+    private final World world;
+    /**
+     * Seed of the random moves, each move being drawn from the seed, the monster and the time.
+     */
+    private long seed;
+
+    private int size = 0;
+    private int[] xs = new int[initialCapacity];
+    private int[] ys = new int[initialCapacity];
+    private byte[] directionIndexes = new byte[initialCapacity];
+    private int[] lives = new int[initialCapacity];
+    private long[] lastActionTimes = new long[initialCapacity];
+    /**
+     * Time in milliseconds between two moves.
+     */
+    private int[] movePeriods = new int[initialCapacity];
+    /**
+     * Ids of the monsters, see {@link fr.ubx.poo.model.go.EntityIds}.
+     */
+    private long[] ids = new long[initialCapacity];
+    /**
+     * Keys of the random moves, given in spawn order and kept by the snapshots, unlike the ids.
+     */
+    private int[] moveKeys = new int[initialCapacity];
+    private int nextMoveKey = 0;
+    private Monster[] views = new Monster[initialCapacity];
+    /**
+     * Slot + 1 of each monster by the index of its id, see {@link EntityIds#indexOf(long)}.
+     */
+    private int[] slotsByIndex = new int[initialCapacity];
+    /**
+     * Occupancy index: slot + 1 of the monster in each cell of the world, 0 if the cell is free.
+     * Only the tiles monsters walked on are allocated. A cell holds at most one monster, since monsters never walk on each other.
+     */
+    private final SparseIntGrid occupancy;
+    /**
+     * Zobrist hash of the occupied cells, see {@link Zobrist}.
+     */
+    private long hash = 0;
+    /**
+     * Slots of the monsters due on this tick, and the index of the direction each one picked, -1 for none.
+     */
+    private int[] dueSlots = new int[initialCapacity];
+    private byte[] intents = new byte[initialCapacity];
+    /**
+     * Move key and slot of the monsters due, to sort them.
+     */
+    private long[] dueOrder = new long[initialCapacity];
+    private int dueCount = 0;
+
+    /**
+     * Instantiates a new Monster pool.
+     *
+     * @param game  the game
+     * @param world the world the monsters live in
+     */
+    public MonsterPool(Game game, World world) {
+        this.game = game;
+        this.world = world;
+        // Each pool has its own seed, so that worlds can be updated in parallel
+        this.seed = game.getRandom().nextLong();
+        this.occupancy = new SparseIntGrid(world.dimension.width, world.dimension.height);
+    }
+
+    /**
+     * Gets the seed of the random moves, part of the snapshots of the world.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Sets the seed of the random moves, as given by {@link #getSeed()}.
+     *
+     * @param seed the seed
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Gets the number of living monsters.
+     *
+     * @return the size of the pool
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the Zobrist hash of the cells holding a monster.
+     *
+     * @return the hash of the monsters
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Gets game.
+     *
+     * @return the game
+     */
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * Removes all the monsters.
+     */
+    public void clear() {
+        while (size > 0) {
+            remove(size - 1);
+        }
+    }
+
+    /**
+     * Gets world.
+     *
+     * @return the world the monsters live in
+     */
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * Spawns a monster.
+     *
+     * @param x          the x coordinate
+     * @param y          the y coordinate
+     * @param direction  the initial direction
+     * @param monsterLives the number of lives
+     * @param movePeriod time in milliseconds between two moves
+     * @return the slot of the monster
+     */
+    public int spawn(int x, int y, Direction direction, int monsterLives, int movePeriod) {
+        return spawn(x, y, direction, monsterLives, movePeriod, nextMoveKey);
+    }
+
+    /**
+     * Spawns a monster back, with the move key it had, see {@link Monster#getMoveKey()}.
+     *
+     * @param x            the x coordinate
+     * @param y            the y coordinate
+     * @param direction    the initial direction
+     * @param monsterLives the number of lives
+     * @param movePeriod   time in milliseconds between two moves
+     * @param moveKey      the key of its random moves
+     * @return the slot of the monster
+     */
+    public int spawn(int x, int y, Direction direction, int monsterLives, int movePeriod, int moveKey) {
+        if (size == xs.length) {
+            grow();
+        }
+        int slot = size++;
+        xs[slot] = x;
+        ys[slot] = y;
+        directionIndexes[slot] = (byte) direction.ordinal();
+        lives[slot] = monsterLives;
+        lastActionTimes[slot] = 0;
+        movePeriods[slot] = movePeriod;
+        ids[slot] = game.getEntityIds().allocate();
+        moveKeys[slot] = moveKey;
+        nextMoveKey = Math.max(nextMoveKey, moveKey + 1);
+        views[slot] = null;
+        int index = EntityIds.indexOf(ids[slot]);
+        if (index >= slotsByIndex.length) {
+            slotsByIndex = Arrays.copyOf(slotsByIndex, Math.max(index + 1, slotsByIndex.length * 2));
+        }
+        slotsByIndex[index] = slot + 1;
+        setOccupant(x, y, slot);
+        scheduleMove(slot);
+        return slot;
+    }
+
+    /**
+     * Draws the initial direction of a monster spawned when its chunk of the map loads, see {@link World#settleChunks()}.
+     * The draw only depends on the seed of the pool and the cell, not on when the chunk loads.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the direction
+     */
+    public Direction spawnDirection(int x, int y) {
+        return directions[new SplittableRandom((seed ^ cell(x, y)) * GOLDEN_GAMMA).nextInt(directions.length)];
+    }
+
+    private void grow() {
+        int capacity = xs.length * 2;
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        directionIndexes = Arrays.copyOf(directionIndexes, capacity);
+        lives = Arrays.copyOf(lives, capacity);
+        lastActionTimes = Arrays.copyOf(lastActionTimes, capacity);
+        movePeriods = Arrays.copyOf(movePeriods, capacity);
+        ids = Arrays.copyOf(ids, capacity);
+        moveKeys = Arrays.copyOf(moveKeys, capacity);
+        views = Arrays.copyOf(views, capacity);
+    }
+
+    private int cell(int x, int y) {
+        return y * world.dimension.width + x;
+    }
+
+    /**
+     * Sets the occupant of a cell, keeping the bitboards of the world in sync.
+     *
+     * @param x    the x coordinate
+     * @param y    the y coordinate
+     * @param slot the slot of the occupant, -1 to free the cell
+     */
+    private void setOccupant(int x, int y, int slot) {
+        if ((occupancy.get(x, y) != 0) != (slot >= 0)) {
+            hash ^= Zobrist.key(cell(x, y), Zobrist.MONSTER);
+        }
+        occupancy.set(x, y, slot + 1);
+        Bitboards bitboards = world.getBitboards();
+        if (bitboards != null) {
+            bitboards.set(Bitboards.HAS_MONSTER, x, y, slot >= 0);
+        }
+    }
+
+    /**
+     * Gets the slot of the monster at the given coordinates.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the slot, -1 if there is no monster or if the coordinates are outside
+     */
+    public int slotAt(int x, int y) {
+        if (!world.isInside(x, y)) {
+            return -1;
+        }
+        return occupancy.get(x, y) - 1;
+    }
+
+    /**
+     * Gets the monster at the given coordinates.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the monster, null if there is none
+     */
+    public Monster monsterAt(int x, int y) {
+        int slot = slotAt(x, y);
+        return slot < 0 ? null : view(slot);
+    }
+
+    /**
+     * Gets the view of a slot, creating it if needed.
+     *
+     * @param slot the slot
+     * @return the monster
+     */
+    public Monster view(int slot) {
+        Monster monster = views[slot];
+        if (monster == null) {
+            monster = new Monster(game, this, slot, ids[slot]);
+            views[slot] = monster;
+        }
+        return monster;
+    }
+
+    /**
+     * Gets the living monsters as a read only list of views.
+     *
+     * @return the monsters
+     */
+    public List<Monster> monsters() {
+        return new AbstractList<Monster>() {
+            @Override
+            public Monster get(int index) {
+                return view(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    int getX(int slot) {
+        return xs[slot];
+    }
+
+    int getY(int slot) {
+        return ys[slot];
+    }
+
+    Position getPosition(int slot) {
+        return world.dimension.position(xs[slot], ys[slot]);
+    }
+
+    Direction getDirection(int slot) {
+        return directions[directionIndexes[slot]];
+    }
+
+    void setDirection(int slot, Direction direction) {
+        directionIndexes[slot] = (byte) direction.ordinal();
+    }
+
+    /**
+     * Moves a monster to the given position, which must be free.
+     *
+     * @param slot     the slot
+     * @param position the position
+     */
+    void setPosition(int slot, Position position) {
+        setOccupant(xs[slot], ys[slot], -1);
+        xs[slot] = position.x;
+        ys[slot] = position.y;
+        setOccupant(xs[slot], ys[slot], slot);
+    }
+
+    int getLives(int slot) {
+        return lives[slot];
+    }
+
+    long getLastActionTime(int slot) {
+        return lastActionTimes[slot];
+    }
+
+    void setLastActionTime(int slot, long lastActionTime) {
+        lastActionTimes[slot] = lastActionTime;
+        scheduleMove(slot);
+    }
+
+    private long moveDue(int slot) {
+        return lastActionTimes[slot] + movePeriods[slot] * 1000000L;
+    }
+
+    private void scheduleMove(int slot) {
+        if (movePeriods[slot] != 0) {
+            world.getTimers().schedule(this, ids[slot], moveDue(slot));
+        }
+    }
+
+    /**
+     * Shifts the timers of all the monsters, rescheduling their moves.
+     *
+     * @param shift the time to add to their last action times, in nanoseconds
+     */
+    public void shiftTimers(long shift) {
+        for (int slot = 0; slot < size; slot++) {
+            lastActionTimes[slot] += shift;
+            scheduleMove(slot);
+        }
+    }
+
+    /**
+     * Gets the slot of a monster.
+     *
+     * @param id the id of the monster
+     * @return the slot, -1 if the monster isn't in the pool
+     */
+    int slotOf(long id) {
+        int index = EntityIds.indexOf(id);
+        if (index < 0 || index >= slotsByIndex.length) {
+            return -1;
+        }
+        int slot = slotsByIndex[index] - 1;
+        return slot >= 0 && slot < size && ids[slot] == id ? slot : -1;
+    }
+
+    int getMovePeriod(int slot) {
+        return movePeriods[slot];
+    }
+
+    int getMoveKey(int slot) {
+        return moveKeys[slot];
+    }
+
+    void setMovePeriod(int slot, int movePeriod) {
+        movePeriods[slot] = movePeriod;
+        scheduleMove(slot);
+    }
+
+    /**
+     * Sets the lives of a monster, removing it from the pool when dead.
+     *
+     * @param slot         the slot
+     * @param monsterLives the number of lives
+     */
+    void setLives(int slot, int monsterLives) {
+        lives[slot] = monsterLives;
+        if (monsterLives <= 0) {
+            remove(slot);
+        }
+    }
+
+    /**
+     * Removes a life to a monster, removing it from the pool when dead.
+     *
+     * @param slot the slot
+     */
+    void loseLife(int slot) {
+        lives[slot]--;
+        if (lives[slot] <= 0) {
+            remove(slot);
+        }
+    }
+
+    /**
+     * Removes a monster, the last monster of the pool taking its slot.
+     *
+     * @param slot the slot
+     */
+    private void remove(int slot) {
+        setOccupant(xs[slot], ys[slot], -1);
+        if (views[slot] != null) {
+            views[slot].detach();
+        }
+        world.fireEntityRemoved(ids[slot]);
+        game.getEntityIds().release(ids[slot]);
+        slotsByIndex[EntityIds.indexOf(ids[slot])] = 0;
+        int last = --size;
+        if (slot != last) {
+            xs[slot] = xs[last];
+            ys[slot] = ys[last];
+            directionIndexes[slot] = directionIndexes[last];
+            lives[slot] = lives[last];
+            lastActionTimes[slot] = lastActionTimes[last];
+            movePeriods[slot] = movePeriods[last];
+            ids[slot] = ids[last];
+            moveKeys[slot] = moveKeys[last];
+            slotsByIndex[EntityIds.indexOf(ids[slot])] = slot + 1;
+            views[slot] = views[last];
+            if (views[slot] != null) {
+                views[slot].moveTo(slot);
+            }
+            occupancy.set(xs[slot], ys[slot], slot + 1);
+        }
+        views[last] = null;
+    }
+
+    /**
+     * Checks if the monster can move on the given direction.
+     * A monster can't leave the map, walk on a bomb, on another monster,
+     * or on a decor monsters can't walk on.
+     *
+     * @param slot      the slot
+     * @param direction the direction
+     * @return true if the monster can move, false if not
+     */
+    boolean canMove(int slot, Direction direction) {
+        int x = xs[slot] + direction.dx;
+        int y = ys[slot] + direction.dy;
+        if (!world.isInside(x, y) || occupancy.get(x, y) != 0 || world.isThereABombAt(x, y)) {
+            return false;
+        }
+        Decor decor = world.get(x, y);
+        return decor == null || (decor.getFlags() & DecorType.WALKABLE_BY_MONSTER) != 0;
+    }
+
+    /**
+     * Moves a monster on the given direction.
+     *
+     * @param slot      the slot
+     * @param direction the direction
+     */
+    void doMove(int slot, Direction direction) {
+        setOccupant(xs[slot], ys[slot], -1);
+        xs[slot] += direction.dx;
+        ys[slot] += direction.dy;
+        setOccupant(xs[slot], ys[slot], slot);
+    }
+
+    /**
+     * Gets the directions a monster can move to.
+     * Uses the bitboards of the world when they are enabled.
+     *
+     * @param slot the slot
+     * @return a mask with bit {@code d.ordinal()} set for each valid direction d
+     */
+    int validDirections(int slot) {
+        Bitboards bitboards = world.getBitboards();
+        if (bitboards != null) {
+            return bitboards.freeDirections(xs[slot], ys[slot]);
+        }
+        int mask = 0;
+        for (int d = 0; d < directions.length; d++) {
+            if (canMove(slot, directions[d])) {
+                mask |= 1 << d;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Marks a monster whose move period has elapsed as due, see {@link #moveDueMonsters()}.
+     * Its next move is scheduled right away.
+     *
+     * @param id  the id of the monster
+     * @param due the time the move was scheduled at
+     * @param now the time of the tick.
+     */
+    @Override
+    public void timerDue(long id, long due, long now) {
+        int slot = slotOf(id);
+        if (slot < 0 || movePeriods[slot] == 0 || due != moveDue(slot)) {
+            return;
+        }
+        lastActionTimes[slot] = now;
+        scheduleMove(slot);
+        if (dueCount == dueSlots.length) {
+            dueSlots = Arrays.copyOf(dueSlots, dueCount * 2);
+            intents = Arrays.copyOf(intents, dueCount * 2);
+            dueOrder = Arrays.copyOf(dueOrder, dueCount * 2);
+        }
+        dueSlots[dueCount++] = slot;
+    }
+
+    /**
+     * Moves the monsters due, see {@link #timerDue(long, long, long)}.
+     * First each monster picks a random valid direction, the world being only read,
+     * then the moves are committed in the order of the move keys of the monsters, which a snapshot keeps,
+     * unlike the order the timers fire in: a monster whose target cell was taken in the meantime
+     * by another one doesn't move.
+     * A monster that doesn't move keeps its direction.
+     */
+    public void moveDueMonsters() {
+        int count = dueCount;
+        if (count == 0) {
+            return;
+        }
+        if (count > 1) {
+            for (int i = 0; i < count; i++) {
+                dueOrder[i] = (long) moveKeys[dueSlots[i]] << 32 | dueSlots[i];
+            }
+            Arrays.sort(dueOrder, 0, count);
+            for (int i = 0; i < count; i++) {
+                dueSlots[i] = (int) dueOrder[i];
+            }
+        }
+        if (count >= parallelThreshold) {
+            IntStream.range(0, count).parallel().forEach(this::pickIntent);
+        } else {
+            for (int i = 0; i < count; i++) {
+                pickIntent(i);
+            }
+        }
+        // The monsters of the chunks the picks loaded take their cells before the moves
+        world.settleChunks();
+        for (int i = 0; i < count; i++) {
+            int d = intents[i];
+            if (d < 0) {
+                continue;
+            }
+            int slot = dueSlots[i];
+            if (occupancy.get(xs[slot] + directions[d].dx, ys[slot] + directions[d].dy) == 0) {
+                directionIndexes[slot] = (byte) d;
+                doMove(slot, directions[d]);
+            }
+        }
+        dueCount = 0;
+    }
+
+    /**
+     * Picks the direction of a monster due, without changing the world.
+     * The draw only depends on the seed of the pool, the move key of the monster and the time of its move.
+     *
+     * @param i the index of the monster among the monsters due
+     */
+    private void pickIntent(int i) {
+        int slot = dueSlots[i];
+        int validMask = validDirections(slot);
+        int valid = Integer.bitCount(validMask);
+        if (valid == 0) {
+            intents[i] = -1;
+            return;
+        }
+        long moveSeed = (seed ^ moveKeys[slot]) * GOLDEN_GAMMA + lastActionTimes[slot];
+        int pick = new SplittableRandom(moveSeed).nextInt(valid);
+        int d = 0;
+        for (; d < directions.length; d++) {
+            if ((validMask & (1 << d)) != 0 && pick-- == 0) {
+                break;
+            }
+        }
+        intents[i] = (byte) d;
+    }
+}
@@ -6,6 +6,7 @@ package fr.ubx.poo.model.go.character;
 
 import fr.ubx.poo.game.*;
 import fr.ubx.poo.model.decor.*;
+import fr.ubx.poo.model.ecs.HealthStore;
 
 /**
  * The type Player.
@@ -16,11 +17,6 @@ public class Player extends Character {
      */
     private boolean winner;
 
-    /**
-     * If player is Invulnerable.
-     */
-    private boolean isInvulnerable = false;
-
     /**
      * Number of bombs player can place simultaneously.
      */
@@ -147,7 +143,7 @@ public class Player extends Character {
      * Move a box if a box is the decor the player is walking into.
      */
     public void moveBoxIfAble() {
-        Position boxAt = direction.nextPosition(getPosition());
+        Position boxAt = getDirection().nextPosition(getPosition(), game.getWorld().dimension);
         Decor decor = game.getWorld().get(boxAt);
         if (decor != null) {
             decor.move(this);
@@ -160,17 +156,52 @@ public class Player extends Character {
      * @param position the starting position of the player.
      */
     public Player(Game game, Position position) {
-        super(game, position, Direction.S);
-        setLives(game.getInitPlayerLives());
+        super(game, position, Direction.S, game.getInitPlayerLives());
         setTimeToAct(2500); // time for the invulnerability to wear off
     }
 
+    /**
+     * Captures the state of the player.
+     * @return the state: position, direction, lives, invulnerability, bombs, keys and victory.
+     */
+    public PlayerState saveState() {
+        return new PlayerState(this);
+    }
+
+    /**
+     * Puts the player in a captured state. The pending move, if any, is dropped.
+     * @param state the state, see {@link #saveState()}.
+     */
+    public void restore(PlayerState state) {
+        setPosition(state.position);
+        setDirection(state.direction);
+        setMoveRequested(false);
+        setLives(state.lives);
+        setLastActionTime(state.lastActionTime);
+        winner = state.winner;
+        setInvulnerable(state.invulnerable);
+        bombCapacity = state.bombCapacity;
+        numberOfBombs = state.numberOfBombs;
+        bombRange = state.bombRange;
+        numberOfKeys = state.numberOfKeys;
+    }
+
     /**
      * if player is vulnerable.
      * @return player state of vulnerability.
      */
     public boolean isVulnerable() {
-        return !isInvulnerable;
+        HealthStore health = game.getEntities().getHealth();
+        return !health.isInvulnerableAt(componentSlot(health));
+    }
+
+    /**
+     * Sets if the player is invulnerable, until its timer is due, see {@link fr.ubx.poo.model.ecs.HealthSystem}.
+     * @param invulnerable true if the player can't lose a life.
+     */
+    private void setInvulnerable(boolean invulnerable) {
+        HealthStore health = game.getEntities().getHealth();
+        health.setInvulnerableAt(componentSlot(health), invulnerable);
     }
 
     /**
@@ -181,7 +212,7 @@ public class Player extends Character {
      */
     public void loseLife(long now) {
         loseLife();
-        isInvulnerable = true;
+        setInvulnerable(true);
         setLastActionTime(now);
     }
 
@@ -215,8 +246,8 @@ public class Player extends Character {
     @Override
     public boolean canMove(Direction direction) {
         World w = super.game.getWorld();
-        Position p = direction.nextPosition(super.getPosition());
-        boolean inMap = w.isInside(p);
+        Position p = direction.nextPosition(super.getPosition(), w.dimension);
+        boolean inMap = w.isInside(p) && !w.isThereABombAt(p);
         Decor targetPosition = w.get(p);
         boolean isWalkable = targetPosition == null || handleNewPosition(targetPosition, p);
 
@@ -224,18 +255,6 @@ public class Player extends Character {
     }
 
 
-    /**
-     * Update the player state on each frame.
-     * @param now time of the frame.
-     */
-    public void update(long now) {
-        if (isInvulnerable) {
-            actionIfTime(now, () -> isInvulnerable = false);
-        }
-        super.update(now);
-    }
-
-
     /**
      * Player is winner.
      * @return true if the player won the game.
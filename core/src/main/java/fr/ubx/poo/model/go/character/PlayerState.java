@@ -0,0 +1,48 @@
+package fr.ubx.poo.model.go.character;
+
+import fr.ubx.poo.game.Direction;
+import fr.ubx.poo.game.Position;
+
+/**
+ * The type Player state.
+ * Immutable copy of the state of a player, see {@link Player#saveState()}.
+ */
+public final class PlayerState {
+    final Position position;
+    final Direction direction;
+    final int lives;
+    final long lastActionTime;
+    final boolean winner;
+    final boolean invulnerable;
+    final int bombCapacity;
+    final int numberOfBombs;
+    final int bombRange;
+    final int numberOfKeys;
+
+    /**
+     * Captures the state of a player.
+     *
+     * @param player the player
+     */
+    PlayerState(Player player) {
+        position = player.getPosition();
+        direction = player.getDirection();
+        lives = player.getLives();
+        lastActionTime = player.getLastActionTime();
+        winner = player.isWinner();
+        invulnerable = !player.isVulnerable();
+        bombCapacity = player.getBombCapacity();
+        numberOfBombs = player.getNumberOfBombs();
+        bombRange = player.getBombRange();
+        numberOfKeys = player.getNumberOfKeys();
+    }
+
+    /**
+     * Gets the position of the player.
+     *
+     * @return the position
+     */
+    public Position getPosition() {
+        return position;
+    }
+}
@@ -0,0 +1,94 @@
+package fr.ubx.poo.simulation;
+
+/**
+ * The type Game clock.
+ * Turns the time of a {@link TimeSource} into fixed simulation steps: the time elapsed between two frames
+ * is cut into steps, the remainder being kept for the next frame. The simulation time moves by
+ * exactly one step each time, so the game doesn't depend on the frame rate.
+ * After a hitch, at most a given number of steps is run on a frame and the rest of the delay is dropped,
+ * so that the game slows down instead of freezing to catch up.
+ */
+public class GameClock {
+    private final TimeSource source;
+    /**
+     * Duration of a step, in nanoseconds.
+     */
+    private final long step;
+    private final int maxStepsPerFrame;
+    private boolean started = false;
+    private long lastSourceTime;
+    /**
+     * Source time not simulated yet, less than a step between two frames.
+     */
+    private long accumulator = 0;
+    private long time = 0;
+
+    /**
+     * Instantiates a new Game clock.
+     *
+     * @param source           the time source
+     * @param tickRate         the number of steps per second
+     * @param maxStepsPerFrame the maximum number of steps run on a frame
+     */
+    public GameClock(TimeSource source, int tickRate, int maxStepsPerFrame) {
+        if (tickRate <= 0 || maxStepsPerFrame <= 0) {
+            throw new IllegalArgumentException("Invalid clock: " + tickRate + " steps per second, "
+                    + maxStepsPerFrame + " steps per frame");
+        }
+        this.source = source;
+        this.step = 1_000_000_000L / tickRate;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /**
+     * Reads the time source for a new frame.
+     * The first frame only starts the clock.
+     *
+     * @return the number of steps to run on this frame
+     */
+    public int advance() {
+        long now = source.nanoTime();
+        if (!started) {
+            started = true;
+            lastSourceTime = now;
+            return 0;
+        }
+        accumulator += Math.max(0, now - lastSourceTime);
+        lastSourceTime = now;
+        long steps = accumulator / step;
+        if (steps > maxStepsPerFrame) {
+            accumulator = 0;
+            return maxStepsPerFrame;
+        }
+        accumulator -= steps * step;
+        return (int) steps;
+    }
+
+    /**
+     * Moves the simulation time by one step.
+     *
+     * @return the time of the step, in nanoseconds
+     */
+    public long nextStep() {
+        time += step;
+        return time;
+    }
+
+    /**
+     * Gets the simulation time of the last step.
+     *
+     * @return the time, in nanoseconds
+     */
+    public long getTime() {
+        return time;
+    }
+
+    /**
+     * Gets the duration of a step.
+     *
+     * @return the step, in nanoseconds
+     */
+    public long getStep() {
+        return step;
+    }
+}
@@ -0,0 +1,223 @@
+package fr.ubx.poo.simulation;
+
+import fr.ubx.poo.game.Direction;
+import fr.ubx.poo.game.Game;
+import fr.ubx.poo.game.Position;
+import fr.ubx.poo.game.World;
+import fr.ubx.poo.model.decor.DecorRegistry;
+import fr.ubx.poo.model.decor.Door;
+import fr.ubx.poo.model.go.BombObject;
+import fr.ubx.poo.model.go.ExplosionObject;
+import fr.ubx.poo.model.go.character.Player;
+
+import java.util.ArrayList;
+
+/**
+ * The type Game simulation.
+ * Runs the rules of a game one tick at a time, without any display: the player actions of the tick,
+ * then the player, the monsters and the bombs of every awake world,
+ * see {@link fr.ubx.poo.game.WorldManager#getAwakeWorlds()}.
+ * The game engine is a view over a simulation, bots and load tests drive one directly.
+ * Times are those of the simulation, see {@link GameClock}: bomb fuses, monster moves and invulnerability
+ * depend on the steps run, not on the frame rate.
+ */
+public class GameSimulation {
+    /**
+     * The state of the simulation.
+     */
+    public enum Status {
+        /**
+         * The game goes on.
+         */
+        PLAYING,
+        /**
+         * The player died.
+         */
+        LOST,
+        /**
+         * The player found the princess.
+         */
+        WON
+    }
+
+    private final Game game;
+    private final Player player;
+    /**
+     * Bombs exploding on this tick, of all worlds, then of the world being detonated.
+     */
+    private final ArrayList<BombObject> detonating = new ArrayList<>();
+    private final ArrayList<BombObject> worldDetonating = new ArrayList<>();
+    private SimulationListener listener;
+    private Status status = Status.PLAYING;
+    /**
+     * Actions of the frames that didn't run any step yet.
+     */
+    private Inputs pending = Inputs.NONE;
+
+    /**
+     * Instantiates a new Game simulation.
+     *
+     * @param game the game
+     */
+    public GameSimulation(Game game) {
+        this.game = game;
+        this.player = game.getPlayer();
+    }
+
+    /**
+     * Sets the listener of the simulation.
+     *
+     * @param listener the listener, null for none
+     */
+    public void setListener(SimulationListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Gets game.
+     *
+     * @return the game
+     */
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * Gets the status of the simulation.
+     *
+     * @return the status
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Runs one tick of the game. Nothing happens once the game is over.
+     *
+     * @param now    the time of the tick, in nanoseconds
+     * @param inputs the actions of the player
+     */
+    public void tick(long now, Inputs inputs) {
+        if (status != Status.PLAYING) {
+            return;
+        }
+        processInput(now, inputs);
+        update(now);
+    }
+
+    /**
+     * Runs the steps of a frame, as many as the clock gives.
+     * The actions of the player are applied on the first step, or kept for the next frame if there is none.
+     *
+     * @param clock  the clock of the game
+     * @param inputs the actions of the player on this frame
+     * @return the number of steps run
+     */
+    public int advance(GameClock clock, Inputs inputs) {
+        pending = pending.and(inputs);
+        int steps = clock.advance();
+        for (int i = 0; i < steps; i++) {
+            tick(clock.nextStep(), pending);
+            pending = Inputs.NONE;
+        }
+        return steps;
+    }
+
+    /**
+     * Processes the actions of the player.
+     * @param now the time of the tick
+     * @param inputs the actions of the player
+     */
+    private void processInput(long now, Inputs inputs) {
+        if (inputs.isMoveDown()) {
+            player.requestMove(Direction.S);
+        }
+        if (inputs.isMoveLeft()) {
+            player.requestMove(Direction.W);
+        }
+        if (inputs.isMoveRight()) {
+            player.requestMove(Direction.E);
+        }
+        if (inputs.isMoveUp()) {
+            player.requestMove(Direction.N);
+        }
+        if (inputs.isBomb()) {
+            World world = game.getWorld();
+            Position playerPos = player.getPosition();
+            if (world.get(playerPos) == null && !world.isThereABombAt(playerPos) && !world.isThereAMonsterAt(playerPos)) {
+                if (player.getNumberOfBombs() < player.getBombCapacity()) {
+                    BombObject bomb = new BombObject(game, playerPos, player.getBombRange(), now);
+                    world.addBomb(bomb);
+                    player.removeBomb();
+                    if (listener != null) {
+                        listener.bombDropped(bomb);
+                    }
+                }
+            }
+        }
+        if (inputs.isKey()) {
+            Position playerPos = player.getPosition();
+            World world = game.getWorld();
+            for (Direction d : Direction.values()) {
+                Position doorPos = d.nextPosition(playerPos, world.dimension);
+                if (world.get(doorPos) instanceof Door
+                        && d == player.getDirection()
+                        && (((Door) world.get(doorPos)).isClosed())) {
+                    if (player.getNumberOfKeys() > 0) {
+                        player.removeKey();
+                        game.setToChange(true);
+                        world.set(doorPos, DecorRegistry.door(false, false));
+                        game.getWorldManager().changeWorld(true, game);
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the player, the monsters and the bombs of every live world.
+     *
+     * @param now the time of the tick
+     */
+    private void update(long now) {
+        game.getHealthSystem().update(now);
+        game.getMovementSystem().update();
+        game.getWorldManager().updateTimersOnWorlds(now);
+        game.getWorldManager().verifyMonsterCollisionsWithPlayer(now, game);
+        if (!player.isAlive()) {
+            status = Status.LOST;
+        }
+        if (player.isWinner()) {
+            status = Status.WON;
+        }
+        if (game.isToChange()) {
+            game.setToChange(false);
+            if (listener != null) {
+                listener.worldChanged();
+            }
+        }
+
+        // The timers of the worlds burnt the fuses, then for each world with bombs at bombphase 5
+        // (ready to explode), make them explode along with every bomb caught in the chain reaction.
+        game.getFuseSystem().collect(game.getWorldManager().getAwakeWorlds(), detonating);
+        while (!detonating.isEmpty()) {
+            World gameWorld = detonating.get(0).getWorld();
+            worldDetonating.clear();
+            detonating.removeIf(bomb -> bomb.getWorld() == gameWorld && worldDetonating.add(bomb));
+            ExplosionObject explosion = gameWorld.getExplosionResolver().detonate(game, now, worldDetonating);
+            if (listener != null) {
+                listener.exploded(explosion);
+            }
+        }
+
+        // For every awake world, clear bombs that are phase 5, giving them back to the player,
+        // and explosions that are over. Bombs leaving a world frozen or restored are not given back.
+        for (World gameWorld : game.getWorldManager().getAwakeWorlds()) {
+            for (int exploded = gameWorld.removeExplodedBombs(); exploded > 0; exploded--) {
+                player.addBomb();
+            }
+            gameWorld.removeExpiredExplosions(now);
+        }
+    }
+}
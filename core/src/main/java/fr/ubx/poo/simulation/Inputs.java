@@ -0,0 +1,136 @@
+package fr.ubx.poo.simulation;
+
+import fr.ubx.poo.game.Direction;
+
+/**
+ * The type Inputs.
+ * Immutable set of the actions requested by the player for one tick of a {@link GameSimulation}.
+ */
+public final class Inputs {
+    /**
+     * No action.
+     */
+    public static final Inputs NONE = new Inputs(0);
+    /**
+     * Drop a bomb.
+     */
+    public static final Inputs BOMB = new Inputs(Inputs.bomb);
+    /**
+     * Open the door faced with a key.
+     */
+    public static final Inputs KEY = new Inputs(Inputs.key);
+
+    private static final int moveUp = 1;
+    private static final int moveDown = 1 << 1;
+    private static final int moveLeft = 1 << 2;
+    private static final int moveRight = 1 << 3;
+    private static final int bomb = 1 << 4;
+    private static final int key = 1 << 5;
+
+    private final int flags;
+
+    private Inputs(int flags) {
+        this.flags = flags;
+    }
+
+    /**
+     * Gets the inputs of the given actions.
+     *
+     * @param moveUp    true to move up
+     * @param moveDown  true to move down
+     * @param moveLeft  true to move left
+     * @param moveRight true to move right
+     * @param bomb      true to drop a bomb
+     * @param key       true to open a door
+     * @return the inputs
+     */
+    public static Inputs of(boolean moveUp, boolean moveDown, boolean moveLeft, boolean moveRight,
+                            boolean bomb, boolean key) {
+        return new Inputs((moveUp ? Inputs.moveUp : 0) | (moveDown ? Inputs.moveDown : 0)
+                | (moveLeft ? Inputs.moveLeft : 0) | (moveRight ? Inputs.moveRight : 0)
+                | (bomb ? Inputs.bomb : 0) | (key ? Inputs.key : 0));
+    }
+
+    /**
+     * Gets the inputs of a move.
+     *
+     * @param direction the direction of the move
+     * @return the inputs
+     */
+    public static Inputs move(Direction direction) {
+        switch (direction) {
+            case N:
+                return new Inputs(moveUp);
+            case S:
+                return new Inputs(moveDown);
+            case W:
+                return new Inputs(moveLeft);
+            default:
+                return new Inputs(moveRight);
+        }
+    }
+
+    /**
+     * Combines these inputs with other ones.
+     *
+     * @param other the other inputs
+     * @return the inputs with the actions of both
+     */
+    public Inputs and(Inputs other) {
+        return new Inputs(flags | other.flags);
+    }
+
+    /**
+     * Is move up boolean.
+     *
+     * @return true if the player moves up
+     */
+    public boolean isMoveUp() {
+        return (flags & moveUp) != 0;
+    }
+
+    /**
+     * Is move down boolean.
+     *
+     * @return true if the player moves down
+     */
+    public boolean isMoveDown() {
+        return (flags & moveDown) != 0;
+    }
+
+    /**
+     * Is move left boolean.
+     *
+     * @return true if the player moves left
+     */
+    public boolean isMoveLeft() {
+        return (flags & moveLeft) != 0;
+    }
+
+    /**
+     * Is move right boolean.
+     *
+     * @return true if the player moves right
+     */
+    public boolean isMoveRight() {
+        return (flags & moveRight) != 0;
+    }
+
+    /**
+     * Is bomb boolean.
+     *
+     * @return true if the player drops a bomb
+     */
+    public boolean isBomb() {
+        return (flags & bomb) != 0;
+    }
+
+    /**
+     * Is key boolean.
+     *
+     * @return true if the player opens a door
+     */
+    public boolean isKey() {
+        return (flags & key) != 0;
+    }
+}
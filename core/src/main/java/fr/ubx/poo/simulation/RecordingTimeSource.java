@@ -0,0 +1,41 @@
+package fr.ubx.poo.simulation;
+
+import java.util.Arrays;
+
+/**
+ * The type Recording time source.
+ * Records the times read from another source, to replay a run with a {@link ReplayedTimeSource}.
+ */
+public class RecordingTimeSource implements TimeSource {
+    private final TimeSource source;
+    private long[] times = new long[1024];
+    private int size = 0;
+
+    /**
+     * Instantiates a new Recording time source.
+     *
+     * @param source the recorded source
+     */
+    public RecordingTimeSource(TimeSource source) {
+        this.source = source;
+    }
+
+    @Override
+    public long nanoTime() {
+        long time = source.nanoTime();
+        if (size == times.length) {
+            times = Arrays.copyOf(times, size * 2);
+        }
+        times[size++] = time;
+        return time;
+    }
+
+    /**
+     * Gets the times read so far.
+     *
+     * @return a copy of the times, in the order they were read
+     */
+    public long[] getRecording() {
+        return Arrays.copyOf(times, size);
+    }
+}
@@ -0,0 +1,36 @@
+package fr.ubx.poo.simulation;
+
+/**
+ * The type Replayed time source.
+ * Gives back recorded times, see {@link RecordingTimeSource}, so that a run is reproduced frame by frame.
+ */
+public class ReplayedTimeSource implements TimeSource {
+    private final long[] times;
+    private int next = 0;
+
+    /**
+     * Instantiates a new Replayed time source.
+     *
+     * @param times the recorded times
+     */
+    public ReplayedTimeSource(long[] times) {
+        this.times = times.clone();
+    }
+
+    /**
+     * Checks if there are times left to replay.
+     *
+     * @return true if the recording isn't over
+     */
+    public boolean hasNext() {
+        return next < times.length;
+    }
+
+    @Override
+    public long nanoTime() {
+        if (!hasNext()) {
+            throw new IllegalStateException("End of the recording, " + times.length + " times replayed");
+        }
+        return times[next++];
+    }
+}
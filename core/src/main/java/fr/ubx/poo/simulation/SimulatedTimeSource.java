@@ -0,0 +1,42 @@
+package fr.ubx.poo.simulation;
+
+/**
+ * The type Simulated time source.
+ * A time that only moves when it is told to, for tests and headless runs.
+ */
+public class SimulatedTimeSource implements TimeSource {
+    private long time;
+
+    /**
+     * Instantiates a new Simulated time source, at time 0.
+     */
+    public SimulatedTimeSource() {
+        this(0);
+    }
+
+    /**
+     * Instantiates a new Simulated time source.
+     *
+     * @param time the starting time, in nanoseconds
+     */
+    public SimulatedTimeSource(long time) {
+        this.time = time;
+    }
+
+    /**
+     * Moves the time forward.
+     *
+     * @param nanos the time elapsed, in nanoseconds
+     */
+    public void advance(long nanos) {
+        if (nanos < 0) {
+            throw new IllegalArgumentException("Time cannot go backwards: " + nanos);
+        }
+        time += nanos;
+    }
+
+    @Override
+    public long nanoTime() {
+        return time;
+    }
+}
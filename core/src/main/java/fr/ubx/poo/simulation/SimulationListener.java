@@ -0,0 +1,30 @@
+package fr.ubx.poo.simulation;
+
+import fr.ubx.poo.model.go.BombObject;
+import fr.ubx.poo.model.go.ExplosionObject;
+
+/**
+ * The interface Simulation listener.
+ * Notified by a {@link GameSimulation} of the objects entering the game, so that a view can follow it.
+ * Objects leaving the game are notified by their world, see {@link fr.ubx.poo.game.EntityListener}.
+ */
+public interface SimulationListener {
+    /**
+     * Called when the player dropped a bomb.
+     *
+     * @param bomb the bomb
+     */
+    void bombDropped(BombObject bomb);
+
+    /**
+     * Called when bombs exploded.
+     *
+     * @param explosion the explosion
+     */
+    void exploded(ExplosionObject explosion);
+
+    /**
+     * Called when the current world changed, or the game was restored.
+     */
+    void worldChanged();
+}
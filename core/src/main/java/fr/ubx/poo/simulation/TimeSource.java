@@ -0,0 +1,14 @@
+package fr.ubx.poo.simulation;
+
+/**
+ * The interface Time source.
+ * Gives the time read by a {@link GameClock} on each frame.
+ */
+public interface TimeSource {
+    /**
+     * Gets the current time.
+     *
+     * @return the time, in nanoseconds
+     */
+    long nanoTime();
+}
@@ -0,0 +1,12 @@
+package fr.ubx.poo.simulation;
+
+/**
+ * The type Wall time source.
+ * The time of the system, for the displayed game.
+ */
+public class WallTimeSource implements TimeSource {
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+}
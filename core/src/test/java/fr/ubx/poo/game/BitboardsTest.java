@@ -0,0 +1,103 @@
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.decor.Decor;
+import fr.ubx.poo.model.decor.DecorRegistry;
+import fr.ubx.poo.model.decor.DecorType;
+import fr.ubx.poo.model.go.BombObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BitboardsTest {
+    private static final String CODES = "____SBTHK+-";
+
+    private final Game game = TestGames.game("P_");
+
+    /**
+     * Creates a random world and the same world with bitboards.
+     */
+    private World[] randomWorlds(Random random) {
+        int width = 1 + random.nextInt(150);
+        int height = 1 + random.nextInt(90);
+        String[] rows = new String[height];
+        for (int y = 0; y < height; y++) {
+            StringBuilder row = new StringBuilder();
+            for (int x = 0; x < width; x++) {
+                row.append(CODES.charAt(random.nextInt(CODES.length())));
+            }
+            rows[y] = row.toString();
+        }
+        World scalar = TestGames.world(game, rows);
+        World bitboards = TestGames.world(game, rows);
+        bitboards.enableBitboards();
+        return new World[]{scalar, bitboards};
+    }
+
+    private static void assertSameZones(World scalar, World bitboards) {
+        for (int y = 0; y < scalar.dimension.height; y++) {
+            for (int x = 0; x < scalar.dimension.width; x++) {
+                Position center = scalar.dimension.position(x, y);
+                for (int range = 1; range <= 4; range++) {
+                    assertEquals(BombObject.computeBombZone(scalar, center, range),
+                            BombObject.computeBombZone(bitboards, center, range), "zone of " + center);
+                }
+            }
+        }
+    }
+
+    @Test
+    void raysMatchTheScalarBombZone() {
+        Random random = new Random(8);
+        for (int trial = 0; trial < 30; trial++) {
+            World[] worlds = randomWorlds(random);
+            assertSameZones(worlds[0], worlds[1]);
+        }
+    }
+
+    @Test
+    void raysFollowTheDecorChanges() {
+        Random random = new Random(80);
+        for (int trial = 0; trial < 10; trial++) {
+            World[] worlds = randomWorlds(random);
+            Dimension dimension = worlds[0].dimension;
+            for (int i = 0; i < 200; i++) {
+                int x = random.nextInt(dimension.width);
+                int y = random.nextInt(dimension.height);
+                Decor decor = random.nextBoolean() ? null
+                        : DecorRegistry.get(random.nextBoolean() ? DecorType.STONE : DecorType.BOX);
+                for (World world : worlds) {
+                    world.set(x, y, decor);
+                }
+            }
+            assertSameZones(worlds[0], worlds[1]);
+        }
+    }
+
+    @Test
+    void freeDirectionsMatchTheWalkableDecors() {
+        Random random = new Random(88);
+        for (int trial = 0; trial < 30; trial++) {
+            World world = randomWorlds(random)[1];
+            Bitboards bitboards = world.getBitboards();
+            for (int y = 0; y < world.dimension.height; y++) {
+                for (int x = 0; x < world.dimension.width; x++) {
+                    int expected = 0;
+                    for (Direction d : Direction.values()) {
+                        int nx = x + d.dx;
+                        int ny = y + d.dy;
+                        if (world.isInside(nx, ny) && !world.isThereAMonsterAt(nx, ny) && walkable(world.get(nx, ny))) {
+                            expected |= 1 << d.ordinal();
+                        }
+                    }
+                    assertEquals(expected, bitboards.freeDirections(x, y), "directions from " + x + "," + y);
+                }
+            }
+        }
+    }
+
+    private static boolean walkable(Decor decor) {
+        return decor == null || (decor.getFlags() & DecorType.WALKABLE_BY_MONSTER) != 0;
+    }
+}
@@ -0,0 +1,188 @@
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.decor.DecorRegistry;
+import fr.ubx.poo.model.decor.DecorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ChunkedWorldStorageTest {
+    private static final int WIDTH = 130;
+    private static final int HEIGHT = 70;
+
+    private Game game;
+    private WorldEntity[][] raw;
+
+    /**
+     * A map where the player, a box and a monster share the first chunk, and another box, two monsters
+     * and a door each sit in a chunk of their own.
+     */
+    @BeforeEach
+    void setUp() {
+        game = TestGames.game("P");
+        raw = new WorldEntity[HEIGHT][WIDTH];
+        for (WorldEntity[] row : raw) {
+            Arrays.fill(row, WorldEntity.Empty);
+        }
+        raw[1][1] = WorldEntity.Player;
+        raw[5][5] = WorldEntity.Box;
+        raw[3][3] = WorldEntity.Monster;
+        raw[5][70] = WorldEntity.Box;
+        raw[10][129] = WorldEntity.Monster;
+        raw[66][10] = WorldEntity.Monster;
+        raw[68][120] = WorldEntity.DoorNextClosed;
+    }
+
+    @Test
+    void readsOnlyTheChunkOfTheCellRead() {
+        ChunkedWorldStorage storage = new ChunkedWorldStorage(new RawWorldSource(raw));
+        assertEquals(0, storage.getLoadedChunks());
+
+        assertEquals(DecorType.BOX, storage.get(5 * WIDTH + 70).getType());
+
+        assertEquals(1, storage.getLoadedChunks());
+        assertEquals(0, storage.getDecodedChunks());
+        int side = ChunkedWorldStorage.CHUNK_SIZE;
+        assertEquals(((WIDTH + side - 1) / side) * ((HEIGHT + side - 1) / side), storage.getChunkCount());
+    }
+
+    @Test
+    void readsBackTheDecorsWrittenInEveryChunk() {
+        ChunkedWorldStorage storage = new ChunkedWorldStorage(new RawWorldSource(raw));
+        DecorType[] types = DecorType.values();
+
+        for (int i = 0; i < storage.size(); i += 11) {
+            storage.set(i, DecorRegistry.get(types[i % types.length]));
+        }
+        storage.set(5 * WIDTH + 5, null);
+
+        for (int i = 0; i < storage.size(); i += 11) {
+            assertSame(DecorRegistry.get(types[i % types.length]), storage.get(i));
+        }
+        assertNull(storage.get(5 * WIDTH + 5));
+        // The cells left alone keep the decors of the source
+        assertEquals(DecorType.DOOR_NEXT_CLOSED, storage.get(68 * WIDTH + 120).getType());
+        assertEquals(storage.getChunkCount(), storage.getDecodedChunks());
+    }
+
+    @Test
+    void startsEmptyWithoutSource() {
+        ChunkedWorldStorage storage = new ChunkedWorldStorage(new Dimension(HEIGHT, WIDTH));
+
+        assertNull(storage.get(HEIGHT * WIDTH - 1));
+        storage.set(HEIGHT * WIDTH - 1, DecorRegistry.get(DecorType.KEY));
+
+        assertSame(DecorRegistry.get(DecorType.KEY), storage.get(HEIGHT * WIDTH - 1));
+        assertNull(storage.get(0));
+        assertEquals(1, storage.getDecodedChunks());
+    }
+
+    @Test
+    void settlesTheChunksAsTheyLoad() {
+        World world = new World(raw, game, WorldStorageMode.CHUNKED);
+        assertEquals(0, world.getMonsters().size());
+
+        world.get(70, 5);
+        world.settleChunks();
+
+        // The chunk of the box holds neither monster nor door
+        assertEquals(0, world.getMonsters().size());
+        assertEquals(0, world.getLoadedDoors().size());
+        world.get(10, 66);
+        world.settleChunks();
+        assertEquals(1, world.getMonsters().size());
+        assertEquals(world.dimension.position(10, 66), world.getMonsters().get(0).getPosition());
+    }
+
+    @Test
+    void hashesLikeAWorldLoadedAtOnce() throws PositionNotFoundException {
+        World chunked = new World(raw, game, WorldStorageMode.CHUNKED);
+        World heap = new World(raw, game, WorldStorageMode.HEAP);
+
+        chunked.loadAllChunks();
+
+        assertEquals(heap.getHash(), chunked.getHash());
+        assertEquals(1, chunked.getDoors().size());
+        assertEquals(chunked.dimension.position(1, 1), chunked.findPlayer());
+    }
+
+    @Test
+    void findsThePlayerWithoutLoadingTheWholeMap() throws PositionNotFoundException {
+        World world = new World(raw, game, WorldStorageMode.CHUNKED);
+
+        assertEquals(world.dimension.position(1, 1), world.findPlayer());
+        assertEquals(1, world.getMonsters().size());
+    }
+
+    @Test
+    void leavesTheChunksNeverLoadedOutOfTheSnapshots() {
+        World world = new World(raw, game, WorldStorageMode.CHUNKED);
+        world.get(70, 5);
+
+        WorldSnapshot snapshot = world.snapshot();
+
+        int loaded = 0;
+        for (int page = 0; page < snapshot.pages.length; page++) {
+            if (snapshot.pages[page] != null) {
+                loaded++;
+            }
+        }
+        int side = ChunkedWorldStorage.CHUNK_SIZE >> World.PAGE_SHIFT;
+        assertEquals(side * side, loaded);
+        assertNotNull(snapshot.pages[70 >> World.PAGE_SHIFT]);
+        assertNull(snapshot.pages[0]);
+    }
+
+    @Test
+    void restoresTheChunksLoadedSinceTheSnapshotAsTheyAreInTheSource() throws PositionNotFoundException {
+        World world = new World(raw, game, WorldStorageMode.CHUNKED);
+        world.findPlayer();
+        world.set(5, 5, null);
+        WorldSnapshot snapshot = world.snapshot();
+
+        world.set(70, 5, DecorRegistry.get(DecorType.TREE));
+        world.get(10, 66);
+        world.settleChunks();
+        assertEquals(2, world.getMonsters().size());
+
+        world.restore(snapshot);
+
+        assertNull(world.get(5, 5));
+        assertEquals(DecorType.BOX, world.get(70, 5).getType());
+        // The monster of the chunk loaded since is still there
+        assertEquals(2, world.getMonsters().size());
+        world.restore(world.snapshot());
+        assertEquals(2, world.getMonsters().size());
+
+        World loaded = new World(raw, game, WorldStorageMode.CHUNKED);
+        loaded.findPlayer();
+        loaded.set(5, 5, null);
+        loaded.get(70, 5);
+        loaded.get(10, 66);
+        assertEquals(loaded.getHash(), world.getHash());
+    }
+
+    @Test
+    void forksReadTheChunksLeftOutFromTheSource() throws PositionNotFoundException {
+        World world = new World(raw, game, WorldStorageMode.CHUNKED);
+        world.findPlayer();
+        world.set(5, 5, null);
+        WorldSnapshot snapshot = world.snapshot();
+
+        World fork = World.fork(snapshot, game);
+
+        assertEquals(world.getHash(), fork.getHash());
+        assertNull(fork.get(5, 5));
+        assertEquals(DecorType.BOX, fork.get(70, 5).getType());
+        fork.set(120, 60, DecorRegistry.get(DecorType.STONE));
+        assertEquals(1, fork.getDoors().size());
+        assertEquals(3, fork.getMonsters().size());
+        assertNull(world.get(120, 60));
+    }
+}
@@ -0,0 +1,117 @@
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.go.character.Monster;
+import fr.ubx.poo.simulation.GameSimulation;
+import fr.ubx.poo.simulation.Inputs;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DormantWorldsTest {
+    private static final long TICK = 16_666_666L;
+    private static final long SECOND = 1_000_000_000L;
+
+    private Game game;
+    private GameSimulation simulation;
+    private WorldManager manager;
+    private long now = 0;
+
+    /**
+     * Two levels, the monster of the first one walled off from the player.
+     */
+    @BeforeEach
+    void setUp() {
+        game = TestGames.levels("lives=100\n",
+                new String[]{
+                        "P___N",
+                        "_____",
+                        "SSSSS",
+                        "M____"},
+                new String[]{
+                        "V____"});
+        simulation = new GameSimulation(game);
+        manager = game.getWorldManager();
+    }
+
+    private void tick(Inputs inputs) {
+        now += TICK;
+        simulation.tick(now, inputs);
+    }
+
+    private static List<Position> positions(World world) {
+        List<Position> positions = new ArrayList<>();
+        for (Monster monster : world.getMonsters()) {
+            positions.add(monster.getPosition());
+        }
+        return positions;
+    }
+
+    @Test
+    void aWorldLeftWithABurningBombStaysAwakeUntilTheBombResolves() {
+        World first = game.getWorld();
+        tick(Inputs.of(false, false, false, false, true, false));
+        assertEquals(1, first.getBombs().size());
+
+        manager.changeWorld(true, game);
+        int ticks = 0;
+        while (!first.getBombs().isEmpty() || !first.getExplosions().isEmpty()) {
+            tick(Inputs.NONE);
+            assertFalse(first.isDormant());
+            assertTrue(manager.getAwakeWorlds().contains(first));
+            assertTrue(++ticks < 20 * 60, "the bomb never resolved");
+        }
+        tick(Inputs.NONE);
+
+        assertTrue(first.isDormant());
+        assertFalse(manager.getAwakeWorlds().contains(first));
+        assertEquals(0, game.getPlayer().getNumberOfBombs());
+    }
+
+    @Test
+    void theMonstersOfADormantWorldDoNotMove() {
+        World first = game.getWorld();
+        manager.changeWorld(true, game);
+        tick(Inputs.NONE);
+        assertTrue(first.isDormant());
+        List<Position> before = positions(first);
+        long lastMove = first.getMonsters().get(0).getLastActionTime();
+
+        for (int i = 0; i < 10 * 60; i++) {
+            tick(Inputs.NONE);
+        }
+
+        assertTrue(first.isDormant());
+        assertEquals(before, positions(first));
+        assertEquals(lastMove, first.getMonsters().get(0).getLastActionTime());
+
+        manager.changeWorld(false, game);
+        tick(Inputs.NONE);
+        assertFalse(first.isDormant());
+        assertTrue(first.getMonsters().get(0).getLastActionTime() > lastMove);
+    }
+
+    @Test
+    void catchUpIsCappedByTheLongestTimeReplayed() {
+        World capped = TestGames.world(game, "_____", "__M__", "_____");
+        World replayed = TestGames.world(game, "_____", "__M__", "_____");
+        Position position = capped.getMonsters().get(0).getPosition();
+
+        capped.sleep(0);
+        replayed.sleep(0);
+        capped.wake(100 * SECOND, SECOND / 2);
+        replayed.wake(100 * SECOND, 1000 * SECOND);
+
+        // The capped world sleeps until the last half second, too short for a move
+        assertEquals(position, capped.getMonsters().get(0).getPosition());
+        assertEquals(100 * SECOND - SECOND / 2, capped.getMonsters().get(0).getLastActionTime());
+        // The other one replays the moves of the hundred seconds
+        assertTrue(replayed.getMonsters().get(0).getLastActionTime() > 98 * SECOND);
+        assertFalse(capped.isDormant());
+    }
+}
@@ -0,0 +1,153 @@
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.go.BombObject;
+import fr.ubx.poo.model.go.character.Monster;
+import fr.ubx.poo.model.go.character.Player;
+import fr.ubx.poo.simulation.GameSimulation;
+import fr.ubx.poo.simulation.Inputs;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FrozenWorldTest {
+    private static final long SECOND = 1_000_000_000L;
+
+    private Game game;
+    private World world;
+
+    @BeforeEach
+    void setUp() {
+        game = TestGames.game("P_");
+        world = TestGames.world(game,
+                "__S_B__H",
+                "_M___T__",
+                "K__V___M",
+                "SSSS_+__");
+        world.addBomb(new BombObject(game, world, world.dimension.position(2, 1), 2, 3 * SECOND));
+        world.getBombs().get(0).setBombPhase(3);
+    }
+
+    @Test
+    void thawsTheDecorsMonstersAndBombs() {
+        long hash = world.getHash();
+        List<String> monsters = new ArrayList<>();
+        for (Monster monster : world.getMonsters()) {
+            monsters.add(monster.getPosition() + " " + monster.getDirection() + " " + monster.getLives()
+                    + " " + monster.getMoveKey());
+        }
+        long seed = world.getMonsterPool().getSeed();
+        String[] decors = decors(world);
+
+        World thawed = new FrozenWorld(world, 4 * SECOND).thaw(game, WorldStorageMode.HEAP, 4 * SECOND);
+
+        assertEquals(hash, thawed.getHash());
+        assertEquals(String.join("\n", decors), String.join("\n", decors(thawed)));
+        List<String> thawedMonsters = new ArrayList<>();
+        for (Monster monster : thawed.getMonsters()) {
+            thawedMonsters.add(monster.getPosition() + " " + monster.getDirection() + " " + monster.getLives()
+                    + " " + monster.getMoveKey());
+        }
+        assertEquals(monsters, thawedMonsters);
+        assertEquals(seed, thawed.getMonsterPool().getSeed());
+        assertEquals(1, thawed.getBombs().size());
+        BombObject bomb = thawed.getBombs().get(0);
+        assertEquals(world.dimension.position(2, 1), bomb.getPosition());
+        assertEquals(2, bomb.getRange());
+        assertEquals(3, bomb.getBombPhase());
+        assertSame(bomb, thawed.getBombAt(2, 1));
+        assertFalse(thawed.hasDirtyCells());
+    }
+
+    @Test
+    void shiftsTheTimersByTheTimeSpentFrozen() {
+        long monsterTime = world.getMonsters().get(0).getLastActionTime();
+
+        World thawed = new FrozenWorld(world, 4 * SECOND).thaw(game, WorldStorageMode.HEAP, 10 * SECOND);
+
+        assertEquals(9 * SECOND, thawed.getBombs().get(0).getLastActionTime());
+        assertEquals(monsterTime + 6 * SECOND, thawed.getMonsters().get(0).getLastActionTime());
+    }
+
+    @Test
+    void thawsIntoAnyStorage() {
+        long hash = world.getHash();
+        FrozenWorld frozen = new FrozenWorld(world, 0);
+
+        for (WorldStorageMode mode : WorldStorageMode.values()) {
+            World thawed = frozen.thaw(game, mode, 0);
+            assertEquals(hash, thawed.getHash(), mode.toString());
+            assertEquals(2, thawed.getMonsters().size());
+        }
+    }
+
+    @Test
+    void releasesTheEntitiesOfTheFrozenWorld() {
+        List<Long> ids = new ArrayList<>();
+        for (Monster monster : world.getMonsters()) {
+            ids.add(monster.getId());
+        }
+        ids.add(world.getBombs().get(0).getId());
+        List<Long> removed = new ArrayList<>();
+        world.addEntityListener(removed::add);
+
+        new FrozenWorld(world, 0);
+
+        Collections.sort(ids);
+        Collections.sort(removed);
+        assertEquals(ids, removed);
+        for (long id : ids) {
+            assertFalse(game.getEntityIds().isAlive(id));
+        }
+        assertTrue(game.getEntityIds().isAlive(game.getPlayer().getId()));
+    }
+
+    @Test
+    void givesTheBombBackOnceWhenTheThawedBombExplodes() {
+        Game endless = TestGames.configuredGame("endless=true\nstreamRadius=0\nlives=100\n", "P_");
+        GameSimulation simulation = new GameSimulation(endless);
+        Player player = endless.getPlayer();
+        WorldManager manager = endless.getWorldManager();
+        World first = endless.getWorld();
+        long tick = SECOND / 60;
+        long now = tick;
+
+        simulation.tick(now, Inputs.BOMB);
+        assertEquals(1, first.getBombs().size());
+        assertEquals(1, player.getNumberOfBombs());
+
+        manager.changeWorld(true, endless);
+        assertEquals(1, manager.getFrozenWorldCount());
+        assertEquals(1, player.getNumberOfBombs());
+
+        manager.changeWorld(false, endless);
+        World thawed = endless.getWorld();
+        assertEquals(1, thawed.getBombs().size());
+        for (int i = 0; i < 600 && !thawed.getBombs().isEmpty(); i++) {
+            now += tick;
+            simulation.tick(now, Inputs.NONE);
+        }
+
+        assertTrue(thawed.getBombs().isEmpty());
+        assertEquals(0, player.getNumberOfBombs());
+    }
+
+    private static String[] decors(World world) {
+        String[] rows = new String[world.dimension.height];
+        for (int y = 0; y < world.dimension.height; y++) {
+            StringBuilder row = new StringBuilder();
+            for (int x = 0; x < world.dimension.width; x++) {
+                row.append(world.get(x, y)).append(' ');
+            }
+            rows[y] = row.toString();
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,214 @@
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.decor.DecorRegistry;
+import fr.ubx.poo.model.decor.DecorType;
+import fr.ubx.poo.model.go.BombObject;
+import fr.ubx.poo.model.go.ExplosionObject;
+import fr.ubx.poo.simulation.GameSimulation;
+import fr.ubx.poo.simulation.Inputs;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class GameSnapshotTest {
+    private static final long TICK = 16_666_666L;
+
+    private Game game;
+    private GameSimulation simulation;
+    private long now = 0;
+
+    @BeforeEach
+    void setUp() {
+        game = TestGames.configuredGame("lives=1000\n",
+                "_____H______",
+                "SSS_S_SSSS_M",
+                "B___SBS__S__",
+                "____SBS__S__",
+                "_B__SSS_KS__",
+                "____P____S__",
+                "_TBT_____S__",
+                "_TTT__+-_B__",
+                "_________B_M",
+                "BSSSSBBSSSB_",
+                "__n____M____",
+                "___<___>_SM_");
+        simulation = new GameSimulation(game);
+    }
+
+    private long hash(Game of) {
+        return of.getWorldManager().getHash(of.getPlayer());
+    }
+
+    /**
+     * Plays random inputs, dropping bombs now and then.
+     */
+    private void play(GameSimulation on, Random random, int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            now += TICK;
+            Inputs inputs = Inputs.move(Direction.values()[random.nextInt(4)]);
+            if (random.nextInt(15) == 0) {
+                inputs = inputs.and(Inputs.BOMB);
+            }
+            on.tick(now, inputs);
+        }
+    }
+
+    @Test
+    void restoresTheWorldOfASnapshot() {
+        World world = game.getWorld();
+        world.addBomb(new BombObject(game, world, world.dimension.position(0, 0), 2, 0));
+        long hash = world.getHash();
+        WorldSnapshot snapshot = world.snapshot();
+        assertEquals(hash, snapshot.getHash());
+
+        world.set(0, 5, DecorRegistry.get(DecorType.STONE));
+        world.clear(0, 2);
+        world.getMonsters().get(0).loseLife();
+        play(simulation, new Random(1), 120);
+        assertNotEquals(hash, world.getHash());
+
+        world.restore(snapshot);
+
+        assertEquals(hash, world.getHash());
+        assertEquals(4, world.getMonsters().size());
+        assertEquals(1, world.getBombs().size());
+        assertEquals(null, world.get(0, 5));
+        assertEquals(DecorType.BOX, world.get(0, 2).getType());
+    }
+
+    @Test
+    void sharesTheUnchangedPagesWithThePreviousSnapshot() {
+        World world = game.getWorld();
+        WorldSnapshot first = world.snapshot();
+        WorldSnapshot second = world.snapshot();
+        world.set(0, 0, DecorRegistry.get(DecorType.TREE));
+        WorldSnapshot third = world.snapshot();
+
+        for (int page = 0; page < first.pages.length; page++) {
+            assertSame(first.pages[page], second.pages[page]);
+        }
+        assertNotSame(second.pages[0], third.pages[0]);
+        assertEquals(null, second.pages[0][0]);
+    }
+
+    @Test
+    void restoresTheGameOfASnapshot() {
+        Random random = new Random(2);
+        play(simulation, random, 300);
+        GameSnapshot snapshot = game.snapshot();
+        long hash = hash(game);
+        int lives = game.getPlayer().getLives();
+        Position position = game.getPlayer().getPosition();
+        int explosions = game.getWorld().getExplosions().size();
+
+        play(simulation, random, 300);
+        game.restore(snapshot);
+
+        assertEquals(snapshot.getHash(), hash);
+        assertEquals(hash, hash(game));
+        assertEquals(lives, game.getPlayer().getLives());
+        assertEquals(position, game.getPlayer().getPosition());
+        assertEquals(explosions, game.getWorld().getExplosions().size());
+    }
+
+    @Test
+    void keepsTheExplosionsInProgress() {
+        World world = game.getWorld();
+        BombObject bomb = new BombObject(game, world, world.dimension.position(7, 6), 2, 0);
+        world.addBomb(bomb);
+        ExplosionObject explosion = world.getExplosionResolver().detonate(game, 5 * TICK,
+                Collections.singletonList(bomb));
+        List<Position> zone = new ArrayList<>(explosion.getBombZone());
+        world.removeExplodedBombs();
+        GameSnapshot snapshot = game.snapshot();
+
+        Game fork = game.fork(snapshot);
+        game.restore(snapshot);
+
+        for (World restored : new World[]{game.getWorld(), fork.getWorld()}) {
+            assertEquals(1, restored.getExplosions().size());
+            assertEquals(world.dimension.position(7, 6), restored.getExplosions().get(0).getPosition());
+            assertEquals(5 * TICK, restored.getExplosions().get(0).getLastActionTime());
+            assertEquals(zone, restored.getExplosions().get(0).getBombZone());
+        }
+    }
+
+    @Test
+    void forksAreIsolatedFromTheirGame() {
+        GameSnapshot snapshot = game.snapshot();
+        Game fork = game.fork(snapshot);
+        assertEquals(snapshot.getHash(), hash(fork));
+        assertNotSame(game.getWorld(), fork.getWorld());
+
+        fork.getWorld().set(0, 0, DecorRegistry.get(DecorType.STONE));
+        fork.getWorld().getMonsters().get(0).loseLife();
+
+        assertEquals(snapshot.getHash(), hash(game));
+        assertEquals(null, game.getWorld().get(0, 0));
+        assertNotEquals(hash(game), hash(fork));
+    }
+
+    @Test
+    void forksReplayTheFutureOfTheirGame() {
+        play(simulation, new Random(3), 240);
+        Game fork = game.fork(game.snapshot());
+        GameSimulation forkSimulation = new GameSimulation(fork);
+        Random inputs = new Random(4);
+        Random forkInputs = new Random(4);
+
+        for (int i = 0; i < 1200; i++) {
+            play(simulation, inputs, 1);
+            now -= TICK;
+            play(forkSimulation, forkInputs, 1);
+            assertEquals(hash(game), hash(fork), "tick " + i);
+            assertEquals(game.getPlayer().getLives(), fork.getPlayer().getLives(), "tick " + i);
+        }
+    }
+
+    @Test
+    void forksRunOnOtherThreads() throws Exception {
+        play(simulation, new Random(5), 120);
+        GameSnapshot snapshot = game.snapshot();
+        long start = now;
+        int forks = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(forks);
+        try {
+            List<Future<Long>> hashes = new ArrayList<>();
+            for (int i = 0; i < forks; i++) {
+                hashes.add(executor.submit(() -> {
+                    Game fork = game.fork(snapshot);
+                    GameSimulation forkSimulation = new GameSimulation(fork);
+                    Random inputs = new Random(6);
+                    long time = start;
+                    for (int tick = 0; tick < 600; tick++) {
+                        time += TICK;
+                        forkSimulation.tick(time, Inputs.move(Direction.values()[inputs.nextInt(4)]));
+                    }
+                    return hash(fork);
+                }));
+            }
+            Random inputs = new Random(6);
+            for (int tick = 0; tick < 600; tick++) {
+                now += TICK;
+                simulation.tick(now, Inputs.move(Direction.values()[inputs.nextInt(4)]));
+            }
+            for (Future<Long> hash : hashes) {
+                assertEquals(hash(game), (long) hash.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.decor.Decor;
+import fr.ubx.poo.model.decor.DecorRegistry;
+import fr.ubx.poo.model.decor.DecorType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class OffHeapWorldStorageTest {
+    private static final String[] ROWS = {
+            "P_BST",
+            "H_K_W",
+            "<>+-M",
+            "nNV__"};
+
+    @Test
+    void readsBackEveryDecorWritten() {
+        DecorType[] types = DecorType.values();
+        OffHeapWorldStorage storage = new OffHeapWorldStorage(types.length + 1);
+
+        for (int i = 0; i < types.length; i++) {
+            storage.set(i, DecorRegistry.get(types[i]));
+        }
+
+        assertEquals(types.length + 1, storage.size());
+        for (int i = 0; i < types.length; i++) {
+            assertSame(DecorRegistry.get(types[i]), storage.get(i));
+        }
+        assertNull(storage.get(types.length));
+    }
+
+    @Test
+    void clearsACell() {
+        OffHeapWorldStorage storage = new OffHeapWorldStorage(2);
+        storage.set(1, DecorRegistry.get(DecorType.BOX));
+
+        storage.set(1, null);
+
+        assertNull(storage.get(1));
+    }
+
+    @Test
+    void holdsTheSameWorldAsTheHeap() {
+        Game game = TestGames.game("P");
+        WorldEntity[][] raw = TestGames.entities(ROWS);
+        World heap = new World(raw, game, WorldStorageMode.HEAP);
+        World offHeap = new World(raw, game, WorldStorageMode.OFF_HEAP);
+
+        heap.forEach((position, decor) -> assertSame(decor, offHeap.get(position)));
+        assertEquals(heap.getHash(), offHeap.getHash());
+
+        Decor box = DecorRegistry.get(DecorType.BOX);
+        heap.set(1, 1, box);
+        offHeap.set(1, 1, box);
+        heap.set(2, 0, null);
+        offHeap.set(2, 0, null);
+        assertSame(box, offHeap.get(1, 1));
+        assertNull(offHeap.get(2, 0));
+        assertEquals(heap.getHash(), offHeap.getHash());
+    }
+}
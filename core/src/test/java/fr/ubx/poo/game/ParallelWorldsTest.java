@@ -0,0 +1,75 @@
+package fr.ubx.poo.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ParallelWorldsTest {
+    private static final long TICK = 100_000_000L;
+
+    /**
+     * Creates random rows of monsters and stones.
+     */
+    private static String[] randomRows(Random random, int size) {
+        String[] rows = new String[size];
+        for (int y = 0; y < size; y++) {
+            StringBuilder row = new StringBuilder();
+            for (int x = 0; x < size; x++) {
+                int draw = random.nextInt(12);
+                row.append(draw < 2 ? 'M' : draw == 2 ? 'S' : '_');
+            }
+            rows[y] = row.toString();
+        }
+        return rows;
+    }
+
+    /**
+     * Runs the timers of several awake worlds on a pool of the given size.
+     *
+     * @return the hash of the game after the run
+     */
+    private static long run(boolean parallel, int threads) throws Exception {
+        Game game = TestGames.game("P_");
+        WorldManager manager = game.getWorldManager();
+        manager.setDormantWorlds(false);
+        manager.setParallelWorlds(parallel);
+        Random random = new Random(3);
+        for (int i = 0; i < 6; i++) {
+            manager.addWorld(TestGames.world(game, randomRows(random, 60)));
+        }
+        long start = manager.getHash(game.getPlayer());
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.submit(() -> {
+                for (long now = TICK; now <= 150 * TICK; now += TICK) {
+                    manager.updateTimersOnWorlds(now);
+                }
+            }).get();
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(7, manager.getAwakeWorlds().size());
+        long hash = manager.getHash(game.getPlayer());
+        assertNotEquals(start, hash);
+        return hash;
+    }
+
+    @Test
+    void parallelWorldsEndInTheSameStateAsSerialOnes() throws Exception {
+        long serial = run(false, 1);
+        assertEquals(serial, run(true, 4));
+        assertEquals(serial, run(true, 1));
+    }
+
+    @Test
+    void theStateDoesNotDependOnTheNumberOfThreads() throws Exception {
+        long expected = run(true, 2);
+        for (int threads : new int[]{1, 3, 8}) {
+            assertEquals(expected, run(true, threads), "threads " + threads);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package fr.ubx.poo.game;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PositionTest {
+    private final Dimension dimension = new Dimension(12, 20);
+
+    @Test
+    void internsThePositionsInsideTheDimension() {
+        Position position = dimension.position(19, 11);
+
+        assertSame(position, dimension.position(19, 11));
+        assertSame(position, dimension.position(Position.pack(19, 11)));
+        assertSame(position, Direction.E.nextPosition(dimension.position(18, 11), dimension));
+    }
+
+    @Test
+    void allocatesThePositionsOutsideTheDimension() {
+        Position outside = dimension.position(20, 0);
+
+        assertNotSame(outside, dimension.position(20, 0));
+        assertEquals(outside, dimension.position(20, 0));
+        assertEquals(new Position(-1, 0), Direction.W.nextPosition(dimension.position(0, 0), dimension));
+    }
+
+    @Test
+    void packsAndUnpacksCoordinates() {
+        int[][] coordinates = {{0, 0}, {19, 11}, {-1, 0}, {0, -1}, {-1, -1}, {1000, 2000}};
+        for (int[] xy : coordinates) {
+            int packed = Position.pack(xy[0], xy[1]);
+
+            assertEquals(xy[0], Position.unpackX(packed));
+            assertEquals(xy[1], Position.unpackY(packed));
+            assertEquals(packed, new Position(xy[0], xy[1]).pack());
+        }
+    }
+
+    @Test
+    void movesPackedCoordinatesLikePositions() {
+        Position position = dimension.position(5, 0);
+        for (Direction direction : Direction.values()) {
+            int packed = direction.nextPacked(position.pack());
+
+            assertEquals(direction.nextPosition(position), dimension.position(packed));
+            assertEquals(direction.nextPosition(position, 3).pack(), direction.nextPacked(position.pack(), 3));
+        }
+    }
+}
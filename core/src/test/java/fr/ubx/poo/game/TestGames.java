@@ -0,0 +1,94 @@
+package fr.ubx.poo.game;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * The type Test games.
+ * Builds games and worlds from levels given as text, one string per row, with the codes of {@link WorldEntity}.
+ */
+public final class TestGames {
+    private TestGames() {
+    }
+
+    /**
+     * Creates a game of a single level, with a fixed random seed.
+     *
+     * @param rows the rows of the level, which must hold the player
+     * @return the game
+     */
+    public static Game game(String... rows) {
+        return configuredGame("", rows);
+    }
+
+    /**
+     * Creates a game of a single level, with a fixed random seed and the given configuration.
+     *
+     * @param config lines added to the configuration, see config.properties
+     * @param rows   the rows of the level, which must hold the player
+     * @return the game
+     */
+    public static Game configuredGame(String config, String... rows) {
+        return levels(config, rows);
+    }
+
+    /**
+     * Creates a game of several levels, with a fixed random seed and the given configuration.
+     *
+     * @param config lines added to the configuration, see config.properties
+     * @param levels the rows of each level, the first one holding the player
+     * @return the game
+     */
+    public static Game levels(String config, String[]... levels) {
+        try {
+            Path path = Files.createTempDirectory("ubomb");
+            path.toFile().deleteOnExit();
+            Path properties = Files.write(path.resolve("config.properties"),
+                    ("levels=" + levels.length + "\nlives=3\nrandomSeed=42\n" + config)
+                            .getBytes(StandardCharsets.UTF_8));
+            properties.toFile().deleteOnExit();
+            for (int i = 0; i < levels.length; i++) {
+                Path level = Files.write(path.resolve("level" + (i + 1) + ".txt"), Arrays.asList(levels[i]),
+                        StandardCharsets.UTF_8);
+                level.toFile().deleteOnExit();
+            }
+            return new Game(path.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a world of the given game.
+     *
+     * @param game the game
+     * @param rows the rows of the world
+     * @return the world
+     */
+    public static World world(Game game, String... rows) {
+        return new World(entities(rows), game);
+    }
+
+    /**
+     * Parses the rows of a level.
+     *
+     * @param rows the rows
+     * @return the entities, by row
+     */
+    public static WorldEntity[][] entities(String... rows) {
+        WorldEntity[][] entities = new WorldEntity[rows.length][];
+        for (int y = 0; y < rows.length; y++) {
+            entities[y] = new WorldEntity[rows[y].length()];
+            for (int x = 0; x < rows[y].length(); x++) {
+                char code = rows[y].charAt(x);
+                entities[y][x] = WorldEntity.fromCode(code)
+                        .orElseThrow(() -> new IllegalArgumentException("Unknown code " + code));
+            }
+        }
+        return entities;
+    }
+}
@@ -0,0 +1,104 @@
+package fr.ubx.poo.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TimerWheelTest {
+    private static final long BUCKET = 1L << TimerWheel.RESOLUTION_SHIFT;
+    private static final int SLOTS = 256;
+
+    private final TimerWheel wheel = new TimerWheel();
+    private final List<Long> called = new ArrayList<>();
+    private final TimerListener recorder = (id, due, now) -> called.add(id);
+
+    @Test
+    void callsTimersInTheOrderOfTheirBuckets() {
+        wheel.schedule(recorder, 3, 3 * BUCKET + 1);
+        wheel.schedule(recorder, 1, BUCKET + 1);
+        wheel.schedule(recorder, 2, 2 * BUCKET + 1);
+        wheel.schedule(recorder, 5, 10 * BUCKET);
+
+        wheel.advance(4 * BUCKET);
+
+        assertEquals(Arrays.asList(1L, 2L, 3L), called);
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    void keepsTimersNotYetPastInTheirBucket() {
+        wheel.schedule(recorder, 1, 2 * BUCKET + 100);
+
+        wheel.advance(2 * BUCKET + 50);
+        assertEquals(0, called.size());
+
+        wheel.advance(2 * BUCKET + 200);
+        assertEquals(Arrays.asList(1L), called);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void timersBeyondATurnWaitForTheirTurn() {
+        // Same bucket as 44, one turn later
+        wheel.schedule(recorder, 1, (SLOTS + 44) * BUCKET + 1);
+        wheel.schedule(recorder, 2, 44 * BUCKET + 1);
+
+        wheel.advance(45 * BUCKET);
+        assertEquals(Arrays.asList(2L), called);
+
+        wheel.advance((SLOTS + 10) * BUCKET);
+        assertEquals(Arrays.asList(2L), called);
+
+        wheel.advance((SLOTS + 45) * BUCKET);
+        assertEquals(Arrays.asList(2L, 1L), called);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void aJumpOfSeveralTurnsCallsEveryTimerPast() {
+        for (int i = 0; i < 3 * SLOTS; i += 7) {
+            wheel.schedule(recorder, i, i * BUCKET + 1);
+        }
+        wheel.schedule(recorder, -1, 4 * SLOTS * BUCKET);
+
+        wheel.advance(3 * SLOTS * BUCKET + 1);
+
+        assertEquals(1, wheel.size());
+        called.sort(null);
+        for (int i = 0, k = 0; i < 3 * SLOTS; i += 7, k++) {
+            assertEquals(Long.valueOf(i), called.get(k));
+        }
+    }
+
+    @Test
+    void timersScheduledByAListenerAreCalledOnALaterTick() {
+        TimerListener rescheduling = (id, due, now) -> {
+            called.add(id);
+            wheel.schedule(recorder, id + 1, due);
+        };
+        wheel.schedule(rescheduling, 1, BUCKET + 1);
+
+        wheel.advance(2 * BUCKET);
+        assertEquals(Arrays.asList(1L), called);
+
+        // The late timer waits in the current bucket
+        wheel.advance(2 * BUCKET + 1);
+        assertEquals(Arrays.asList(1L, 2L), called);
+    }
+
+    @Test
+    void recyclesTheEntries() {
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 100; i++) {
+                wheel.schedule(recorder, i, (round + 1) * BUCKET);
+            }
+            wheel.advance((round + 2) * BUCKET);
+            assertEquals(0, wheel.size());
+        }
+        assertEquals(1000, called.size());
+    }
+}
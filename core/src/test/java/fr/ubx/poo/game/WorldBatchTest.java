@@ -0,0 +1,133 @@
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.decor.Decor;
+import fr.ubx.poo.model.decor.DecorRegistry;
+import fr.ubx.poo.model.decor.DecorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorldBatchTest {
+    private final Decor box = DecorRegistry.get(DecorType.BOX);
+    private final Decor tree = DecorRegistry.get(DecorType.TREE);
+    private World world;
+    private Decor stone;
+    private final List<String> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        world = TestGames.world(TestGames.game("P_"),
+                "_____",
+                "_S___",
+                "_____");
+        world.clearDirtyCells();
+        stone = world.get(1, 1);
+        world.addCellChangeListener(new CellChangeListener() {
+            @Override
+            public void cellChanged(Position position, Decor from, Decor to) {
+                events.add(position.x + "," + position.y + ":" + from + "->" + to);
+            }
+
+            @Override
+            public void changesCommitted(World changed) {
+                events.add("commit");
+            }
+        });
+    }
+
+    @Test
+    void appliesTheChangesRightAwayButPublishesThemAtCommit() {
+        world.beginBatch();
+        world.set(0, 0, box);
+        world.clear(1, 1);
+
+        assertTrue(world.isInBatch());
+        assertSame(box, world.get(0, 0));
+        assertNull(world.get(1, 1));
+        assertEquals(Collections.emptyList(), events);
+        assertFalse(world.hasDirtyCells());
+
+        world.commitBatch();
+
+        assertFalse(world.isInBatch());
+        assertEquals(Arrays.asList("0,0:null->" + box, "1,1:" + stone + "->null", "commit"), events);
+        assertTrue(world.hasDirtyCells());
+    }
+
+    @Test
+    void coalescesTheChangesOfACell() {
+        world.beginBatch();
+        world.set(2, 2, box);
+        world.set(2, 2, tree);
+        world.set(3, 0, box);
+        world.clear(3, 0);
+        world.commitBatch();
+
+        assertEquals(Arrays.asList("2,2:null->" + tree, "commit"), events);
+    }
+
+    @Test
+    void publishesNothingWhenTheBatchChangesNothing() {
+        world.beginBatch();
+        world.clear(1, 1);
+        world.set(1, 1, stone);
+        world.commitBatch();
+
+        assertEquals(Collections.emptyList(), events);
+        assertFalse(world.hasDirtyCells());
+    }
+
+    @Test
+    void rollsBackToTheStateBeforeTheBatch() {
+        long hash = world.getHash();
+        world.beginBatch();
+        world.set(0, 0, box);
+        world.set(0, 0, tree);
+        world.clear(1, 1);
+        world.set(4, 2, box);
+        world.rollbackBatch();
+
+        assertFalse(world.isInBatch());
+        assertNull(world.get(0, 0));
+        assertSame(stone, world.get(1, 1));
+        assertNull(world.get(4, 2));
+        assertEquals(hash, world.getHash());
+        assertEquals(Collections.emptyList(), events);
+        assertFalse(world.hasDirtyCells());
+    }
+
+    @Test
+    void allowsANewBatchAfterTheCommit() {
+        world.beginBatch();
+        world.set(0, 0, box);
+        world.commitBatch();
+        events.clear();
+
+        world.beginBatch();
+        world.set(0, 0, tree);
+        world.commitBatch();
+
+        assertEquals(Arrays.asList("0,0:" + box + "->" + tree, "commit"), events);
+    }
+
+    @Test
+    void rejectsMisplacedCalls() {
+        assertThrows(IllegalStateException.class, world::commitBatch);
+        assertThrows(IllegalStateException.class, world::rollbackBatch);
+        world.beginBatch();
+        assertThrows(IllegalStateException.class, world::beginBatch);
+        WorldSnapshot snapshot = world.snapshot();
+        assertThrows(IllegalStateException.class, () -> world.restore(snapshot));
+    }
+}
@@ -0,0 +1,69 @@
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.decor.DecorRegistry;
+import fr.ubx.poo.model.decor.DecorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorldBlastZoneTest {
+    private World world;
+    private Position center;
+
+    @BeforeEach
+    void setUp() {
+        Game game = TestGames.game("P");
+        world = TestGames.world(game,
+                "_____",
+                "_____",
+                "__B__",
+                "_____");
+        center = world.dimension.position(2, 1);
+    }
+
+    @Test
+    void sharesTheZoneWhileTheMapIsUnchanged() {
+        List<Position> zone = world.getBlastZone(center, 2);
+
+        assertSame(zone, world.getBlastZone(center, 2));
+        assertNotSame(zone, world.getBlastZone(center, 1));
+        assertThrows(UnsupportedOperationException.class, () -> zone.add(center));
+        // The box stops the blast downwards and is blasted itself
+        assertTrue(zone.contains(world.dimension.position(2, 2)));
+        assertFalse(zone.contains(world.dimension.position(2, 3)));
+    }
+
+    @Test
+    void computesTheZoneAgainOnceTheVersionChanges() {
+        List<Position> zone = world.getBlastZone(center, 2);
+        long version = world.getVersion();
+
+        world.set(2, 2, null);
+
+        assertTrue(world.getVersion() != version);
+        List<Position> after = world.getBlastZone(center, 2);
+        assertNotSame(zone, after);
+        assertTrue(after.contains(world.dimension.position(2, 3)));
+        assertEquals(zone.size() + 1, after.size());
+    }
+
+    @Test
+    void computesTheZoneAgainOnceADecorIsAdded() {
+        List<Position> zone = world.getBlastZone(center, 2);
+
+        world.set(3, 1, DecorRegistry.get(DecorType.STONE));
+
+        List<Position> after = world.getBlastZone(center, 2);
+        assertNotSame(zone, after);
+        assertFalse(after.contains(world.dimension.position(3, 1)));
+        assertFalse(after.contains(world.dimension.position(4, 1)));
+    }
+}
@@ -0,0 +1,62 @@
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.go.BombObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorldBombIndexTest {
+    private Game game;
+    private World world;
+
+    @BeforeEach
+    void setUp() {
+        game = TestGames.game("P___");
+        world = TestGames.world(game, "____", "____");
+    }
+
+    private BombObject bomb(int x, int y) {
+        BombObject bomb = new BombObject(game, world, world.dimension.position(x, y), 1, 0);
+        world.addBomb(bomb);
+        return bomb;
+    }
+
+    @Test
+    void findsABombByItsCell() {
+        BombObject bomb = bomb(2, 1);
+
+        assertSame(bomb, world.getBombAt(2, 1));
+        assertSame(bomb, world.getBombAt(world.dimension.position(2, 1)));
+        assertTrue(world.isThereABombAt(2, 1));
+        assertFalse(world.isThereABombAt(1, 2));
+        assertNull(world.getBombAt(0, 0));
+    }
+
+    @Test
+    void findsNoBombOutsideTheMap() {
+        bomb(0, 0);
+
+        assertNull(world.getBombAt(-1, 0));
+        assertNull(world.getBombAt(0, -1));
+        assertNull(world.getBombAt(4, 0));
+        assertFalse(world.isThereABombAt(new Position(0, 2)));
+    }
+
+    @Test
+    void forgetsTheBombsThatExploded() {
+        BombObject exploded = bomb(0, 0);
+        BombObject burning = bomb(3, 1);
+        exploded.setBombPhase(5);
+
+        assertEquals(1, world.removeExplodedBombs());
+
+        assertNull(world.getBombAt(0, 0));
+        assertSame(burning, world.getBombAt(3, 1));
+        assertEquals(1, world.getBombs().size());
+    }
+}
@@ -0,0 +1,93 @@
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.decor.Decor;
+import fr.ubx.poo.model.decor.DecorRegistry;
+import fr.ubx.poo.model.decor.DecorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorldDirtyCellsTest {
+    private World world;
+    private final List<String> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        world = TestGames.world(TestGames.game("P_"),
+                "_____",
+                "_S_B_",
+                "_____");
+        world.clearDirtyCells();
+        world.addCellChangeListener(new CellChangeListener() {
+            @Override
+            public void cellChanged(Position position, Decor from, Decor to) {
+                events.add(position.x + "," + position.y + ":" + from + "->" + to);
+            }
+
+            @Override
+            public void changesCommitted(World changed) {
+                events.add("commit");
+            }
+        });
+    }
+
+    private List<Position> dirtyCells() {
+        List<Position> cells = new ArrayList<>();
+        world.forEachDirtyCell(cells::add);
+        return cells;
+    }
+
+    @Test
+    void reportsEachChangeToTheListeners() {
+        Decor stone = world.get(1, 1);
+        Decor box = DecorRegistry.get(DecorType.BOX);
+
+        world.set(0, 0, box);
+        world.clear(1, 1);
+
+        assertEquals(Arrays.asList("0,0:null->" + box, "commit", "1,1:" + stone + "->null", "commit"), events);
+    }
+
+    @Test
+    void tracksTheChangedCellsOnceInTheOrderTheyChanged() {
+        assertFalse(world.hasDirtyCells());
+
+        world.set(4, 2, DecorRegistry.get(DecorType.TREE));
+        world.clear(3, 1);
+        world.set(4, 2, null);
+
+        assertTrue(world.hasDirtyCells());
+        assertEquals(Arrays.asList(world.dimension.position(4, 2), world.dimension.position(3, 1)), dirtyCells());
+        world.clearDirtyCells();
+        assertFalse(world.hasDirtyCells());
+        assertEquals(0, dirtyCells().size());
+
+        world.set(4, 2, DecorRegistry.get(DecorType.TREE));
+        assertEquals(Arrays.asList(world.dimension.position(4, 2)), dirtyCells());
+    }
+
+    @Test
+    void bumpsTheVersionOnEveryChange() {
+        long version = world.getVersion();
+
+        world.set(2, 2, DecorRegistry.get(DecorType.BOX));
+        world.clear(2, 2);
+
+        assertEquals(version + 2, world.getVersion());
+    }
+
+    @Test
+    void rejectsTheCellsOutside() {
+        assertThrows(IllegalArgumentException.class, () -> world.set(5, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> world.set(0, -1, null));
+        assertEquals(0, events.size());
+    }
+}
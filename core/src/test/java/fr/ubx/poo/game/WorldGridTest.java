@@ -0,0 +1,70 @@
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.decor.DecorRegistry;
+import fr.ubx.poo.model.decor.DecorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorldGridTest {
+    private World world;
+
+    @BeforeEach
+    void setUp() {
+        Game game = TestGames.game("P");
+        world = TestGames.world(game,
+                "S__T",
+                "_B__",
+                "___K");
+    }
+
+    @Test
+    void readsTheDecorsOfTheLevel() {
+        assertEquals(4, world.dimension.width);
+        assertEquals(3, world.dimension.height);
+        assertEquals(DecorType.STONE, world.get(0, 0).getType());
+        assertEquals(DecorType.TREE, world.get(3, 0).getType());
+        assertEquals(DecorType.BOX, world.get(world.dimension.position(1, 1)).getType());
+        assertEquals(DecorType.KEY, world.get(3, 2).getType());
+        assertNull(world.get(2, 2));
+    }
+
+    @Test
+    void writesAndClearsACell() {
+        world.set(2, 2, DecorRegistry.get(DecorType.HEART));
+        world.clear(1, 1);
+
+        assertSame(DecorRegistry.get(DecorType.HEART), world.get(2, 2));
+        assertNull(world.get(1, 1));
+    }
+
+    @Test
+    void knowsItsBounds() {
+        assertTrue(world.isInside(0, 0));
+        assertTrue(world.isInside(3, 2));
+        assertFalse(world.isInside(4, 0));
+        assertFalse(world.isInside(0, 3));
+        assertFalse(world.isInside(new Position(-1, 1)));
+        assertThrows(IllegalArgumentException.class, () -> world.set(4, 0, DecorRegistry.get(DecorType.BOX)));
+        assertThrows(IllegalArgumentException.class, () -> world.set(0, -1, null));
+    }
+
+    @Test
+    void walksTheDecorsRowByRow() {
+        List<Position> positions = new ArrayList<>();
+        world.forEach((position, decor) -> positions.add(position));
+
+        assertEquals(Arrays.asList(new Position(0, 0), new Position(3, 0), new Position(1, 1), new Position(3, 2)),
+                positions);
+    }
+}
@@ -0,0 +1,87 @@
+package fr.ubx.poo.game;
+
+import fr.ubx.poo.model.decor.DecorRegistry;
+import fr.ubx.poo.model.decor.DecorType;
+import fr.ubx.poo.model.go.BombObject;
+import fr.ubx.poo.model.go.character.Monster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class WorldHashTest {
+    private static final String[] ROWS = {
+            "_____",
+            "_M_B_",
+            "_____"};
+
+    private Game game;
+    private World world;
+
+    @BeforeEach
+    void setUp() {
+        game = TestGames.game("P");
+        world = TestGames.world(game, ROWS);
+    }
+
+    @Test
+    void comesBackAfterAMonsterMoveIsUndone() {
+        long start = world.getHash();
+        Monster monster = world.getMonsters().get(0);
+
+        monster.doMove(Direction.E);
+        long moved = world.getHash();
+        monster.doMove(Direction.W);
+
+        assertNotEquals(start, moved);
+        assertEquals(start, world.getHash());
+    }
+
+    @Test
+    void comesBackAfterADecorChangeIsUndone() {
+        long start = world.getHash();
+
+        world.set(3, 1, DecorRegistry.get(DecorType.STONE));
+        long changed = world.getHash();
+        world.set(3, 1, DecorRegistry.get(DecorType.BOX));
+
+        assertNotEquals(start, changed);
+        assertEquals(start, world.getHash());
+
+        world.beginBatch();
+        world.set(3, 1, null);
+        world.set(0, 0, DecorRegistry.get(DecorType.TREE));
+        world.rollbackBatch();
+        assertEquals(start, world.getHash());
+    }
+
+    @Test
+    void comesBackAfterABombExplodes() {
+        long start = world.getHash();
+        BombObject bomb = new BombObject(game, world, world.dimension.position(2, 2), 1, 0);
+
+        world.addBomb(bomb);
+        long withBomb = world.getHash();
+        bomb.setBombPhase(5);
+        world.removeExplodedBombs();
+
+        assertNotEquals(start, withBomb);
+        assertEquals(start, world.getHash());
+    }
+
+    @Test
+    void dependsOnTheStateOnlyNotOnTheOrderOfTheChanges() {
+        World other = TestGames.world(game, ROWS);
+
+        world.set(0, 0, DecorRegistry.get(DecorType.KEY));
+        world.set(3, 1, null);
+        world.getMonsters().get(0).doMove(Direction.S);
+        other.getMonsters().get(0).doMove(Direction.S);
+        other.set(3, 1, null);
+        other.set(0, 0, DecorRegistry.get(DecorType.KEY));
+
+        assertEquals(world.getHash(), other.getHash());
+        assertEquals(TestGames.world(game, "K____", "_____", "_M___").getHash(), world.getHash());
+    }
+}
@@ -0,0 +1,59 @@
+package fr.ubx.poo.model.decor;
+
+import fr.ubx.poo.game.Game;
+import fr.ubx.poo.game.TestGames;
+import fr.ubx.poo.game.World;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DecorRegistryTest {
+    @Test
+    void holdsOneDecorOfEachType() {
+        for (DecorType type : DecorType.values()) {
+            Decor decor = DecorRegistry.get(type);
+
+            assertEquals(type, decor.getType());
+            assertSame(decor, DecorRegistry.get(type));
+            assertEquals(type.getFlags(), decor.getFlags());
+            assertEquals(type.getFlags(), DecorType.flagsOf(type.ordinal()));
+        }
+    }
+
+    @Test
+    void findsTheDoorOfEachState() {
+        for (boolean closed : new boolean[]{false, true}) {
+            for (boolean prev : new boolean[]{false, true}) {
+                Door door = DecorRegistry.door(closed, prev);
+
+                assertEquals(closed, door.isClosed());
+                assertEquals(prev, door.isPrev());
+                assertSame(DecorRegistry.get(Door.typeOf(closed, prev)), door);
+            }
+        }
+    }
+
+    @Test
+    void sharesTheDecorsBetweenTheCellsOfAWorld() {
+        Game game = TestGames.game("P");
+        World world = TestGames.world(game, "BB", "nH");
+
+        assertSame(world.get(0, 0), world.get(1, 0));
+        assertSame(DecorRegistry.get(DecorType.HEART), world.get(1, 1));
+        assertSame(DecorRegistry.door(true, false), world.get(0, 1));
+    }
+
+    @Test
+    void givesEachTypeItsTraits() {
+        assertTrue(DecorType.BOX.has(DecorType.STOPS_BLAST | DecorType.DESTROYABLE));
+        assertFalse(DecorType.BOX.has(DecorType.WALKABLE_BY_PLAYER));
+        assertTrue(DecorType.PRINCESS.has(DecorType.WALKABLE_BY_PLAYER));
+        assertFalse(DecorType.PRINCESS.has(DecorType.WALKABLE_BY_MONSTER));
+        assertFalse(DecorType.STONE.has(DecorType.DESTROYABLE));
+        assertTrue(DecorType.DOOR_NEXT_OPENED.has(DecorType.WALKABLE_BY_PLAYER | DecorType.STOPS_BLAST));
+        assertFalse(DecorType.DOOR_NEXT_CLOSED.has(DecorType.WALKABLE_BY_PLAYER));
+    }
+}
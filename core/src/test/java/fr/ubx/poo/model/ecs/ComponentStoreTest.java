@@ -0,0 +1,53 @@
+package fr.ubx.poo.model.ecs;
+
+import fr.ubx.poo.model.go.EntityIds;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ComponentStoreTest {
+    private final EntityIds ids = new EntityIds();
+    private final HealthStore health = new HealthStore();
+
+    @Test
+    void keepsTheSlotsDenseWhenRemoving() {
+        long[] entities = new long[40];
+        for (int i = 0; i < entities.length; i++) {
+            entities[i] = ids.allocate();
+            health.add(entities[i], i);
+        }
+
+        for (int i = 0; i < entities.length; i += 3) {
+            health.remove(entities[i]);
+        }
+
+        assertEquals(26, health.size());
+        for (int slot = 0; slot < health.size(); slot++) {
+            assertEquals(slot, health.slotOf(health.entityAt(slot)));
+        }
+        for (int i = 0; i < entities.length; i++) {
+            if (i % 3 == 0) {
+                assertFalse(health.has(entities[i]));
+            } else {
+                assertEquals(i, health.livesAt(health.slotOf(entities[i])));
+            }
+        }
+    }
+
+    @Test
+    void ignoresStaleIds() {
+        long id = ids.allocate();
+        health.add(id, 3);
+        health.remove(id);
+        ids.release(id);
+        long reused = ids.allocate();
+        health.add(reused, 5);
+
+        assertFalse(health.has(id));
+        health.remove(id);
+        assertTrue(health.has(reused));
+        assertEquals(5, health.livesAt(health.slotOf(reused)));
+    }
+}
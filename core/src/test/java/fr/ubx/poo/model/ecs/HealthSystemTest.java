@@ -0,0 +1,40 @@
+package fr.ubx.poo.model.ecs;
+
+import fr.ubx.poo.game.Game;
+import fr.ubx.poo.game.TestGames;
+import fr.ubx.poo.model.go.character.Player;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HealthSystemTest {
+    private static final long MILLISECOND = 1_000_000L;
+
+    private final Game game = TestGames.game("P_");
+    private final Player player = game.getPlayer();
+
+    @Test
+    void keepsTheLivesInTheHealthStore() {
+        HealthStore health = game.getEntities().getHealth();
+
+        player.loseLife(0);
+
+        assertEquals(2, player.getLives());
+        assertEquals(2, health.livesAt(health.slotOf(player.getId())));
+        assertTrue(health.isInvulnerableAt(health.slotOf(player.getId())));
+    }
+
+    @Test
+    void wearsOffTheInvulnerabilityWithTheTimer() {
+        player.loseLife(1000 * MILLISECOND);
+        HealthSystem system = game.getHealthSystem();
+
+        system.update(3500 * MILLISECOND);
+        assertFalse(player.isVulnerable());
+
+        system.update(3500 * MILLISECOND + 1);
+        assertTrue(player.isVulnerable());
+    }
+}
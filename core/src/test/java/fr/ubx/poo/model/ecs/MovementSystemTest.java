@@ -0,0 +1,59 @@
+package fr.ubx.poo.model.ecs;
+
+import fr.ubx.poo.game.Direction;
+import fr.ubx.poo.game.Game;
+import fr.ubx.poo.game.TestGames;
+import fr.ubx.poo.model.go.character.Player;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MovementSystemTest {
+    private final Game game = TestGames.game(
+            "____",
+            "_P_S",
+            "____");
+    private final Player player = game.getPlayer();
+    private final MovementSystem system = game.getMovementSystem();
+
+    @Test
+    void movesTheCharactersThatAsked() {
+        player.requestMove(Direction.E);
+        assertTrue(player.isMoveRequested());
+
+        system.update();
+
+        assertEquals(game.getWorld().dimension.position(2, 1), player.getPosition());
+        assertEquals(Direction.E, player.getDirection());
+        assertFalse(player.isMoveRequested());
+
+        system.update();
+        assertEquals(game.getWorld().dimension.position(2, 1), player.getPosition());
+    }
+
+    @Test
+    void turnsWithoutMovingWhenBlocked() {
+        player.requestMove(Direction.E);
+        system.update();
+        player.requestMove(Direction.E);
+
+        system.update();
+
+        assertEquals(game.getWorld().dimension.position(2, 1), player.getPosition());
+        assertFalse(player.isMoveRequested());
+    }
+
+    @Test
+    void keepsTheIntentInTheIntentStore() {
+        IntentStore intents = game.getEntities().getIntents();
+        int slot = intents.slotOf(player.getId());
+
+        player.requestMove(Direction.N);
+
+        assertEquals(Direction.N, intents.facingAt(slot));
+        assertTrue(intents.isRequestedAt(slot));
+        assertEquals(player, intents.characterAt(slot));
+    }
+}
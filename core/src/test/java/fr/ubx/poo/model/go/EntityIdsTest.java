@@ -0,0 +1,63 @@
+package fr.ubx.poo.model.go;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntityIdsTest {
+    private final EntityIds ids = new EntityIds();
+
+    @Test
+    void reusesReleasedIndexesWithANewGeneration() {
+        long first = ids.allocate();
+        ids.release(first);
+
+        long second = ids.allocate();
+
+        assertEquals(EntityIds.indexOf(first), EntityIds.indexOf(second));
+        assertNotEquals(first, second);
+        assertFalse(ids.isAlive(first));
+        assertTrue(ids.isAlive(second));
+    }
+
+    @Test
+    void ignoresStaleAndUnknownIds() {
+        long id = ids.allocate();
+        ids.release(id);
+        long reused = ids.allocate();
+
+        ids.release(id);
+
+        assertTrue(ids.isAlive(reused));
+        assertEquals(1, ids.size());
+        assertFalse(ids.isAlive(EntityIds.NONE));
+        assertFalse(ids.isAlive(reused + 1));
+    }
+
+    @Test
+    void neverGivesAnIdTwice() {
+        Set<Long> given = new HashSet<>();
+        long[] alive = new long[100];
+        for (int i = 0; i < alive.length; i++) {
+            alive[i] = ids.allocate();
+            assertTrue(given.add(alive[i]));
+        }
+        for (int round = 0; round < 10; round++) {
+            for (int i = round % 3; i < alive.length; i += 3) {
+                ids.release(alive[i]);
+                alive[i] = ids.allocate();
+                assertTrue(given.add(alive[i]));
+            }
+        }
+        assertEquals(alive.length, ids.size());
+        for (long id : alive) {
+            assertTrue(ids.isAlive(id));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package fr.ubx.poo.model.go;
+
+import fr.ubx.poo.game.Game;
+import fr.ubx.poo.game.TestGames;
+import fr.ubx.poo.game.World;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExplosionObjectTest {
+    private static final long LIFETIME = ExplosionObject.DURATION * 1000000L;
+
+    private final Game game = TestGames.game(
+            "P_____",
+            "______",
+            "______");
+    private final World world = game.getWorld();
+
+    private ExplosionObject detonate(int x, int y, long now) {
+        BombObject bomb = new BombObject(game, world, world.dimension.position(x, y), 1, now);
+        world.addBomb(bomb);
+        ExplosionObject explosion = world.getExplosionResolver().detonate(game, now, Collections.singletonList(bomb));
+        world.removeExplodedBombs();
+        return explosion;
+    }
+
+    @Test
+    void fadesWithTheLifetimeLeft() {
+        ExplosionObject explosion = detonate(3, 1, 0);
+
+        assertEquals(1.0, explosion.getRemainingLife(0));
+        assertEquals(0.5, explosion.getRemainingLife(LIFETIME / 2));
+        assertEquals(0.0, explosion.getRemainingLife(2 * LIFETIME));
+    }
+
+    @Test
+    void expiresAfterItsDuration() {
+        List<Long> removed = new ArrayList<>();
+        world.addEntityListener(removed::add);
+        ExplosionObject explosion = detonate(3, 1, 0);
+        long id = explosion.getId();
+
+        world.removeExpiredExplosions(LIFETIME);
+        assertEquals(1, world.getExplosions().size());
+
+        world.removeExpiredExplosions(LIFETIME + 1);
+        assertTrue(world.getExplosions().isEmpty());
+        assertTrue(removed.contains(id));
+    }
+
+    @Test
+    void reusesExpiredExplosionsWithANewId() {
+        ExplosionObject first = detonate(3, 1, 0);
+        long id = first.getId();
+        world.removeExpiredExplosions(LIFETIME + 1);
+
+        ExplosionObject second = detonate(4, 2, 2 * LIFETIME);
+
+        assertSame(first, second);
+        assertNotEquals(id, second.getId());
+        assertEquals(world.dimension.position(4, 2), second.getPosition());
+        assertEquals(1.0, second.getRemainingLife(2 * LIFETIME));
+    }
+}
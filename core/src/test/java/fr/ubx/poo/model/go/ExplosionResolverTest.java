@@ -0,0 +1,134 @@
+package fr.ubx.poo.model.go;
+
+import fr.ubx.poo.game.Game;
+import fr.ubx.poo.game.Position;
+import fr.ubx.poo.game.TestGames;
+import fr.ubx.poo.game.World;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExplosionResolverTest {
+    private Game game;
+    private World world;
+
+    @BeforeEach
+    void setUp() {
+        game = TestGames.game(
+                "P___________",
+                "____________",
+                "____________",
+                "____________",
+                "____S_______",
+                "____________",
+                "____________",
+                "____________");
+        world = game.getWorld();
+    }
+
+    private BombObject bomb(int x, int y, int range) {
+        BombObject bomb = new BombObject(game, world, world.dimension.position(x, y), range, 0);
+        world.addBomb(bomb);
+        return bomb;
+    }
+
+    @Test
+    void chainsTheBombsCaughtByTheBlast() {
+        BombObject first = bomb(2, 2, 2);
+        BombObject chained = bomb(4, 2, 1);
+        BombObject second = bomb(4, 1, 1);
+        BombObject away = bomb(9, 6, 1);
+
+        ArrayList<Position> blasted = world.getExplosionResolver().resolve(Collections.singletonList(first));
+
+        assertEquals(5, first.getBombPhase());
+        assertEquals(5, chained.getBombPhase());
+        assertEquals(5, second.getBombPhase());
+        assertEquals(1, away.getBombPhase());
+        assertEquals(new HashSet<>(blasted).size(), blasted.size(), "duplicated cells");
+        Set<Position> expected = new HashSet<>(first.getBombZone());
+        expected.addAll(chained.getBombZone());
+        expected.addAll(second.getBombZone());
+        assertEquals(expected, new HashSet<>(blasted));
+    }
+
+    @Test
+    void stopsAtTheDecorsStoppingTheBlast() {
+        BombObject bomb = bomb(4, 2, 3);
+        BombObject hidden = bomb(4, 5, 1);
+
+        ArrayList<Position> blasted = world.getExplosionResolver().resolve(Collections.singletonList(bomb));
+
+        assertTrue(blasted.contains(world.dimension.position(4, 3)));
+        assertTrue(!blasted.contains(world.dimension.position(4, 4)), "blast went through the stone");
+        assertEquals(1, hidden.getBombPhase());
+    }
+
+    @Test
+    void matchesTheRecursiveChainReaction() {
+        Random random = new Random(6);
+        for (int trial = 0; trial < 50; trial++) {
+            setUp();
+            List<BombObject> bombs = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                int x = random.nextInt(world.dimension.width);
+                int y = random.nextInt(world.dimension.height);
+                if (world.get(x, y) == null && world.getBombAt(x, y) == null) {
+                    bombs.add(bomb(x, y, 1 + random.nextInt(3)));
+                }
+            }
+            if (bombs.isEmpty()) {
+                continue;
+            }
+            Set<Position> expectedCells = new HashSet<>();
+            Set<BombObject> expectedBombs = new HashSet<>();
+            explodeRecursively(bombs.get(0), expectedCells, expectedBombs);
+
+            ArrayList<Position> blasted = world.getExplosionResolver().resolve(bombs.subList(0, 1));
+
+            assertEquals(expectedCells, new HashSet<>(blasted));
+            assertEquals(expectedCells.size(), blasted.size());
+            for (BombObject bomb : bombs) {
+                assertEquals(expectedBombs.contains(bomb) ? 5 : 1, bomb.getBombPhase());
+            }
+        }
+    }
+
+    /**
+     * Chain reaction as the bombs used to resolve it, each bomb exploding the bombs of its zone in turn.
+     */
+    private void explodeRecursively(BombObject bomb, Set<Position> cells, Set<BombObject> exploded) {
+        exploded.add(bomb);
+        for (Position position : bomb.getBombZone()) {
+            cells.add(position);
+            BombObject chained = world.getBombAt(position);
+            if (chained != null && !exploded.contains(chained)) {
+                explodeRecursively(chained, cells, exploded);
+            }
+        }
+    }
+
+    @Test
+    void detonatesIntoASingleExplosionOverTheMergedBlast() {
+        BombObject first = bomb(2, 2, 2);
+        bomb(4, 2, 1);
+
+        ExplosionObject explosion = world.getExplosionResolver().detonate(game, 10, Collections.singletonList(first));
+
+        assertEquals(1, world.getExplosions().size());
+        assertSame(explosion, world.getExplosions().get(0));
+        assertSame(first.getPosition(), explosion.getPosition());
+        assertEquals(10, explosion.getLastActionTime());
+        assertEquals(12, explosion.getBombZone().size());
+    }
+}
@@ -0,0 +1,75 @@
+package fr.ubx.poo.model.go.character;
+
+import fr.ubx.poo.game.Direction;
+import fr.ubx.poo.game.Game;
+import fr.ubx.poo.game.TestGames;
+import fr.ubx.poo.game.World;
+import fr.ubx.poo.model.go.BombObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MonsterOccupancyTest {
+    private Game game;
+    private World world;
+    private Monster left;
+    private Monster right;
+
+    @BeforeEach
+    void setUp() {
+        game = TestGames.game("P");
+        world = TestGames.world(game,
+                "_M_M",
+                "____");
+        left = world.getMonsterAt(1, 0);
+        right = world.getMonsterAt(3, 0);
+    }
+
+    @Test
+    void indexesTheMonstersByCell() {
+        assertTrue(world.isThereAMonsterAt(1, 0));
+        assertTrue(world.isThereAMonsterAt(world.dimension.position(3, 0)));
+        assertFalse(world.isThereAMonsterAt(2, 0));
+        assertFalse(world.isThereAMonsterAt(-1, 0));
+        assertNull(world.getMonsterAt(4, 0));
+    }
+
+    @Test
+    void followsTheMonstersAsTheyMove() {
+        left.doMove(Direction.S);
+
+        assertFalse(world.isThereAMonsterAt(1, 0));
+        assertSame(left, world.getMonsterAt(1, 1));
+        assertSame(right, world.getMonsterAt(3, 0));
+    }
+
+    @Test
+    void keepsTwoMonstersOffTheSameCell() {
+        left.doMove(Direction.E);
+
+        assertFalse(left.canMove(Direction.E));
+        assertFalse(right.canMove(Direction.W));
+        assertTrue(right.canMove(Direction.S));
+    }
+
+    @Test
+    void keepsTheMonstersOffTheBombs() {
+        world.addBomb(new BombObject(game, world, world.dimension.position(1, 1), 1, 0));
+
+        assertFalse(left.canMove(Direction.S));
+        assertTrue(left.canMove(Direction.W));
+    }
+
+    @Test
+    void freesTheCellOfADeadMonster() {
+        left.setLives(0);
+
+        assertFalse(left.isAlive());
+        assertFalse(world.isThereAMonsterAt(1, 0));
+        assertSame(right, world.getMonsterAt(3, 0));
+    }
+}
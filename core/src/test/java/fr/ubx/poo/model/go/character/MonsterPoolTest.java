@@ -0,0 +1,124 @@
+package fr.ubx.poo.model.go.character;
+
+import fr.ubx.poo.game.Direction;
+import fr.ubx.poo.game.Game;
+import fr.ubx.poo.game.TestGames;
+import fr.ubx.poo.game.World;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MonsterPoolTest {
+    private static final long TICK = 1_100_000_000L;
+    private static final int SIZE = 140;
+
+    /**
+     * Creates a crowd large enough for the moves to be picked in parallel.
+     * Each crowd has its own game, the seed of the pool being drawn from the random of the game.
+     */
+    private static World crowd() {
+        Game game = TestGames.game("P_");
+        Random random = new Random(1);
+        String[] rows = new String[SIZE];
+        for (int y = 0; y < SIZE; y++) {
+            StringBuilder row = new StringBuilder();
+            for (int x = 0; x < SIZE; x++) {
+                int draw = random.nextInt(10);
+                row.append(draw < 3 ? 'M' : draw == 3 ? 'S' : '_');
+            }
+            rows[y] = row.toString();
+        }
+        return TestGames.world(game, rows);
+    }
+
+    /**
+     * Moves the crowd on a pool of the given size.
+     *
+     * @return the positions and directions of the monsters, in the order of the pool
+     */
+    private static List<String> run(int threads) throws Exception {
+        World world = crowd();
+        MonsterPool monsters = world.getMonsterPool();
+        assertEquals(true, monsters.size() >= 4096);
+        long start = monsters.getHash();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.submit(() -> {
+                for (long now = TICK; now <= 20 * TICK; now += TICK) {
+                    world.updateTimers(now);
+                }
+            }).get();
+        } finally {
+            pool.shutdown();
+        }
+        assertNotEquals(start, monsters.getHash());
+        List<String> state = new ArrayList<>();
+        int occupied = 0;
+        for (int y = 0; y < SIZE; y++) {
+            for (int x = 0; x < SIZE; x++) {
+                if (world.isThereAMonsterAt(x, y)) {
+                    occupied++;
+                }
+            }
+        }
+        // Two monsters never end on the same cell
+        assertEquals(monsters.size(), occupied);
+        for (Monster monster : monsters.monsters()) {
+            state.add(monster.getPosition() + " " + monster.getDirection());
+        }
+        state.add(Long.toString(monsters.getHash()));
+        return state;
+    }
+
+    @Test
+    void theLastMonsterTakesTheSlotOfADeadOne() {
+        Game game = TestGames.game("P");
+        World world = TestGames.world(game, "M_M_M");
+        MonsterPool monsters = world.getMonsterPool();
+        Monster first = monsters.view(0);
+        Monster last = monsters.view(2);
+        long id = last.getId();
+
+        first.setLives(0);
+
+        assertEquals(2, monsters.size());
+        assertSame(last, monsters.view(0));
+        assertEquals(id, last.getId());
+        assertEquals(world.dimension.position(4, 0), last.getPosition());
+        assertSame(last, world.getMonsterAt(4, 0));
+        assertNull(world.getMonsterAt(0, 0));
+        assertEquals(2, monsters.monsters().size());
+    }
+
+    @Test
+    void spawnsMonstersPastTheInitialCapacity() {
+        Game game = TestGames.game("P");
+        World world = TestGames.world(game, "_____", "_____", "_____", "_____");
+        MonsterPool monsters = world.getMonsterPool();
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i, monsters.spawn(i % 5, i / 5, Direction.N, 1, 1000));
+        }
+
+        assertEquals(20, monsters.size());
+        for (int i = 0; i < 20; i++) {
+            assertSame(monsters.view(i), world.getMonsterAt(i % 5, i / 5));
+        }
+    }
+
+    @Test
+    void crowdMovesDoNotDependOnTheNumberOfThreads() throws Exception {
+        List<String> expected = run(1);
+        for (int threads : new int[]{2, 4, 8}) {
+            assertEquals(expected, run(threads), "threads " + threads);
+        }
+    }
+}
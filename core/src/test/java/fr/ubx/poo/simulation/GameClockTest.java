@@ -0,0 +1,136 @@
+package fr.ubx.poo.simulation;
+
+import fr.ubx.poo.game.Game;
+import fr.ubx.poo.game.TestGames;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GameClockTest {
+    private static final long MILLI = 1_000_000L;
+
+    @Test
+    void theFirstFrameOnlyStartsTheClock() {
+        SimulatedTimeSource source = new SimulatedTimeSource(5_000 * MILLI);
+        GameClock clock = new GameClock(source, 100, 5);
+
+        assertEquals(0, clock.advance());
+        assertEquals(0, clock.getTime());
+    }
+
+    @Test
+    void keepsTheRemainderOfAFrameForTheNextOne() {
+        SimulatedTimeSource source = new SimulatedTimeSource();
+        GameClock clock = new GameClock(source, 100, 5);
+        clock.advance();
+
+        source.advance(4 * MILLI);
+        assertEquals(0, clock.advance());
+        source.advance(7 * MILLI);
+        assertEquals(1, clock.advance());
+        source.advance(19 * MILLI);
+        assertEquals(2, clock.advance());
+        source.advance(9 * MILLI);
+        assertEquals(0, clock.advance());
+    }
+
+    @Test
+    void runsAtMostMaxStepsPerFrameAndDropsTheRestOfTheDelay() {
+        SimulatedTimeSource source = new SimulatedTimeSource();
+        GameClock clock = new GameClock(source, 100, 5);
+        clock.advance();
+
+        source.advance(1_000 * MILLI);
+        assertEquals(5, clock.advance());
+        source.advance(10 * MILLI);
+        assertEquals(1, clock.advance());
+    }
+
+    @Test
+    void movesTheSimulationTimeByOneStepAtATime() {
+        GameClock clock = new GameClock(new SimulatedTimeSource(), 100, 5);
+
+        assertEquals(10 * MILLI, clock.getStep());
+        assertEquals(10 * MILLI, clock.nextStep());
+        assertEquals(20 * MILLI, clock.nextStep());
+        assertEquals(20 * MILLI, clock.getTime());
+    }
+
+    @Test
+    void rejectsAClockWithoutSteps() {
+        assertThrows(IllegalArgumentException.class, () -> new GameClock(new SimulatedTimeSource(), 0, 5));
+        assertThrows(IllegalArgumentException.class, () -> new GameClock(new SimulatedTimeSource(), 60, 0));
+    }
+
+    @Test
+    void aReplayedRecordingRunsTheSameSteps() {
+        SimulatedTimeSource simulated = new SimulatedTimeSource();
+        RecordingTimeSource recording = new RecordingTimeSource(simulated);
+        GameClock recorded = new GameClock(recording, 60, 5);
+        Random random = new Random(1);
+        int[] steps = new int[200];
+        for (int i = 0; i < steps.length; i++) {
+            steps[i] = recorded.advance();
+            simulated.advance(random.nextInt(120) * MILLI);
+        }
+
+        ReplayedTimeSource replay = new ReplayedTimeSource(recording.getRecording());
+        GameClock replayed = new GameClock(replay, 60, 5);
+        int[] replayedSteps = new int[steps.length];
+        for (int i = 0; i < steps.length; i++) {
+            replayedSteps[i] = replayed.advance();
+        }
+
+        assertArrayEquals(steps, replayedSteps);
+        assertFalse(replay.hasNext());
+        assertThrows(IllegalStateException.class, replay::nanoTime);
+    }
+
+    /**
+     * Plays a game for ten seconds of frames of random durations, dropping a bomb on the first frame.
+     *
+     * @param jitter the seed of the durations of the frames, 0 for frames of exactly one step
+     * @return the hash of the game at the end
+     */
+    private static long play(long jitter) {
+        Game game = TestGames.game(
+                "_____H______",
+                "SSS_S_SSSS_M",
+                "B___SBS__S__",
+                "____SBS__S__",
+                "_B__SSS_KS__",
+                "____P____S__",
+                "_TBT_____S__",
+                "_TTT__+-_B__",
+                "_________B_M",
+                "BSSSSBBSSSB_",
+                "__n____M____",
+                "___<___>_SM_");
+        GameSimulation simulation = new GameSimulation(game);
+        SimulatedTimeSource source = new SimulatedTimeSource();
+        GameClock clock = new GameClock(source, 60, 5);
+        Random random = new Random(jitter);
+        long end = 10_000 * MILLI;
+        simulation.advance(clock, Inputs.of(false, false, false, false, true, false));
+        while (source.nanoTime() < end) {
+            long frame = jitter == 0 ? clock.getStep() : (1 + random.nextInt(60)) * MILLI;
+            source.advance(Math.min(frame, end - source.nanoTime()));
+            simulation.advance(clock, Inputs.NONE);
+        }
+        assertEquals(end / clock.getStep(), clock.getTime() / clock.getStep());
+        return game.getWorldManager().getHash(game.getPlayer());
+    }
+
+    @Test
+    void theGameDoesNotDependOnTheFrameRate() {
+        long hash = play(0);
+
+        assertEquals(hash, play(1));
+        assertEquals(hash, play(2));
+    }
+}
@@ -0,0 +1,99 @@
+package fr.ubx.poo.simulation;
+
+import fr.ubx.poo.game.Direction;
+import fr.ubx.poo.game.Game;
+import fr.ubx.poo.game.TestGames;
+import fr.ubx.poo.model.go.BombObject;
+import fr.ubx.poo.model.go.ExplosionObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameSimulationTest {
+    private static final long TICK = 16_666_666L;
+
+    /**
+     * Runs ticks with the same actions until the game is over or a minute went by.
+     *
+     * @return the time of the last tick
+     */
+    private static long run(GameSimulation simulation, long now, Inputs inputs) {
+        long end = now + 60 * 60 * TICK;
+        while (simulation.getStatus() == GameSimulation.Status.PLAYING && now < end) {
+            now += TICK;
+            simulation.tick(now, inputs);
+        }
+        return now;
+    }
+
+    @Test
+    void thePlayerWinsOnThePrincess() {
+        Game game = TestGames.game("P__W");
+        GameSimulation simulation = new GameSimulation(game);
+
+        run(simulation, 0, Inputs.move(Direction.E));
+
+        assertEquals(GameSimulation.Status.WON, simulation.getStatus());
+        assertEquals(game.getWorld().dimension.position(3, 0), game.getPlayer().getPosition());
+    }
+
+    @Test
+    void thePlayerLosesOnItsLastLife() {
+        Game game = TestGames.configuredGame("lives=1\n", "P__");
+        GameSimulation simulation = new GameSimulation(game);
+        List<BombObject> dropped = new ArrayList<>();
+        List<ExplosionObject> explosions = new ArrayList<>();
+        simulation.setListener(new SimulationListener() {
+            @Override
+            public void bombDropped(BombObject bomb) {
+                dropped.add(bomb);
+            }
+
+            @Override
+            public void exploded(ExplosionObject explosion) {
+                explosions.add(explosion);
+            }
+
+            @Override
+            public void worldChanged() {
+            }
+        });
+
+        simulation.tick(TICK, Inputs.BOMB);
+        long end = run(simulation, TICK, Inputs.NONE);
+
+        assertEquals(GameSimulation.Status.LOST, simulation.getStatus());
+        assertEquals(1, dropped.size());
+        assertEquals(1, explosions.size());
+        // A game over doesn't change anymore
+        long hash = game.getWorldManager().getHash(game.getPlayer());
+        simulation.tick(end + TICK, Inputs.move(Direction.E));
+        assertEquals(hash, game.getWorldManager().getHash(game.getPlayer()));
+    }
+
+    @Test
+    void theSameActionsPlayTheSameGame() {
+        long[] hashes = new long[2];
+        for (int run = 0; run < hashes.length; run++) {
+            Game game = TestGames.game(
+                    "P___B___M",
+                    "_SSS_SSS_",
+                    "__M____>_");
+            GameSimulation simulation = new GameSimulation(game);
+            long now = 0;
+            Inputs[] script = {Inputs.BOMB, Inputs.move(Direction.S), Inputs.move(Direction.S), Inputs.NONE};
+            for (int i = 0; i < 10 * 60; i++) {
+                now += TICK;
+                simulation.tick(now, script[Math.min(i / 20, script.length - 1)]);
+            }
+            hashes[run] = game.getWorldManager().getHash(game.getPlayer());
+        }
+
+        assertEquals(hashes[0], hashes[1]);
+        assertTrue(hashes[0] != 0);
+    }
+}
@@ -4,16 +4,21 @@
 package fr.ubx.poo.engine;
 
 import fr.ubx.poo.game.*;
-import fr.ubx.poo.model.decor.Bomb;
-import fr.ubx.poo.model.decor.Door;
+import fr.ubx.poo.model.decor.Decor;
 import fr.ubx.poo.model.go.BombObject;
+import fr.ubx.poo.model.go.ExplosionObject;
 import fr.ubx.poo.model.go.character.Monster;
 import fr.ubx.poo.model.go.character.Player;
+import fr.ubx.poo.simulation.GameClock;
+import fr.ubx.poo.simulation.GameSimulation;
+import fr.ubx.poo.simulation.SimulationListener;
+import fr.ubx.poo.simulation.WallTimeSource;
 import fr.ubx.poo.view.sprite.*;
 import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.scene.Group;
 import javafx.scene.Scene;
+import javafx.scene.image.ImageView;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
@@ -22,30 +27,42 @@ import javafx.scene.text.Text;
 import javafx.scene.text.TextAlignment;
 import javafx.stage.Stage;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Objects;
+import java.util.ArrayDeque;
 
 
 /**
  * The type Game engine.
+ * Displays a {@link GameSimulation} and feeds it with the keyboard input, once per frame.
  */
-public final class GameEngine {
+public final class GameEngine implements SimulationListener {
 
     private static AnimationTimer gameLoop;
     private final String windowTitle;
     private final Game game;
     private final Player player;
-    private final List<Sprite> sprites = new ArrayList<>();
+    private final GameSimulation simulation;
+    /**
+     * Clock of the simulation, reading the time of the system.
+     */
+    private final GameClock clock;
+    /**
+     * Decor sprites of the current world, indexed like its grid.
+     */
+    private Sprite[] decorSprites;
     private StatusBar statusBar;
     private Pane layer;
     private Input input;
     private Stage stage;
     private Sprite spritePlayer;
-    private final ArrayList<Sprite> spriteMonsters = new ArrayList<>();
-    private final ArrayList<Sprite> spriteBombs = new ArrayList<>();
-    private final ArrayList<SpriteExplosion> spriteExplosions = new ArrayList<>();
+    /**
+     * Sprites of the monsters of the current world and of the bombs and explosions of the live worlds, by id.
+     */
+    private final SpriteRegistry sprites = new SpriteRegistry();
+    private final EntityListener entityListener = this::entityRemoved;
+    /**
+     * Views of blasted cells ready to be reused by the explosion sprites, see {@link SpriteExplosion}.
+     */
+    private final ArrayDeque<ImageView> freeExplosionCells = new ArrayDeque<>();
 
 
     /**
@@ -59,6 +76,9 @@ public final class GameEngine {
         this.windowTitle = windowTitle;
         this.game = game;
         this.player = game.getPlayer();
+        this.simulation = new GameSimulation(game);
+        simulation.setListener(this);
+        this.clock = new GameClock(new WallTimeSource(), game.getTickRate(), game.getMaxStepsPerFrame());
         initialize(stage, game);
         buildAndSetGameLoop();
     }
@@ -88,15 +108,35 @@ public final class GameEngine {
         root.getChildren().add(layer);
         statusBar = new StatusBar(root, sceneWidth, sceneHeight);
         // Create decor sprites
-        game.getWorld().forEach((pos, d) -> sprites.add(SpriteFactory.createDecor(layer, pos, d)));
-        spritePlayer = SpriteFactory.createPlayer(layer, player);
         World w = game.getWorld();
-        // Create the monsters of the world
+        decorSprites = new Sprite[width * height];
+        w.forEach((pos, d) -> decorSprites[pos.y * width + pos.x] = SpriteFactory.createDecor(layer, pos, d));
+        w.clearDirtyCells();
+        spritePlayer = SpriteFactory.createPlayer(layer, player);
+        // Sprites are bound to the previous layer, the entities of the world get sprites on the new layer
+        sprites.removeIf(s -> true);
         for (Monster m : w.getMonsters()) {
-            spriteMonsters.add(SpriteFactory.createMonster(layer, m));
+            sprites.add(SpriteFactory.createMonster(layer, m));
+        }
+        for (BombObject bomb : w.getBombs()) {
+            sprites.add(new SpriteBomb(layer, bomb));
+        }
+        for (ExplosionObject explosion : w.getExplosions()) {
+            sprites.add(new SpriteExplosion(layer, explosion, clock, freeExplosionCells));
+        }
+        for (World liveWorld : game.getWorldManager().getWorlds()) {
+            liveWorld.addEntityListener(entityListener);
         }
     }
 
+    /**
+     * Removes the sprites of a game object leaving its world.
+     * @param id the id of the game object.
+     */
+    private void entityRemoved(long id) {
+        sprites.remove(id);
+    }
+
     /**
      * Builds and set game loop.
      */
@@ -104,10 +144,10 @@ public final class GameEngine {
         gameLoop = new AnimationTimer() {
             public void handle(long now) {
                 // Check keyboard actions
-                processInput(now);
+                processInput();
 
                 // Do actions
-                update(now);
+                update();
 
                 // Graphic update
                 render();
@@ -117,59 +157,14 @@ public final class GameEngine {
     }
 
     /**
-     * Processes the keyboard input of the player.
-     * @param now actual time
+     * Processes the keyboard input that isn't an action of the player.
      */
-    private void processInput(long now) {
+    private void processInput() {
         if (input.isExit()) {
             gameLoop.stop();
             Platform.exit();
             System.exit(0);
         }
-        if (input.isMoveDown()) {
-            player.requestMove(Direction.S);
-        }
-        if (input.isMoveLeft()) {
-            player.requestMove(Direction.W);
-        }
-        if (input.isMoveRight()) {
-            player.requestMove(Direction.E);
-        }
-        if (input.isMoveUp()) {
-            player.requestMove(Direction.N);
-        }
-        if (input.isBomb()) {
-            World world = game.getWorld();
-            if (world.get(player.getPosition()) == null && !world.isThereAMonsterAt(player.getPosition())) {
-                if (player.getNumberOfBombs() < player.getBombCapacity()) {
-
-                    BombObject bomb = new BombObject(game, player.getPosition(), player.getBombRange(), now);
-                    game.getWorld().getBombs().add(bomb);
-                    spriteBombs.add(new SpriteBomb(layer, bomb));
-                    game.getWorld().set(player.getPosition(), new Bomb());
-                    //game.createExplosions(explosions,layer,player);
-                    player.removeBomb();
-                }
-            }
-        }
-        if (input.isKey()) {
-            Position playerPos = player.getPosition();
-            World world = game.getWorld();
-            for (Direction d : Direction.values()) {
-                if (world.get(d.nextPosition(playerPos)) instanceof Door
-                        && d == player.getDirection()
-                        && (((Door) world.get(d.nextPosition(playerPos))).isClosed())) {
-                    if (player.getNumberOfKeys() > 0) {
-                        player.removeKey();
-                        game.setToChange(true);
-                        world.set(d.nextPosition(playerPos), new Door(false, false));
-                        game.getWorldManager().changeWorld(true,game);
-                        break;
-                    }
-                }
-            }
-        }
-        input.clear();
     }
 
     private void showMessage(String msg, Color color) {
@@ -186,132 +181,71 @@ public final class GameEngine {
         stage.show();
         new AnimationTimer() {
             public void handle(long now) {
-                processInput(now);
+                processInput();
             }
         }.start();
     }
 
     /**
      * Updates the game environment, including monsters,player position and status,game map and status,etc.
-     *
-     * @param now actual time.
+     * The actions of the player are taken from the keyboard, and the game runs the simulation steps
+     * of the time elapsed since the previous frame.
      */
-    private void update(long now) {
-        player.update(now);
-        game.getWorldManager().updateMonstersOnWorlds(now);
-        game.getWorldManager().verifyMonsterCollisionsWithPlayer(now);
-        if (!player.isAlive()) {
+    private void update() {
+        simulation.advance(clock, input.getInputs());
+        input.clear();
+        if (simulation.getStatus() == GameSimulation.Status.LOST) {
             gameLoop.stop();
             showMessage("Perdu!", Color.RED);
-        }
-        Iterator<Monster> monsterIterator = game.getWorld().getMonsters().iterator();
-        while (monsterIterator.hasNext()) {
-            Monster m = monsterIterator.next();
-            if (!m.isAlive()) {
-                Iterator<Sprite> spriteMonstersIterator = spriteMonsters.iterator();
-                while (spriteMonstersIterator.hasNext()) {
-                    SpriteMonster spriteMonster = (SpriteMonster) spriteMonstersIterator.next();
-                    if (spriteMonster.isToRemove()) {
-                        spriteMonster.remove();
-                        spriteMonstersIterator.remove();
-                    }
-                }
-                //spriteMonsters.removeIf(Sprite::isToRemove);
-                monsterIterator.remove();
-            }
-        }
-        if (player.isWinner()) {
+        } else if (simulation.getStatus() == GameSimulation.Status.WON) {
             gameLoop.stop();
             showMessage("Gagné", Color.BLUE);
         }
-        if (game.isToChange()) {
-            game.setToChange(false);
-            spriteMonsters.removeIf(Objects::nonNull);
-            initialize(stage, game);
-        }
+    }
 
-        // For every bomb in every world, check if any is at bombphase 5 (ready to explode)
-        // if any, make them explode.
-        for (World gameWorld : game.getWorldManager().getWorlds()) {
-            for (BombObject bomb : gameWorld.getBombs()) {
-                bomb.update(now);
-                if (bomb.getBombPhase() == 5) {
-                    ArrayList<Position> zone = bomb.getBombZone();
-                    bomb.explode(now, zone);
-                    for (Position position : zone) {
-                        // For each position the bomb exploded, add an explosion sprite
-                        spriteExplosions.add(new SpriteExplosion(layer, position, bomb.getWorld()));
-                    }
-                }
-            }
-        }
+    @Override
+    public void bombDropped(BombObject bomb) {
+        sprites.add(new SpriteBomb(layer, bomb));
+    }
 
-        // For every world, clear bombs that are phase 5
-        for (World gameWorld : game.getWorldManager().getWorlds()) {
-            Iterator<BombObject> bombObjectIterator = gameWorld.getBombs().iterator();
-            while (bombObjectIterator.hasNext()) {
-                BombObject bomb = bombObjectIterator.next();
-                if (bomb.getBombPhase() == 5) {
-                    gameWorld.clear(bomb.getPosition());
-                    bombObjectIterator.remove();
-                }
-            }
-        }
+    @Override
+    public void exploded(ExplosionObject explosion) {
+        sprites.add(new SpriteExplosion(layer, explosion, clock, freeExplosionCells));
+    }
+
+    @Override
+    public void worldChanged() {
+        initialize(stage, game);
     }
 
     /**
      * Renders the graphical interface of the game, including the world,monsters,decorations,player,bombs,etc.
      */
     private void render() {
-        if (game.getWorld().isChanged()) {
-
-            game.getWorld().setChanged(false);
-            sprites.forEach(Sprite::remove);
-            sprites.removeIf(self -> self.getImageView() == null);
-            game.getWorld().forEach((pos, d) -> {
-                if (!(d instanceof Bomb)) { // Doesn't reload bomb textures (not needed)
-                    sprites.add(SpriteFactory.createDecor(layer, pos, d));
+        World world = game.getWorld();
+        if (world.hasDirtyCells()) {
+            // Only rebuild the sprites of the cells that changed
+            world.forEachDirtyCell(pos -> {
+                int index = pos.y * world.dimension.width + pos.x;
+                if (decorSprites[index] != null) {
+                    decorSprites[index].remove();
                 }
+                Decor decor = world.get(pos);
+                decorSprites[index] = decor == null ? null : SpriteFactory.createDecor(layer, pos, decor);
             });
+            world.clearDirtyCells();
+        }
+        for (Sprite sprite : decorSprites) {
+            if (sprite != null) {
+                sprite.render();
+            }
         }
-        sprites.forEach(Sprite::render);
         // last rendering to have player in the foreground
         spritePlayer.render();
         ((SpritePlayer) spritePlayer).updatePlayerTransparency();
 
-        for (Sprite monster : spriteMonsters) {
-            monster.render();
-        }
-        spriteMonsters.forEach(self -> {
-            if (self.isToRemove()) {
-                self.remove();
-            }
-        });
-        spriteMonsters.removeIf(Sprite::isToRemove);
-
-
-        // BOMB
-        for (Sprite bomb : spriteBombs) {
-            bomb.render();
-            if (bomb.isToRemove()) {
-                player.addBomb();
-                bomb.remove();
-            }
-        }
-
-        spriteBombs.removeIf(Sprite::isToRemove);
-
-        spriteExplosions.forEach(self -> {
-            if (self.isToRemove()) {
-                self.remove();
-            }
-            if (self.getWorld().equals(game.getWorld())) {
-                self.render();
-                self.adjustOpacity();
-            }
-
-        });
-        spriteExplosions.removeIf(Sprite::isToRemove);
+        // Monsters, bombs and explosions, their sprites leaving with them through the entity listener
+        sprites.render();
     }
 
     /**
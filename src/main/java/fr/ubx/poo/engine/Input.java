@@ -4,6 +4,7 @@
 
 package fr.ubx.poo.engine;
 
+import fr.ubx.poo.simulation.Inputs;
 import javafx.event.EventHandler;
 import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
@@ -132,4 +133,13 @@ public final class Input {
     public boolean isExit() {
         return is(ESCAPE);
     }
+
+    /**
+     * Gets the actions of the player for the simulation.
+     *
+     * @return the inputs
+     */
+    public Inputs getInputs() {
+        return Inputs.of(isMoveUp(), isMoveDown(), isMoveLeft(), isMoveRight(), isBomb(), isKey());
+    }
 }
@@ -98,10 +98,28 @@ public abstract class Sprite {
      */
     public abstract Position getPosition();
 
+    /**
+     * Gets the layer the sprite is drawn on.
+     *
+     * @return the layer
+     */
+    protected Pane getLayer() {
+        return layer;
+    }
+
+    /**
+     * Gets the image.
+     *
+     * @return the image
+     */
+    protected Image getImage() {
+        return image;
+    }
+
     /**
      * Renders the sprite.
      */
-    public final void render() {
+    public void render() {
         if (imageView != null) {
             remove();
         }
@@ -115,7 +133,7 @@ public abstract class Sprite {
     /**
      * Removes sprite image and sets it up for delete.
      */
-    public final void remove() {
+    public void remove() {
         layer.getChildren().remove(imageView);
         imageView = null;
     }
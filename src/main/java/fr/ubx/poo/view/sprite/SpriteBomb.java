@@ -20,6 +20,15 @@ public class SpriteBomb extends SpriteGameObject {
         updateImage();
     }
 
+    /**
+     * Gets the bomb of the sprite.
+     *
+     * @return the bomb
+     */
+    public BombObject getBomb() {
+        return (BombObject) super.go;
+    }
+
 
     @Override
     public void updateImage() {
@@ -1,62 +1,81 @@
-package fr.ubx.poo.view.sprite;
-
-import fr.ubx.poo.game.Position;
-import fr.ubx.poo.game.World;
-import fr.ubx.poo.view.image.ImageFactory;
-import fr.ubx.poo.view.image.ImageResource;
-import javafx.scene.image.ImageView;
-import javafx.scene.layout.Pane;
-
-/**
- * The type Sprite explosion.
- */
-public class SpriteExplosion extends Sprite {
-    private final Position position;
-    private final World world;
-    private double opacity = 1.0;
-
-    /**
-     * Gets world.
-     *
-     * @return the world
-     */
-    public World getWorld() {
-        return world;
-    }
-
-    /**
-     * Instantiates a new explosion sprite.
-     *
-     * @param layer    the layer
-     * @param position the position
-     * @param world    the world
-     */
-    public SpriteExplosion(Pane layer, Position position, World world) {
-        super(layer, ImageFactory.getInstance().get(ImageResource.EXPLOSION));
-        this.position = position;
-        this.world = world;
-        updateImage();
-    }
-
-    @Override
-    public void updateImage() {
-        if (opacity <= 0) {
-            setToRemove(true);
-        }
-    }
-
-    /**
-     * Adjusts the sprite's opacity.
-     */
-    public void adjustOpacity() {
-        ImageView imageView = getImageView();
-        opacity = opacity - 1.0 / 60;
-        imageView.setOpacity(opacity);
-    }
-
-    @Override
-    public Position getPosition() {
-        return position;
-    }
-
-}
\ No newline at end of file
+package fr.ubx.poo.view.sprite;
+
+import fr.ubx.poo.game.Position;
+import fr.ubx.poo.model.go.ExplosionObject;
+import fr.ubx.poo.simulation.GameClock;
+import fr.ubx.poo.view.image.ImageFactory;
+import fr.ubx.poo.view.image.ImageResource;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+
+/**
+ * The type Sprite explosion.
+ * A single sprite draws every position blasted by an explosion, so that it is registered
+ * under the id of the explosion like the sprites of the other game objects, see {@link SpriteRegistry}.
+ * The views of the blasted cells are taken from a pool shared by the explosion sprites when the explosion
+ * is first displayed, and given back when the sprite is removed. In between, only their opacity changes:
+ * they fade out with the lifetime the explosion has left, in simulation time.
+ */
+public class SpriteExplosion extends SpriteGameObject {
+    private final GameClock clock;
+    private final ArrayDeque<ImageView> freeCells;
+    private final ArrayList<ImageView> cells = new ArrayList<>();
+
+    /**
+     * Instantiates a new explosion sprite.
+     *
+     * @param layer     the layer
+     * @param explosion the explosion
+     * @param clock     the clock of the simulation
+     * @param freeCells the views of blasted cells ready to be reused
+     */
+    public SpriteExplosion(Pane layer, ExplosionObject explosion, GameClock clock, ArrayDeque<ImageView> freeCells) {
+        super(layer, ImageFactory.getInstance().get(ImageResource.EXPLOSION), explosion);
+        this.clock = clock;
+        this.freeCells = freeCells;
+    }
+
+    @Override
+    public void updateImage() {
+        // The image is the same for the whole lifetime
+    }
+
+    /**
+     * Renders the blasted positions if the explosion is in the world displayed, fading them out.
+     */
+    @Override
+    public void render() {
+        ExplosionObject explosion = (ExplosionObject) go;
+        if (explosion.getWorld() != go.getGame().getWorld()) {
+            return;
+        }
+        if (cells.isEmpty()) {
+            for (Position position : explosion.getBombZone()) {
+                ImageView cell = freeCells.poll();
+                if (cell == null) {
+                    cell = new ImageView(getImage());
+                }
+                cell.setX(position.x * size);
+                cell.setY(position.y * size);
+                cells.add(cell);
+            }
+            getLayer().getChildren().addAll(cells);
+        }
+        double opacity = explosion.getRemainingLife(clock.getTime());
+        for (ImageView cell : cells) {
+            cell.setOpacity(opacity);
+        }
+    }
+
+    @Override
+    public void remove() {
+        if (!cells.isEmpty()) {
+            getLayer().getChildren().removeAll(cells);
+            freeCells.addAll(cells);
+            cells.clear();
+        }
+    }
+}
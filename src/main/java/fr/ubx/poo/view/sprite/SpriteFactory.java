@@ -5,12 +5,7 @@
 package fr.ubx.poo.view.sprite;
 
 import fr.ubx.poo.game.Position;
-import fr.ubx.poo.model.decor.*;
-import fr.ubx.poo.model.decor.Bonus.BombBonus.BombNumber;
-import fr.ubx.poo.model.decor.Bonus.BombBonus.BombRange;
-import fr.ubx.poo.model.decor.Bonus.Heart;
-import fr.ubx.poo.model.decor.Bonus.Key;
-import fr.ubx.poo.model.decor.Bonus.Princess;
+import fr.ubx.poo.model.decor.Decor;
 import fr.ubx.poo.model.go.character.Monster;
 import fr.ubx.poo.model.go.character.Player;
 import fr.ubx.poo.view.image.ImageFactory;
@@ -34,34 +29,37 @@ public final class SpriteFactory {
      */
     public static Sprite createDecor(Pane layer, Position position, Decor decor) {
         ImageFactory factory = ImageFactory.getInstance();
-        if (decor instanceof Stone)
-            return new SpriteDecor(layer, factory.get(STONE), position);
-        if (decor instanceof Tree)
-            return new SpriteDecor(layer, factory.get(TREE), position);
-        if (decor instanceof Box)
-            return new SpriteDecor(layer, factory.get(BOX), position);
-        // BONUS
-        if (decor instanceof Heart)
-            return new SpriteDecor(layer, factory.get(HEART), position);
-        if (decor instanceof BombNumber) {
-            BombNumber bombNumber = (BombNumber) decor;
-            return new SpriteDecor(layer, factory.get(((bombNumber.isIncrease()) ? BONUS_BOMB_NB_INC : BONUS_BOMB_NB_DEC)), position);
+        switch (decor.getType()) {
+            case STONE:
+                return new SpriteDecor(layer, factory.get(STONE), position);
+            case TREE:
+                return new SpriteDecor(layer, factory.get(TREE), position);
+            case BOX:
+                return new SpriteDecor(layer, factory.get(BOX), position);
+            // BONUS
+            case HEART:
+                return new SpriteDecor(layer, factory.get(HEART), position);
+            case BOMB_NUMBER_INC:
+                return new SpriteDecor(layer, factory.get(BONUS_BOMB_NB_INC), position);
+            case BOMB_NUMBER_DEC:
+                return new SpriteDecor(layer, factory.get(BONUS_BOMB_NB_DEC), position);
+            case BOMB_RANGE_INC:
+                return new SpriteDecor(layer, factory.get(BONUS_BOMB_RANGE_INC), position);
+            case BOMB_RANGE_DEC:
+                return new SpriteDecor(layer, factory.get(BONUS_BOMB_RANGE_DEC), position);
+            case PRINCESS:
+                return new SpriteDecor(layer, factory.get(PRINCESS), position);
+            case KEY:
+                return new SpriteDecor(layer, factory.get(KEY), position);
+            case DOOR_NEXT_CLOSED:
+            case DOOR_PREV_CLOSED:
+                return new SpriteDecor(layer, factory.getDoor(true), position);
+            case DOOR_NEXT_OPENED:
+            case DOOR_PREV_OPENED:
+                return new SpriteDecor(layer, factory.getDoor(false), position);
+            default:
+                throw new RuntimeException("Unsupported sprite for decor " + decor);
         }
-        if (decor instanceof BombRange) {
-            BombRange bombRange = (BombRange) decor;
-            return new SpriteDecor(layer, factory.get(((bombRange.isIncrease()) ? BONUS_BOMB_RANGE_INC : BONUS_BOMB_RANGE_DEC)), position);
-        }
-        if (decor instanceof Princess)
-            return new SpriteDecor(layer, factory.get(PRINCESS), position);
-        if (decor instanceof Key) {
-            return new SpriteDecor(layer, factory.get(KEY), position);
-        }
-        if (decor instanceof Bomb) {
-            return new SpriteDecor(layer, factory.get(DIGIT_0), position);
-        }
-        if (decor instanceof Door)
-            return new SpriteDecor(layer, factory.getDoor(((Door) decor).isClosed()), position);
-        throw new RuntimeException("Unsupported sprite for decor " + decor);
     }
 
     /**
@@ -82,7 +80,7 @@ public final class SpriteFactory {
      * @param monster the monster
      * @return the sprite
      */
-    public static Sprite createMonster(Pane layer, Monster monster) {
+    public static SpriteMonster createMonster(Pane layer, Monster monster) {
         return new SpriteMonster(layer, monster);
     }
 }
@@ -31,6 +31,15 @@ public abstract class SpriteGameObject extends Sprite {
         this.go = go;
     }
 
+    /**
+     * Gets the id of the game object.
+     *
+     * @return the id
+     */
+    public long getId() {
+        return go.getId();
+    }
+
     @Override
     public Position getPosition() {
         return go.getPosition();
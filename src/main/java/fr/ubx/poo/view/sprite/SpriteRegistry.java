@@ -0,0 +1,86 @@
+package fr.ubx.poo.view.sprite;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * The type Sprite registry.
+ * Links the game objects to their sprites by id, see {@link fr.ubx.poo.model.go.EntityIds},
+ * so that a sprite is found, added or removed without walking the others.
+ * Sprites are rendered in the order they were added.
+ */
+public class SpriteRegistry {
+    private final Map<Long, SpriteGameObject> sprites = new LinkedHashMap<>();
+
+    /**
+     * Adds a sprite, replacing the sprite of the same game object if any.
+     *
+     * @param sprite the sprite
+     */
+    public void add(SpriteGameObject sprite) {
+        SpriteGameObject previous = sprites.put(sprite.getId(), sprite);
+        if (previous != null && previous != sprite) {
+            previous.remove();
+        }
+    }
+
+    /**
+     * Gets the sprite of a game object.
+     *
+     * @param id the id of the game object
+     * @return the sprite, null if there is none
+     */
+    public SpriteGameObject get(long id) {
+        return sprites.get(id);
+    }
+
+    /**
+     * Removes the sprite of a game object from the registry and from its layer.
+     *
+     * @param id the id of the game object
+     * @return the removed sprite, null if there was none
+     */
+    public SpriteGameObject remove(long id) {
+        SpriteGameObject sprite = sprites.remove(id);
+        if (sprite != null) {
+            sprite.remove();
+        }
+        return sprite;
+    }
+
+    /**
+     * Removes the sprites matching the given predicate from the registry and from their layer.
+     *
+     * @param filter the predicate
+     */
+    public void removeIf(Predicate<SpriteGameObject> filter) {
+        Iterator<SpriteGameObject> iterator = sprites.values().iterator();
+        while (iterator.hasNext()) {
+            SpriteGameObject sprite = iterator.next();
+            if (filter.test(sprite)) {
+                sprite.remove();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Renders all the sprites.
+     */
+    public void render() {
+        for (SpriteGameObject sprite : sprites.values()) {
+            sprite.render();
+        }
+    }
+
+    /**
+     * Gets the number of sprites.
+     *
+     * @return the number of sprites
+     */
+    public int size() {
+        return sprites.size();
+    }
+}